@@ -0,0 +1,121 @@
+package main.java.bench;
+
+import main.java.dao.*;
+import main.java.model.Exam;
+import main.java.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 배정 시험 목록 조회 벤치마크
+ * - 기존 방식(배정 exam_id 조회 후 시험마다 findById, 기간 필터는 Java)과
+ *   ExamDao.findAssignedByUser / findAssignedOpenByUser(JOIN 한 번)를 배정 건수별로 비교한다.
+ * - 벤치마크 사용자(bench.userId, 기본값: users의 첫 번째 사용자)에게 임시 시험을 배정했다가 지운다.
+ *
+ * 실행 예: java -Dbench.iterations=30 main.java.bench.AssignedExamBenchmark 10 100 1000
+ */
+public class AssignedExamBenchmark {
+    private static final ExamDao examDao = new ExamDaoImpl();
+    private static final ExamAssignmentDao assignmentDao = new ExamAssignmentDaoImpl();
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = BenchSupport.sizes(args, 10, 100, 1000);
+        int warmup = BenchSupport.intParam("warmup", 3);
+        int iterations = BenchSupport.intParam("iterations", 20);
+        int userId = BenchSupport.intParam("userId", firstUserId());
+
+        System.out.printf("%-8s %-14s %12s  %s%n", "배정수", "방식", "왕복/조회", "지연 시간");
+        for (int size : sizes) {
+            List<Integer> examIds = seedAssignedExams(userId, size);
+            try {
+                report(size, "loop(all)", () -> loadAssignedLegacy(userId), warmup, iterations);
+                report(size, "JOIN(all)", () -> examDao.findAssignedByUser(userId), warmup, iterations);
+                report(size, "loop(open)", () -> loadAssignedOpenLegacy(userId), warmup, iterations);
+                report(size, "JOIN(open)", () -> examDao.findAssignedOpenByUser(userId), warmup, iterations);
+            } finally {
+                for (int examId : examIds) BenchFixtures.dropExam(examId);
+            }
+        }
+        System.out.println(DBConnection.getPoolStats());
+    }
+
+    private static void report(int size, String name, BenchSupport.Task task,
+                               int warmup, int iterations) throws Exception {
+        long before = DBConnection.getPoolStats().getBorrowCount();
+        task.run();
+        long roundTrips = DBConnection.getPoolStats().getBorrowCount() - before;
+        BenchSupport.Result r = BenchSupport.measure(warmup, iterations, task);
+        System.out.printf("%-8d %-14s %12d  %s%n", size, name, roundTrips, r);
+    }
+
+    /** 변경 전 getAssignedExams와 동일한 조회 */
+    private static List<Exam> loadAssignedLegacy(int userId) throws DaoException {
+        List<Exam> exams = new ArrayList<>();
+        for (Integer id : assignmentDao.findExamIdsByUser(userId)) {
+            Exam exam = examDao.findById(id);
+            if (exam != null) exams.add(exam);
+        }
+        exams.sort(Comparator.comparing(Exam::getStartDate).reversed());
+        return exams;
+    }
+
+    /** 변경 전 getAssignedOpenExams와 동일한 조회 */
+    private static List<Exam> loadAssignedOpenLegacy(int userId) throws DaoException {
+        List<Exam> exams = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Integer id : assignmentDao.findExamIdsByUser(userId)) {
+            Exam exam = examDao.findById(id);
+            if (exam != null && !exam.getStartDate().isAfter(now) && !exam.getEndDate().isBefore(now)) {
+                exams.add(exam);
+            }
+        }
+        return exams;
+    }
+
+    /** 절반은 지난 시험, 절반은 현재 열린 시험으로 count개를 만들고 userId에게 배정한다. */
+    private static List<Integer> seedAssignedExams(int userId, int count) throws Exception {
+        List<Integer> examIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (int i = 0; i < count; i++) {
+                Exam exam = new Exam();
+                exam.setSubject(BenchFixtures.SUBJECT_PREFIX + "배정 " + i);
+                boolean open = i % 2 == 0;
+                exam.setStartDate(open ? now.minusHours(1) : now.minusDays(30 + i));
+                exam.setEndDate(open ? now.plusHours(1) : now.minusDays(29 + i));
+                exam.setDurationMinutes(60);
+                examDao.insert(exam);
+                examIds.add(exam.getExamId());
+            }
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(
+                         "INSERT INTO exam_assignments (user_id, exam_id) VALUES (?, ?)")) {
+                for (int examId : examIds) {
+                    ps.setInt(1, userId);
+                    ps.setInt(2, examId);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        } catch (Exception e) {
+            for (int examId : examIds) BenchFixtures.dropExam(examId);
+            throw e;
+        }
+        return examIds;
+    }
+
+    private static int firstUserId() throws Exception {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT MIN(user_id) FROM users");
+             ResultSet rs = ps.executeQuery()) {
+            if (rs.next()) return rs.getInt(1);
+        }
+        throw new IllegalStateException("users 테이블이 비어 있습니다.");
+    }
+}
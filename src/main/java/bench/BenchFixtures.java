@@ -0,0 +1,175 @@
+package main.java.bench;
+
+import main.java.model.*;
+import main.java.service.ExamServiceImpl;
+import main.java.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 테스트 데이터 생성/정리
+ * - 생성한 시험은 subject가 "[BENCH]"로 시작하며, dropExam()으로 관련 행을 모두 지운다.
+ * - 생성한 사용자는 학번이 "BENCH"로 시작하고 비밀번호는 BENCH_PASSWORD이며, dropUsers()로 지운다.
+ */
+public final class BenchFixtures {
+    public static final String SUBJECT_PREFIX = "[BENCH] ";
+    public static final String STUDENT_PREFIX = "BENCH";
+    public static final String BENCH_PASSWORD = "bench-pw";
+    private static final int BATCH_SIZE = 500;
+
+    private BenchFixtures() {
+    }
+
+    /** questionCount개의 5지선다 문제를 가진 시험을 생성하고 examId를 반환한다. */
+    public static int seedExam(int questionCount) throws Exception {
+        Exam exam = new Exam();
+        exam.setSubject(SUBJECT_PREFIX + questionCount + "문항");
+        exam.setStartDate(LocalDateTime.now().minusHours(1));
+        exam.setEndDate(LocalDateTime.now().plusHours(1));
+        exam.setDurationMinutes(60);
+        exam.setQuestionCnt(questionCount);
+
+        List<QuestionFull> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            QuestionBank qb = new QuestionBank(0, 0, QuestionType.MCQ.name(), "벤치마크 문제 " + (i + 1));
+            List<QuestionOption> opts = new ArrayList<>();
+            for (char label = '1'; label <= '5'; label++) {
+                opts.add(new QuestionOption(0, 0, label, "선택지 " + label));
+            }
+            char correct = (char) ('1' + i % 5);
+            questions.add(new QuestionFull(qb, opts, new AnswerKey(0, correct, null)));
+        }
+        new ExamServiceImpl().createFullExam(exam, questions, new ArrayList<>());
+        return exam.getExamId();
+    }
+
+    /** seedExam()으로 만든 시험과 그 문제·선택지·정답키·답안·결과를 삭제한다. */
+    public static void dropExam(int examId) throws SQLException {
+        String[] sqls = {
+                "DELETE FROM answersheets WHERE exam_id = ?",
+                "DELETE FROM examresults WHERE exam_id = ?",
+                "DELETE FROM exam_assignments WHERE exam_id = ?",
+                "DELETE FROM examsdepartment WHERE exam_id = ?",
+                "DELETE FROM answer_key WHERE question_id IN (SELECT question_id FROM question_bank WHERE exam_id = ?)",
+                "DELETE FROM question_option WHERE question_id IN (SELECT question_id FROM question_bank WHERE exam_id = ?)",
+                "DELETE FROM question_bank WHERE exam_id = ?",
+                "DELETE FROM exams WHERE exam_id = ?"
+        };
+        try (Connection conn = DBConnection.getConnection()) {
+            for (String sql : sqls) {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, examId);
+                    ps.executeUpdate();
+                }
+            }
+        }
+    }
+
+    /** 벤치마크 학생 count명을 생성하고 user_id 목록을 반환한다. (학과는 기존 첫 번째 사용자와 같게) */
+    public static List<Integer> seedUsers(int count) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            int dpmtId;
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "SELECT dpmt_id FROM users ORDER BY user_id LIMIT 1");
+                 ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) throw new IllegalStateException("users 테이블이 비어 있습니다.");
+                dpmtId = rs.getInt(1);
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO users(level, name, student_number, password, dpmt_id, grade, is_active) VALUES(1,?,?,?,?,?,TRUE)")) {
+                for (int i = 0; i < count; i++) {
+                    ps.setString(1, SUBJECT_PREFIX + "학생 " + i);
+                    ps.setString(2, studentNumber(i));
+                    ps.setString(3, BENCH_PASSWORD);
+                    ps.setInt(4, dpmtId);
+                    ps.setInt(5, 1 + i % 4);
+                    ps.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) ps.executeBatch();
+                }
+                ps.executeBatch();
+            }
+            List<Integer> ids = new ArrayList<>(count);
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "SELECT user_id FROM users WHERE student_number LIKE ? ORDER BY user_id")) {
+                ps.setString(1, STUDENT_PREFIX + "%");
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) ids.add(rs.getInt(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    /** seedUsers()의 i번째 학생 학번 */
+    public static String studentNumber(int i) {
+        return STUDENT_PREFIX + String.format("%06d", i);
+    }
+
+    /** 문항 없는 지난 시험 count개를 생성하고 exam_id 목록을 반환한다. (결과 조회용) */
+    public static List<Integer> seedPastExams(int count) throws SQLException {
+        List<Integer> ids = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO exams (subject, start_date, end_date, duration_minutes, question_cnt) VALUES (?, ?, ?, 60, 0)",
+                     PreparedStatement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < count; i++) {
+                ps.setString(1, SUBJECT_PREFIX + "지난 시험 " + i);
+                ps.setTimestamp(2, Timestamp.valueOf(base.plusHours(i)));
+                ps.setTimestamp(3, Timestamp.valueOf(base.plusHours(i + 1)));
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    if (keys.next()) ids.add(keys.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /** 학생마다 examIds 중 perUser개 시험의 결과를 만든다. */
+    public static void seedResults(List<Integer> userIds, List<Integer> examIds, int perUser) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO examresults(exam_id, user_id, score, completed_at) VALUES(?,?,?,?)")) {
+            Timestamp completedAt = Timestamp.valueOf(LocalDateTime.now().minusMonths(6));
+            int n = 0;
+            for (int u = 0; u < userIds.size(); u++) {
+                for (int k = 0; k < Math.min(perUser, examIds.size()); k++) {
+                    ps.setInt(1, examIds.get((u + k) % examIds.size()));
+                    ps.setInt(2, userIds.get(u));
+                    ps.setInt(3, (u * 31 + k * 7) % 101);
+                    ps.setTimestamp(4, completedAt);
+                    ps.addBatch();
+                    if (++n % BATCH_SIZE == 0) ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /** seedUsers()로 만든 학생과 그 답안·결과·배정을 삭제한다. */
+    public static void dropUsers() throws SQLException {
+        String benchUsers = "SELECT user_id FROM users WHERE student_number LIKE ?";
+        String[] sqls = {
+                "DELETE FROM answersheets WHERE user_id IN (" + benchUsers + ")",
+                "DELETE FROM examresults WHERE user_id IN (" + benchUsers + ")",
+                "DELETE FROM exam_assignments WHERE user_id IN (" + benchUsers + ")",
+                "DELETE FROM users WHERE student_number LIKE ?"
+        };
+        try (Connection conn = DBConnection.getConnection()) {
+            for (String sql : sqls) {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, STUDENT_PREFIX + "%");
+                    ps.executeUpdate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package main.java.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 유틸
+ * - 워밍업 후 반복 측정하여 평균/백분위 지연 시간, 처리량, 호출당 할당량을 계산한다.
+ * - JMH를 쓸 수 없는 환경용 간이 하네스다. JMH가 해 주던 일 중 다음은 직접 한다.
+ *   워밍업: 지정 횟수와 최소 시간(bench.warmupMs, 기본 2000ms)을 모두 채울 때까지 돌린다.
+ *   결과 소비: 작업의 반환값은 consume()으로 넘겨 JIT가 호출을 없애지 못하게 한다.
+ *   격리: 측정 직전 settle()로 앞 항목의 쓰레기를 치우고, fork()로 항목마다 새 JVM에서 돌릴 수 있다.
+ * - 할당량은 HotSpot의 스레드별 할당 카운터로 측정하며, 측정 스레드에서 일어난 할당만 포함한다.
+ * - 실제 MariaDB(cbt.db.* 시스템 프로퍼티로 지정)에 대해 실행하는 것을 전제로 한다.
+ */
+public final class BenchSupport {
+
+    /** 측정 대상 작업 */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /** 측정 결과 (나노초 단위, 오름차순 정렬) */
+    public static final class Result {
+        private final long[] sortedNanos;
+        private final long allocatedBytes;
+
+        Result(long[] sortedNanos) {
+            this(sortedNanos, -1);
+        }
+
+        /** @param allocatedBytes 측정 구간 전체 할당 바이트 (알 수 없으면 -1) */
+        Result(long[] sortedNanos, long allocatedBytes) {
+            this.sortedNanos = sortedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public int count() {
+            return sortedNanos.length;
+        }
+
+        /** 순차 실행 기준 초당 처리 횟수 */
+        public double opsPerSecond() {
+            long total = Arrays.stream(sortedNanos).sum();
+            return total == 0 ? 0 : sortedNanos.length * 1_000_000_000.0 / total;
+        }
+
+        /** 호출당 할당 바이트 (측정 불가 시 -1) */
+        public double bytesPerOp() {
+            if (allocatedBytes < 0 || sortedNanos.length == 0) return -1;
+            return (double) allocatedBytes / sortedNanos.length;
+        }
+
+        /** 초당 할당 MB (측정 불가 시 -1) */
+        public double allocMbPerSecond() {
+            double perOp = bytesPerOp();
+            return perOp < 0 ? -1 : perOp * opsPerSecond() / (1024 * 1024);
+        }
+
+        public double meanMillis() {
+            return Arrays.stream(sortedNanos).average().orElse(0) / 1_000_000.0;
+        }
+
+        /** p는 0~100 사이 백분위 */
+        public double percentileMillis(double p) {
+            if (sortedNanos.length == 0) return 0;
+            int idx = (int) Math.ceil(p / 100.0 * sortedNanos.length) - 1;
+            idx = Math.max(0, Math.min(sortedNanos.length - 1, idx));
+            return sortedNanos[idx] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            String s = String.format("n=%d mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+                    count(), meanMillis(), percentileMillis(50), percentileMillis(95),
+                    percentileMillis(99), percentileMillis(100));
+            if (allocatedBytes >= 0) {
+                s += String.format(" %.1f ops/s alloc=%.0fB/op (%.1fMB/s)",
+                        opsPerSecond(), bytesPerOp(), allocMbPerSecond());
+            }
+            return s;
+        }
+    }
+
+    /** consume()이 값을 흘려보내는 곳 (volatile 쓰기라 JIT가 생략할 수 없다) */
+    private static volatile Object sink;
+
+    private BenchSupport() {
+    }
+
+    /** 측정 작업의 결과를 소비한다. 반환값을 버리면 JIT가 계산 자체를 없앨 수 있다. */
+    public static void consume(Object value) {
+        sink = value;
+    }
+
+    /**
+     * 최소 warmup회, 그리고 최소 bench.warmupMs 동안 워밍업한 뒤
+     * iterations회 실행 시간과 할당량을 측정한다.
+     */
+    public static Result measure(int warmup, int iterations, Task task) throws Exception {
+        long warmupUntil = System.nanoTime() + intParam("warmupMs", 2000) * 1_000_000L;
+        for (int i = 0; i < warmup || System.nanoTime() < warmupUntil; i++) task.run();
+        settle();
+        long[] nanos = new long[iterations];
+        long alloc0 = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - t0;
+        }
+        long alloc1 = allocatedBytes();
+        Arrays.sort(nanos);
+        return new Result(nanos, alloc0 < 0 || alloc1 < 0 ? -1 : alloc1 - alloc0);
+    }
+
+    /** GC를 돌리고 잠시 쉬어, 앞 작업이 남긴 쓰레기 수거가 측정 구간에 끼어들지 않게 한다. */
+    public static void settle() throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+    }
+
+    /**
+     * mainClass를 새 JVM에서 실행하고 끝날 때까지 기다린다. (JIT 프로파일·힙을 항목끼리 공유하지 않도록)
+     * 현재 JVM의 클래스패스와 JVM 옵션(-D, -X 등)을 그대로 넘기며, 출력은 그대로 이어 붙인다.
+     * @return 자식 JVM 종료 코드
+     */
+    public static int fork(Class<?> mainClass, String... args) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        for (String option : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (!option.startsWith("-Dbench.fork=")) command.add(option);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(Arrays.asList(args));
+        return new ProcessBuilder(command).inheritIO().start().waitFor();
+    }
+
+    /** 현재 스레드가 지금까지 할당한 바이트 (지원하지 않는 JVM이면 -1) */
+    static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    /** 명령행 인자로 받은 크기 목록 (없으면 defaults) */
+    public static int[] sizes(String[] args, int... defaults) {
+        if (args.length == 0) return defaults;
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+        return sizes;
+    }
+
+    /** 시스템 프로퍼티로 정수 파라미터를 읽는다. (예: -Dbench.iterations=50) */
+    public static int intParam(String name, int def) {
+        return Integer.getInteger("bench." + name, def);
+    }
+}
@@ -0,0 +1,381 @@
+package main.java.bench;
+
+import main.java.model.*;
+import main.java.rpc.BinaryCodec;
+import main.java.rpc.RpcCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RPC 본문 코덱 벤치마크 (DB 불필요)
+ * - 시험 문항 목록(QuestionFull), 답안 맵, 시험 목록을 자바 직렬화·JSON·BinaryCodec(압축 없음/Deflate)으로
+ *   인코딩해 크기와 인코딩·디코딩 지연을 비교한다.
+ * - JSON은 lib에 라이브러리가 없어 필드 이름을 그대로 쓰는 단순 구현(아래 Json)으로 잰다.
+ *   (JSON 라이브러리 출력과 크기는 같고, 속도는 대략적인 기준으로만 본다)
+ *
+ * 실행 예: java -Dbench.iterations=2000 main.java.bench.CodecBenchmark 50 200 1000
+ */
+public class CodecBenchmark {
+    private static final String[] COMMON_OPTIONS = {
+            "모두 옳다", "모두 옳지 않다", "해당 없음", "ㄱ, ㄴ", "ㄱ, ㄷ", "ㄴ, ㄷ", "ㄱ, ㄴ, ㄷ"
+    };
+
+    private interface Format {
+        byte[] encode(Object value) throws Exception;
+
+        Object decode(byte[] data) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = BenchSupport.sizes(args, 50, 200, 1000);
+        int warmup = BenchSupport.intParam("warmup", 500);
+        int iterations = BenchSupport.intParam("iterations", 2000);
+
+        RpcCodec java = RpcCodec.named("java");
+        BinaryCodec binary = new BinaryCodec(false, 0);
+        BinaryCodec deflate = new BinaryCodec(true, 0);
+        Map<String, Format> formats = new LinkedHashMap<>();
+        formats.put("java", format(java));
+        formats.put("json", new Format() {
+            public byte[] encode(Object value) {
+                return Json.encode(value).getBytes(StandardCharsets.UTF_8);
+            }
+
+            public Object decode(byte[] data) {
+                return Json.decode(new String(data, StandardCharsets.UTF_8));
+            }
+        });
+        formats.put("binary", new Format() {
+            public byte[] encode(Object value) throws IOException {
+                return binary.encode(value);
+            }
+
+            public Object decode(byte[] data) throws IOException {
+                return binary.decode(ByteBuffer.wrap(data));
+            }
+        });
+        formats.put("binary+deflate", format(deflate));
+
+        System.out.printf("%-22s %-15s %10s %8s %12s %12s%n", "본문", "형식", "바이트", "비율", "인코딩(us)", "디코딩(us)");
+        for (int size : sizes) {
+            report("문항 " + size + "개", questions(size), formats, warmup, iterations);
+            report("답안 " + size + "개", answers(size), formats, warmup, iterations);
+        }
+        report("시험 목록 50개", exams(50), formats, warmup, iterations);
+    }
+
+    private static Format format(RpcCodec codec) {
+        return new Format() {
+            public byte[] encode(Object value) throws IOException {
+                return codec.encode(value);
+            }
+
+            public Object decode(byte[] data) throws IOException {
+                return codec.decode(data);
+            }
+        };
+    }
+
+    private static void report(String name, Object payload, Map<String, Format> formats,
+                               int warmup, int iterations) throws Exception {
+        Integer baseline = null;
+        for (Map.Entry<String, Format> e : formats.entrySet()) {
+            Format f = e.getValue();
+            byte[] bytes = f.encode(payload);
+            Object back = f.decode(bytes);
+            if (asCollection(back).size() != asCollection(payload).size()) {
+                throw new IllegalStateException(e.getKey() + " 왕복 결과가 다릅니다.");
+            }
+            if (baseline == null) baseline = bytes.length;
+            BenchSupport.Result enc = BenchSupport.measure(warmup, iterations, () -> BenchSupport.consume(f.encode(payload)));
+            BenchSupport.Result dec = BenchSupport.measure(warmup, iterations, () -> BenchSupport.consume(f.decode(bytes)));
+            System.out.printf("%-22s %-15s %10d %7.0f%% %12.1f %12.1f%n", name, e.getKey(), bytes.length,
+                    bytes.length * 100.0 / baseline, enc.meanMillis() * 1000, dec.meanMillis() * 1000);
+        }
+    }
+
+    private static Collection<?> asCollection(Object value) {
+        return value instanceof Map ? ((Map<?, ?>) value).values() : (Collection<?>) value;
+    }
+
+    /** 객관식 80%(보기 5개, 일부 공통 문구), OX 20% */
+    static List<QuestionFull> questions(int count) {
+        List<QuestionFull> list = new ArrayList<>(count);
+        int optionId = 10_000;
+        for (int i = 0; i < count; i++) {
+            int qId = 5_000 + i;
+            boolean mcq = i % 5 != 4;
+            QuestionBank qb = new QuestionBank(qId, 42, mcq ? "MCQ" : "OX",
+                    (i + 1) + ". 다음 중 관계형 데이터베이스의 정규화에 대한 설명으로 옳은 것을 고르시오. (보기 " + i + ")");
+            List<QuestionOption> options = new ArrayList<>();
+            AnswerKey key;
+            if (mcq) {
+                for (int j = 0; j < 5; j++) {
+                    String content = j >= 3 ? COMMON_OPTIONS[(i + j) % COMMON_OPTIONS.length]
+                            : "제" + (j + 1) + "정규형은 부분 함수 종속을 제거한다 (" + i + "-" + j + ")";
+                    options.add(new QuestionOption(optionId++, qId, (char) ('1' + j), content));
+                }
+                key = new AnswerKey(qId, (char) ('1' + i % 5), null);
+            } else {
+                key = new AnswerKey(qId, null, i % 2 == 0 ? "O" : "X");
+            }
+            list.add(new QuestionFull(qb, options, key));
+        }
+        return list;
+    }
+
+    static Map<Integer, String> answers(int count) {
+        Map<Integer, String> answers = new HashMap<>();
+        for (int i = 0; i < count; i++) answers.put(5_000 + i, i % 5 == 4 ? (i % 2 == 0 ? "O" : "X") : String.valueOf(1 + i % 5));
+        return answers;
+    }
+
+    static List<Exam> exams(int count) {
+        List<Exam> list = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2026, 6, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            Exam e = new Exam();
+            e.setExamId(100 + i);
+            e.setSubject(i % 3 == 0 ? "데이터베이스" : i % 3 == 1 ? "운영체제" : "자료구조");
+            e.setCreatedAt(base.minusDays(7));
+            e.setStartDate(base.plusDays(i));
+            e.setEndDate(base.plusDays(i).plusHours(2));
+            e.setDurationMinutes(60);
+            e.setQuestionCnt(40);
+            list.add(e);
+        }
+        return list;
+    }
+
+    /** 벤치마크용 최소 JSON 인코더/디코더 (이 클래스가 만드는 본문 형태만 다룬다) */
+    static final class Json {
+        private Json() {
+        }
+
+        static String encode(Object value) {
+            StringBuilder sb = new StringBuilder(4096);
+            write(sb, value);
+            return sb.toString();
+        }
+
+        private static void write(StringBuilder sb, Object v) {
+            if (v == null) {
+                sb.append("null");
+            } else if (v instanceof String) {
+                string(sb, (String) v);
+            } else if (v instanceof Number) {
+                sb.append(v);
+            } else if (v instanceof List) {
+                sb.append('[');
+                boolean first = true;
+                for (Object o : (List<?>) v) {
+                    if (!first) sb.append(',');
+                    write(sb, o);
+                    first = false;
+                }
+                sb.append(']');
+            } else if (v instanceof Map) {
+                sb.append('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) v).entrySet()) {
+                    if (!first) sb.append(',');
+                    string(sb, String.valueOf(e.getKey()));
+                    sb.append(':');
+                    write(sb, e.getValue());
+                    first = false;
+                }
+                sb.append('}');
+            } else if (v instanceof QuestionFull) {
+                QuestionFull q = (QuestionFull) v;
+                QuestionBank qb = q.getQuestionBank();
+                sb.append("{\"questionBank\":{\"questionId\":").append(qb.getQuestionId())
+                        .append(",\"examId\":").append(qb.getExamId()).append(",\"type\":");
+                string(sb, qb.getType());
+                sb.append(",\"questionText\":");
+                string(sb, qb.getQuestionText());
+                sb.append("},\"options\":[");
+                for (int i = 0; i < q.getOptions().size(); i++) {
+                    QuestionOption o = q.getOptions().get(i);
+                    if (i > 0) sb.append(',');
+                    sb.append("{\"optionId\":").append(o.getOptionId()).append(",\"questionId\":").append(o.getQuestionId())
+                            .append(",\"optionLabel\":");
+                    string(sb, String.valueOf(o.getOptionLabel()));
+                    sb.append(",\"content\":");
+                    string(sb, o.getContent());
+                    sb.append('}');
+                }
+                AnswerKey k = q.getAnswerKey();
+                sb.append("],\"answerKey\":{\"questionId\":").append(k.getQuestionId()).append(",\"correctLabel\":");
+                write(sb, k.getCorrectLabel() == null ? null : String.valueOf(k.getCorrectLabel()));
+                sb.append(",\"correctText\":");
+                write(sb, k.getCorrectText());
+                sb.append("}}");
+            } else if (v instanceof Exam) {
+                Exam e = (Exam) v;
+                sb.append("{\"examId\":").append(e.getExamId()).append(",\"subject\":");
+                string(sb, e.getSubject());
+                sb.append(",\"createdAt\":");
+                string(sb, e.getCreatedAt().toString());
+                sb.append(",\"startDate\":");
+                string(sb, e.getStartDate().toString());
+                sb.append(",\"endDate\":");
+                string(sb, e.getEndDate().toString());
+                sb.append(",\"durationMinutes\":").append(e.getDurationMinutes())
+                        .append(",\"questionCnt\":").append(e.getQuestionCnt()).append('}');
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 타입: " + v.getClass());
+            }
+        }
+
+        private static void string(StringBuilder sb, String s) {
+            sb.append('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"' || c == '\\') sb.append('\\').append(c);
+                else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                else sb.append(c);
+            }
+            sb.append('"');
+        }
+
+        /** JSON을 읽어 원래 모델로 되돌린다. (배열이면 문항 또는 시험 목록, 객체면 답안 맵) */
+        static Object decode(String json) {
+            Object tree = new Parser(json).value();
+            if (tree instanceof Map) {
+                Map<Integer, String> answers = new HashMap<>();
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) tree).entrySet()) {
+                    answers.put(Integer.valueOf((String) e.getKey()), (String) e.getValue());
+                }
+                return answers;
+            }
+            List<Object> list = new ArrayList<>();
+            for (Object o : (List<?>) tree) {
+                Map<?, ?> m = (Map<?, ?>) o;
+                list.add(m.containsKey("questionBank") ? question(m) : exam(m));
+            }
+            return list;
+        }
+
+        private static QuestionFull question(Map<?, ?> m) {
+            Map<?, ?> b = (Map<?, ?>) m.get("questionBank");
+            QuestionBank qb = new QuestionBank(num(b, "questionId"), num(b, "examId"),
+                    (String) b.get("type"), (String) b.get("questionText"));
+            List<QuestionOption> options = new ArrayList<>();
+            for (Object o : (List<?>) m.get("options")) {
+                Map<?, ?> om = (Map<?, ?>) o;
+                options.add(new QuestionOption(num(om, "optionId"), num(om, "questionId"),
+                        ((String) om.get("optionLabel")).charAt(0), (String) om.get("content")));
+            }
+            Map<?, ?> k = (Map<?, ?>) m.get("answerKey");
+            String label = (String) k.get("correctLabel");
+            AnswerKey key = new AnswerKey(num(k, "questionId"), label == null ? null : label.charAt(0),
+                    (String) k.get("correctText"));
+            return new QuestionFull(qb, options, key);
+        }
+
+        private static Exam exam(Map<?, ?> m) {
+            Exam e = new Exam();
+            e.setExamId(num(m, "examId"));
+            e.setSubject((String) m.get("subject"));
+            e.setCreatedAt(LocalDateTime.parse((String) m.get("createdAt")));
+            e.setStartDate(LocalDateTime.parse((String) m.get("startDate")));
+            e.setEndDate(LocalDateTime.parse((String) m.get("endDate")));
+            e.setDurationMinutes(num(m, "durationMinutes"));
+            e.setQuestionCnt(num(m, "questionCnt"));
+            return e;
+        }
+
+        private static int num(Map<?, ?> m, String key) {
+            return ((Number) m.get(key)).intValue();
+        }
+
+        /** 재귀 하강 파서 (객체 → LinkedHashMap, 배열 → ArrayList, 정수 → Long) */
+        private static final class Parser {
+            private final String s;
+            private int pos;
+
+            Parser(String s) {
+                this.s = s;
+            }
+
+            Object value() {
+                char c = s.charAt(pos);
+                switch (c) {
+                    case '{': {
+                        pos++;
+                        Map<String, Object> map = new LinkedHashMap<>();
+                        if (s.charAt(pos) == '}') {
+                            pos++;
+                            return map;
+                        }
+                        while (true) {
+                            String key = string();
+                            pos++; // ':'
+                            map.put(key, value());
+                            if (s.charAt(pos++) == '}') return map;
+                        }
+                    }
+                    case '[': {
+                        pos++;
+                        List<Object> list = new ArrayList<>();
+                        if (s.charAt(pos) == ']') {
+                            pos++;
+                            return list;
+                        }
+                        while (true) {
+                            list.add(value());
+                            if (s.charAt(pos++) == ']') return list;
+                        }
+                    }
+                    case '"':
+                        return string();
+                    case 'n':
+                        pos += 4;
+                        return null;
+                    default: {
+                        int start = pos;
+                        while (pos < s.length() && "-0123456789".indexOf(s.charAt(pos)) >= 0) pos++;
+                        return Long.parseLong(s, start, pos, 10);
+                    }
+                }
+            }
+
+            private String string() {
+                pos++; // '"'
+                StringBuilder sb = null;
+                int start = pos;
+                while (true) {
+                    char c = s.charAt(pos);
+                    if (c == '"') {
+                        String part = s.substring(start, pos++);
+                        return sb == null ? part : sb.append(part).toString();
+                    }
+                    if (c == '\\') {
+                        if (sb == null) sb = new StringBuilder();
+                        sb.append(s, start, pos);
+                        char esc = s.charAt(pos + 1);
+                        if (esc == 'u') {
+                            sb.append((char) Integer.parseInt(s.substring(pos + 2, pos + 6), 16));
+                            pos += 6;
+                        } else {
+                            sb.append(esc);
+                            pos += 2;
+                        }
+                        start = pos;
+                    } else {
+                        pos++;
+                    }
+                }
+            }
+        }
+    }
+}
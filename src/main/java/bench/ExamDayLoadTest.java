@@ -0,0 +1,224 @@
+package main.java.bench;
+
+import main.java.metrics.MetricsExporter;
+import main.java.model.Exam;
+import main.java.model.QuestionFull;
+import main.java.model.User;
+import main.java.service.*;
+import main.java.util.DBConnection;
+import main.java.util.LatencyHistogram;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시험 당일 부하 시뮬레이터 (Swing 없이 서비스 계층을 직접 호출)
+ * - 학생 한 명당 스레드 하나가 실제 응시 흐름을 따라간다.
+ *   로그인 → 응시 가능 시험 조회 → 문항 로딩 → 문제마다 답 선택(자동 저장) → 채점·최종 제출
+ * - 도착 곡선, 문제당 생각 시간, 마감 직전 몰림 비율을 조정할 수 있다.
+ * - 단계별 지연 히스토그램(LatencyHistogram)과 오류 수를 출력한다.
+ *
+ * 주요 파라미터 (-Dbench.*)
+ *   students=300          동시 응시 학생 수
+ *   questions=30          문항 수
+ *   arrival=ramp          ramp(rampSeconds 동안 균등) | poisson(같은 평균의 지수 간격) | burst(동시 시작)
+ *   rampSeconds=30        도착 구간 길이
+ *   thinkMillis=1000      문제당 평균 생각 시간 (0.5~1.5배 균등 분포)
+ *   examSeconds=120       시험 마감까지의 시간
+ *   deadlinePercent=30    답을 다 고른 뒤 마감 시각까지 기다렸다가 제출하는 학생 비율
+ *   autosaveSeconds=10    자동 저장 주기
+ *   submitMode=exam       exam(submitExam 한 트랜잭션) | split(submitAllAnswers + saveExamResult)
+ *
+ * 실행 예: java -Dbench.students=500 -Dbench.deadlinePercent=80 main.java.bench.ExamDayLoadTest
+ */
+public class ExamDayLoadTest {
+    private static final AuthenticationService authService = new AuthenticationServiceImpl();
+    private static final ExamService examService = new ExamServiceImpl();
+    private static final QuestionService questionService = new QuestionServiceImpl();
+    private static final GradingService gradingService = new GradingServiceImpl();
+    private static final SubmissionService submissionService = new SubmissionServiceImpl();
+
+    private static final String[] STAGES = {"login", "assignedExams", "loadQuestions", "autosave", "submit", "session"};
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new LinkedHashMap<>();
+    private static final Map<String, AtomicInteger> ERRORS = new ConcurrentHashMap<>();
+
+    static {
+        for (String stage : STAGES) {
+            HISTOGRAMS.put(stage, new LatencyHistogram(stage));
+            ERRORS.put(stage, new AtomicInteger());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = BenchSupport.intParam("students", 300);
+        int questions = BenchSupport.intParam("questions", 30);
+        String arrival = System.getProperty("bench.arrival", "ramp");
+        int rampSeconds = BenchSupport.intParam("rampSeconds", 30);
+        int thinkMillis = BenchSupport.intParam("thinkMillis", 1000);
+        int examSeconds = BenchSupport.intParam("examSeconds", 120);
+        int deadlinePercent = BenchSupport.intParam("deadlinePercent", 30);
+        int autosaveSeconds = BenchSupport.intParam("autosaveSeconds", 10);
+        boolean splitSubmit = "split".equals(System.getProperty("bench.submitMode", "exam"));
+
+        System.out.printf("학생 %d명, 문항 %d개, 도착=%s(%ds), 생각 시간 %dms, 마감 %ds, 마감 몰림 %d%%, 제출=%s%n",
+                students, questions, arrival, rampSeconds, thinkMillis, examSeconds, deadlinePercent,
+                splitSubmit ? "split" : "exam");
+
+        BenchFixtures.dropUsers();
+        List<Integer> userIds = BenchFixtures.seedUsers(students);
+        int examId = BenchFixtures.seedExam(questions);
+        try {
+            assignAll(userIds, examId);
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(examSeconds);
+            long[] arrivals = arrivalOffsets(arrival, students, TimeUnit.SECONDS.toNanos(rampSeconds));
+
+            ExecutorService executor = studentExecutor();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < students; i++) {
+                final int idx = i;
+                final boolean holdsUntilDeadline = (i * 100L / students) < deadlinePercent;
+                futures.add(executor.submit(() -> {
+                    sleepUntil(start + arrivals[idx]);
+                    simulateStudent(idx, examId, thinkMillis, autosaveSeconds, holdsUntilDeadline, deadline, splitSubmit);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+            executor.shutdown();
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.printf("%n총 소요 %.1fs%n", elapsedMs / 1000.0);
+            for (LatencyHistogram h : HISTOGRAMS.values()) {
+                System.out.println(h.summary() + "  errors=" + ERRORS.get(h.getName()).get());
+            }
+            System.out.println();
+            HISTOGRAMS.get("submit").printDistribution(System.out);
+            ExamContentCache.stats().forEach(System.out::println);
+            System.out.print(MetricsExporter.textSnapshot());
+        } finally {
+            BenchFixtures.dropExam(examId);
+            BenchFixtures.dropUsers();
+        }
+    }
+
+    private static void simulateStudent(int idx, int examId, int thinkMillis, int autosaveSeconds,
+                                        boolean holdsUntilDeadline, long deadline, boolean splitSubmit) {
+        long sessionStart = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        User user = timed("login", () -> authService.login(BenchFixtures.studentNumber(idx), BenchFixtures.BENCH_PASSWORD));
+        if (user == null) return;
+        List<Exam> open = timed("assignedExams", () -> examService.getAssignedOpenExams(user.getUserId()));
+        if (open == null || open.stream().noneMatch(e -> e.getExamId() == examId)) return;
+        List<QuestionFull> questions = timed("loadQuestions", () -> questionService.getQuestionsByExam(examId));
+        if (questions == null) return;
+
+        AnswerAutosave autosave = new AnswerAutosave(user.getUserId(), examId, submissionService);
+        Map<Integer, String> answers = new HashMap<>();
+        long nextSave = System.nanoTime() + TimeUnit.SECONDS.toNanos(autosaveSeconds);
+        for (QuestionFull q : questions) {
+            if (thinkMillis > 0) sleepMillis(thinkMillis / 2 + random.nextInt(thinkMillis + 1));
+            String answer = String.valueOf((char) ('1' + random.nextInt(5)));
+            answers.put(q.getQuestionId(), answer);
+            autosave.record(q.getQuestionId(), answer);
+            if (System.nanoTime() - nextSave >= 0) {
+                timed("autosave", () -> { autosave.flush(); return Boolean.TRUE; });
+                nextSave = System.nanoTime() + TimeUnit.SECONDS.toNanos(autosaveSeconds);
+            }
+        }
+        if (holdsUntilDeadline) sleepUntil(deadline - TimeUnit.MILLISECONDS.toNanos(random.nextInt(1000)));
+
+        autosave.discard();
+        timed("submit", () -> {
+            if (splitSubmit) {
+                int score = gradingService.grade(examId, answers).getScore();
+                examService.submitAllAnswers(user.getUserId(), examId, answers);
+                examService.saveExamResult(user.getUserId(), examId, score);
+                return score;
+            }
+            return examService.submitExam(user.getUserId(), examId, answers);
+        });
+        HISTOGRAMS.get("session").recordNanos(System.nanoTime() - sessionStart);
+    }
+
+    @FunctionalInterface
+    private interface Step<T> {
+        T call() throws Exception;
+    }
+
+    /** 단계 실행 시간을 기록한다. 실패하면 오류 수를 올리고 null을 반환한다. */
+    private static <T> T timed(String stage, Step<T> step) {
+        long t0 = System.nanoTime();
+        try {
+            T result = step.call();
+            HISTOGRAMS.get(stage).recordNanos(System.nanoTime() - t0);
+            return result;
+        } catch (Exception e) {
+            ERRORS.get(stage).incrementAndGet();
+            return null;
+        }
+    }
+
+    /** 학생별 도착 시각 (시작 기준 나노초) */
+    private static long[] arrivalOffsets(String curve, int students, long rampNanos) {
+        long[] offsets = new long[students];
+        Random random = new Random(42);
+        double meanGap = students == 0 ? 0 : (double) rampNanos / students;
+        double t = 0;
+        for (int i = 0; i < students; i++) {
+            switch (curve) {
+                case "burst":
+                    offsets[i] = 0;
+                    break;
+                case "poisson":
+                    t += -Math.log(1 - random.nextDouble()) * meanGap;
+                    offsets[i] = (long) t;
+                    break;
+                default:
+                    offsets[i] = (long) (i * meanGap);
+            }
+        }
+        return offsets;
+    }
+
+    private static void assignAll(List<Integer> userIds, int examId) throws Exception {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO exam_assignments (user_id, exam_id) VALUES (?, ?)")) {
+            for (int userId : userIds) {
+                ps.setInt(1, userId);
+                ps.setInt(2, examId);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /** 가상 스레드를 지원하면(Java 21+) 학생마다 가상 스레드, 아니면 학생마다 플랫폼 스레드 */
+    private static ExecutorService studentExecutor() {
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) sleepMillis(TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package main.java.bench;
+
+import main.java.dao.QuestionDao;
+import main.java.dao.QuestionDaoImpl;
+import main.java.service.ExamContentCache;
+import main.java.service.ExamWarmup;
+import main.java.service.QuestionService;
+import main.java.service.QuestionServiceImpl;
+import main.java.util.DBConnection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 시험 시작 동시 접속 부하 테스트
+ * - N명의 학생이 같은 순간 문항을 요청하는 상황을 스레드 N개와 시작 신호(CountDownLatch)로 재현한다.
+ * - 비교 대상
+ *   direct   : 캐시 없이 학생마다 QuestionDao.findFullByExamId (변경 전 동작)
+ *   coalesced: 캐시가 비어 있는 상태에서 QuestionService 호출 (동시 요청이 한 번의 로딩으로 합쳐짐)
+ *   prewarmed: ExamWarmup으로 미리 적재한 뒤 QuestionService 호출
+ * - DB 왕복 수(풀 대여 횟수), 전체 소요 시간, 학생별 응답 지연 백분위를 출력한다.
+ *
+ * 실행 예: java -Dbench.questions=50 main.java.bench.ExamStartLoadTest 50 200 500
+ */
+public class ExamStartLoadTest {
+    private static final QuestionDao questionDao = new QuestionDaoImpl();
+    private static final QuestionService questionService = new QuestionServiceImpl();
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = BenchSupport.sizes(args, 50, 200);
+        int questionCount = BenchSupport.intParam("questions", 50);
+        ExamWarmup warmup = new ExamWarmup();
+
+        int examId = BenchFixtures.seedExam(questionCount);
+        try {
+            System.out.printf("%-8s %-10s %10s %10s  %s%n", "동시접속", "방식", "DB왕복", "전체(ms)", "학생별 지연");
+            for (int students : sizes) {
+                run(students, "direct", () -> questionDao.findFullByExamId(examId));
+
+                ExamContentCache.invalidate(examId);
+                run(students, "coalesced", () -> questionService.getQuestionsByExam(examId));
+
+                ExamContentCache.invalidate(examId);
+                warmup.warmUp(examId, true);
+                run(students, "prewarmed", () -> questionService.getQuestionsByExam(examId));
+            }
+        } finally {
+            BenchFixtures.dropExam(examId);
+            ExamContentCache.invalidate(examId);
+        }
+        ExamContentCache.stats().forEach(System.out::println);
+        System.out.println(DBConnection.getPoolStats());
+    }
+
+    private static void run(int students, String name, BenchSupport.Task task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(students);
+        CountDownLatch ready = new CountDownLatch(students);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < students; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    long t0 = System.nanoTime();
+                    task.run();
+                    return System.nanoTime() - t0;
+                }));
+            }
+            ready.await();
+            long before = DBConnection.getPoolStats().getBorrowCount();
+            long start = System.nanoTime();
+            go.countDown();
+
+            long[] nanos = new long[students];
+            for (int i = 0; i < students; i++) nanos[i] = futures.get(i).get();
+            long wallMillis = (System.nanoTime() - start) / 1_000_000;
+            long roundTrips = DBConnection.getPoolStats().getBorrowCount() - before;
+
+            Arrays.sort(nanos);
+            System.out.printf("%-8d %-10s %10d %10d  %s%n",
+                    students, name, roundTrips, wallMillis, new BenchSupport.Result(nanos));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package main.java.bench;
+
+import main.java.dao.ExamResultDao;
+import main.java.dao.ExamResultDaoImpl;
+import main.java.dao.QuestionDao;
+import main.java.dao.QuestionDaoImpl;
+import main.java.model.QuestionFull;
+import main.java.service.AuthenticationService;
+import main.java.service.AuthenticationServiceImpl;
+import main.java.service.ExamService;
+import main.java.service.ExamServiceImpl;
+import main.java.service.GradingService;
+import main.java.service.GradingServiceImpl;
+import main.java.service.QuestionService;
+import main.java.service.QuestionServiceImpl;
+import main.java.util.DBConnection;
+
+import java.util.*;
+
+/**
+ * 주요 경로 회귀 벤치마크 묶음
+ * - 문항 로딩, 답안 제출, 채점, 결과 조회, 로그인을 같은 데이터로 한 번에 측정한다.
+ * - 항목마다 지연 백분위, 처리량(ops/s), 호출당 할당량을 출력한다.
+ * - 실행 전 학생·지난 시험·결과·문항을 생성하고 끝나면 모두 지운다.
+ *   (bench.users=2000, bench.pastExams=1000, bench.resultsPerUser=50, bench.questions=200)
+ * - 인자로 항목 이름 일부를 주면 해당 항목만 실행한다.
+ * - 측정은 BenchSupport의 간이 하네스(JMH 아님)로 한다. 항목끼리 JIT 프로파일이 섞이지 않게 하려면
+ *   -Dbench.fork=true로 항목마다 새 JVM을 띄운다. (각 JVM이 데이터를 따로 준비하므로 오래 걸린다)
+ *
+ * 실행 예: java -Dbench.iterations=200 -Dbench.fork=true main.java.bench.HotPathBenchmark grade login
+ */
+public class HotPathBenchmark {
+    private static final QuestionDao questionDao = new QuestionDaoImpl();
+    private static final QuestionService questionService = new QuestionServiceImpl();
+    private static final ExamService examService = new ExamServiceImpl();
+    private static final GradingService gradingService = new GradingServiceImpl();
+    private static final ExamResultDao examResultDao = new ExamResultDaoImpl();
+    private static final AuthenticationService authService = new AuthenticationServiceImpl();
+
+    /** 측정 항목 (실행 순서) */
+    private static final List<String> ITEMS = List.of(
+            "questionLoad.dao", "questionLoad.cached", "submitAllAnswers", "grade", "resultLookup", "login");
+
+    public static void main(String[] args) throws Exception {
+        if (Boolean.getBoolean("bench.fork")) {
+            for (String item : ITEMS) {
+                if (!selected(new HashSet<>(Arrays.asList(args)), item)) continue;
+                int code = BenchSupport.fork(HotPathBenchmark.class, item);
+                if (code != 0) System.err.printf("%s: 자식 JVM이 %d로 종료%n", item, code);
+            }
+            return;
+        }
+        int users = BenchSupport.intParam("users", 2000);
+        int pastExams = BenchSupport.intParam("pastExams", 1000);
+        int resultsPerUser = BenchSupport.intParam("resultsPerUser", 50);
+        int questions = BenchSupport.intParam("questions", 200);
+        int warmup = BenchSupport.intParam("warmup", 20);
+        int iterations = BenchSupport.intParam("iterations", 100);
+        Set<String> only = new HashSet<>(Arrays.asList(args));
+
+        System.out.printf("데이터 준비: 학생 %d명, 지난 시험 %d개(학생당 결과 %d건), 문항 %d개%n",
+                users, pastExams, resultsPerUser, questions);
+        BenchFixtures.dropUsers();
+        List<Integer> examIds = new ArrayList<>();
+        int examId = -1;
+        try {
+            List<Integer> userIds = BenchFixtures.seedUsers(users);
+            examIds.addAll(BenchFixtures.seedPastExams(pastExams));
+            BenchFixtures.seedResults(userIds, examIds, resultsPerUser);
+            examId = BenchFixtures.seedExam(questions);
+            final int targetExam = examId;
+
+            Map<Integer, String> answers = new HashMap<>();
+            for (QuestionFull q : questionDao.findFullByExamId(examId)) {
+                answers.put(q.getQuestionId(), String.valueOf((char) ('1' + q.getQuestionId() % 5)));
+            }
+            int[] cursor = {0};
+
+            System.out.printf("%-22s %10s  %s%n", "항목", "DB왕복/op", "결과");
+            run(only, "questionLoad.dao", warmup, iterations,
+                    () -> BenchSupport.consume(questionDao.findFullByExamId(targetExam)));
+            run(only, "questionLoad.cached", warmup, iterations,
+                    () -> BenchSupport.consume(questionService.getQuestionsByExam(targetExam)));
+            run(only, "submitAllAnswers", warmup, iterations,
+                    () -> examService.submitAllAnswers(next(userIds, cursor), targetExam, answers));
+            run(only, "grade", warmup * 50, iterations * 50,
+                    () -> BenchSupport.consume(gradingService.grade(targetExam, answers)));
+            run(only, "resultLookup", warmup, iterations,
+                    () -> BenchSupport.consume(examResultDao.findAllByUser(next(userIds, cursor))));
+            run(only, "login", warmup, iterations, () -> {
+                int i = cursor[0]++ % userIds.size();
+                BenchSupport.consume(authService.login(BenchFixtures.studentNumber(i), BenchFixtures.BENCH_PASSWORD));
+            });
+        } finally {
+            BenchFixtures.dropUsers();
+            if (examId > 0) BenchFixtures.dropExam(examId);
+            for (int id : examIds) BenchFixtures.dropExam(id);
+        }
+        System.out.println(DBConnection.getPoolStats());
+    }
+
+    private static boolean selected(Set<String> only, String name) {
+        return only.isEmpty() || only.stream().anyMatch(name::contains);
+    }
+
+    private static int next(List<Integer> ids, int[] cursor) {
+        return ids.get(cursor[0]++ % ids.size());
+    }
+
+    private static void run(Set<String> only, String name, int warmup, int iterations,
+                            BenchSupport.Task task) throws Exception {
+        if (!selected(only, name)) return;
+        long before = DBConnection.getPoolStats().getBorrowCount();
+        BenchSupport.Result r = BenchSupport.measure(warmup, iterations, task);
+        double roundTrips = (double) (DBConnection.getPoolStats().getBorrowCount() - before) / (warmup + iterations);
+        System.out.printf("%-22s %10.1f  %s%n", name, roundTrips, r);
+    }
+}
@@ -0,0 +1,60 @@
+package main.java.bench;
+
+import main.java.dao.*;
+import main.java.model.*;
+import main.java.util.DBConnection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시험 문항 로딩 벤치마크
+ * - 기존 N+1 방식(문제 목록 조회 후 문제마다 선택지·정답키 조회)과
+ *   QuestionDaoImpl.findFullByExamId의 단일 JOIN 방식을 문항 수별로 비교한다.
+ * - 왕복 횟수는 DAO 호출마다 커넥션을 한 번 대여하므로 풀의 대여 횟수 차이로 측정한다.
+ *
+ * 실행 예: java -Dcbt.db.url=... -Dbench.iterations=30 main.java.bench.QuestionLoadBenchmark 10 100 500
+ */
+public class QuestionLoadBenchmark {
+    private static final QuestionBankDao qbDao = new QuestionBankDaoImpl();
+    private static final QuestionOptionDao qoDao = new QuestionOptionDaoImpl();
+    private static final AnswerKeyDao akDao = new AnswerKeyDaoImpl();
+    private static final QuestionDao questionDao = new QuestionDaoImpl();
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = BenchSupport.sizes(args, 10, 50, 100, 200);
+        int warmup = BenchSupport.intParam("warmup", 5);
+        int iterations = BenchSupport.intParam("iterations", 30);
+
+        System.out.printf("%-8s %-10s %12s  %s%n", "문항수", "방식", "왕복/로드", "지연 시간");
+        for (int size : sizes) {
+            int examId = BenchFixtures.seedExam(size);
+            try {
+                report(size, "N+1", () -> loadLegacy(examId), warmup, iterations);
+                report(size, "JOIN", () -> questionDao.findFullByExamId(examId), warmup, iterations);
+            } finally {
+                BenchFixtures.dropExam(examId);
+            }
+        }
+        System.out.println(DBConnection.getPoolStats());
+    }
+
+    private static void report(int size, String name, BenchSupport.Task task,
+                               int warmup, int iterations) throws Exception {
+        long before = DBConnection.getPoolStats().getBorrowCount();
+        task.run();
+        long roundTrips = DBConnection.getPoolStats().getBorrowCount() - before;
+        BenchSupport.Result r = BenchSupport.measure(warmup, iterations, task);
+        System.out.printf("%-8d %-10s %12d  %s%n", size, name, roundTrips, r);
+    }
+
+    /** 변경 전 findFullByExamId와 동일한 N+1 로딩 */
+    private static List<QuestionFull> loadLegacy(int examId) throws DaoException {
+        List<QuestionFull> fullList = new ArrayList<>();
+        for (QuestionBank qb : qbDao.findByExamId(examId)) {
+            int qId = qb.getQuestionId();
+            fullList.add(new QuestionFull(qb, qoDao.findByQuestionId(qId), akDao.findByQuestionId(qId)));
+        }
+        return fullList;
+    }
+}
@@ -0,0 +1,114 @@
+package main.java.bench;
+
+import main.java.dao.*;
+import main.java.model.AnswerSheet;
+import main.java.model.ExamResult;
+import main.java.model.QuestionFull;
+import main.java.service.ExamService;
+import main.java.service.ExamServiceImpl;
+import main.java.service.QuestionServiceImpl;
+import main.java.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 최종 제출 처리량 벤치마크
+ * - 여러 학생이 동시에 "최종 제출"을 누르는 상황을 스레드로 흉내 내어 초당 제출 수를 측정한다.
+ * - 기존 방식(문항마다 autocommit INSERT + 결과 INSERT)과
+ *   ExamService.submitExam(다중 행 INSERT + 결과를 한 트랜잭션으로 커밋)을 비교한다.
+ *
+ * 실행 예: java -Dbench.students=300 -Dbench.questions=50 -Dbench.threads=32 main.java.bench.SubmissionBenchmark
+ */
+public class SubmissionBenchmark {
+    private static final AnswerSheetDao answerSheetDao = new AnswerSheetDaoImpl();
+    private static final ExamResultDao examResultDao = new ExamResultDaoImpl();
+    private static final ExamService examService = new ExamServiceImpl();
+
+    @FunctionalInterface
+    private interface Submitter {
+        void submit(int userId, int examId, Map<Integer, String> answers) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = BenchSupport.intParam("students", 300);
+        int questions = BenchSupport.intParam("questions", 50);
+        int threads = BenchSupport.intParam("threads", 32);
+
+        List<Integer> userIds = loadUserIds(students);
+        System.out.printf("학생 %d명, 문항 %d개, 동시 스레드 %d개%n", userIds.size(), questions, threads);
+
+        run("per-row autocommit", userIds, questions, threads, (userId, examId, answers) -> {
+            for (Map.Entry<Integer, String> e : answers.entrySet()) {
+                AnswerSheet sheet = new AnswerSheet();
+                sheet.setUserId(userId);
+                sheet.setExamId(examId);
+                sheet.setQuestionId(e.getKey());
+                sheet.setSelectedAnswer(e.getValue());
+                answerSheetDao.insert(sheet);
+            }
+            ExamResult result = new ExamResult();
+            result.setUserId(userId);
+            result.setExamId(examId);
+            result.setScore(0);
+            result.setCompletedAt(LocalDateTime.now());
+            examResultDao.insert(result);
+        });
+        run("batched transaction", userIds, questions, threads,
+                (userId, examId, answers) -> examService.submitExam(userId, examId, answers));
+
+        System.out.println(DBConnection.getPoolStats());
+    }
+
+    private static void run(String name, List<Integer> userIds, int questions, int threads,
+                            Submitter submitter) throws Exception {
+        int examId = BenchFixtures.seedExam(questions);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            Map<Integer, String> answers = new HashMap<>();
+            for (QuestionFull qf : new QuestionServiceImpl().getQuestionsByExam(examId)) {
+                answers.put(qf.getQuestionId(), "1");
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int userId : userIds) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long t0 = System.nanoTime();
+                    submitter.submit(userId, examId, answers);
+                    return System.nanoTime() - t0;
+                }));
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            long[] latencies = new long[futures.size()];
+            for (int i = 0; i < futures.size(); i++) latencies[i] = futures.get(i).get();
+            double seconds = (System.nanoTime() - t0) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-20s %8.1f submissions/sec  %8.0f rows/sec  %s%n",
+                    name, userIds.size() / seconds, userIds.size() * (questions + 1) / seconds,
+                    new BenchSupport.Result(latencies));
+        } finally {
+            pool.shutdown();
+            BenchFixtures.dropExam(examId);
+        }
+    }
+
+    private static List<Integer> loadUserIds(int limit) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT user_id FROM users ORDER BY user_id LIMIT ?")) {
+            ps.setInt(1, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+}
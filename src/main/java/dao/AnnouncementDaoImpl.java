@@ -10,12 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class AnnouncementDaoImpl implements AnnouncementDao {
-    private final Connection conn = DBConnection.getConnection();
-
     @Override
     public List<Announcement> findAll() throws DaoException {
         String sql = "SELECT * FROM announcement ORDER BY created_at DESC";
-        try (PreparedStatement ps = conn.prepareStatement(sql);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             List<Announcement> list = new ArrayList<>();
             while (rs.next()) {
@@ -37,7 +36,8 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
     @Override
     public Announcement findById(int id) throws DaoException {
         String sql = "SELECT * FROM announcement WHERE announcement_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, id);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
@@ -60,7 +60,8 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
     @Override
     public void save(Announcement ann) throws DaoException {
         String sql = "INSERT INTO announcement(title, content) VALUES(?, ?)";
-        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             ps.setString(1, ann.getTitle());
             ps.setString(2, ann.getContent());
             ps.executeUpdate();
@@ -75,7 +76,8 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
     @Override
     public void update(Announcement ann) throws DaoException {
         String sql = "UPDATE announcement SET title = ?, content = ? WHERE announcement_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, ann.getTitle());
             ps.setString(2, ann.getContent());
             ps.setInt(3, ann.getAnnouncementId());
@@ -88,7 +90,8 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
     @Override
     public void delete(int id) throws DaoException {
         String sql = "DELETE FROM announcement WHERE announcement_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, id);
             ps.executeUpdate();
         } catch (SQLException e) {
@@ -2,9 +2,16 @@ package main.java.dao;
 
 import main.java.model.AnswerKey;
 
+import java.sql.Connection;
+import java.util.List;
+
 public interface AnswerKeyDao {
     AnswerKey findByQuestionId(int questionId) throws DaoException;
+    /** 시험에 속한 모든 문제의 정답키를 question_id 순으로 한 번에 조회 (정답키가 없는 문제는 정답이 모두 null인 항목) */
+    List<AnswerKey> findByExamId(int examId) throws DaoException;
     void insert(AnswerKey key) throws DaoException;
+    /** JDBC 배치 한 번으로 삽입한다. */
+    void insertAll(Connection conn, List<AnswerKey> keys) throws DaoException;
     void update(AnswerKey key) throws DaoException;
     void deleteByQuestionId(int questionId) throws DaoException;
 }
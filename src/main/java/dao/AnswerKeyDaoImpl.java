@@ -4,14 +4,15 @@ import main.java.model.AnswerKey;
 import main.java.util.DBConnection;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
 
 public class AnswerKeyDaoImpl implements AnswerKeyDao {
-    private final Connection conn = DBConnection.getConnection();
-
     @Override
     public AnswerKey findByQuestionId(int questionId) throws DaoException {
         String sql = "SELECT * FROM answer_key WHERE question_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, questionId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
@@ -27,10 +28,37 @@ public class AnswerKeyDaoImpl implements AnswerKeyDao {
         }
     }
 
+    @Override
+    public List<AnswerKey> findByExamId(int examId) throws DaoException {
+        // 정답키가 없는 문제도 한 행(정답 null)으로 돌려준다. 채점 분모가 문항 수와 같아지도록
+        // (문항 목록으로 만든 색인 AnswerKeyIndex.fromQuestions와 같은 기준)
+        String sql = "SELECT qb.question_id, ak.correct_label, ak.correct_text " +
+                "FROM question_bank qb LEFT JOIN answer_key ak ON ak.question_id = qb.question_id " +
+                "WHERE qb.exam_id = ? ORDER BY qb.question_id";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, examId);
+            ResultSet rs = pstmt.executeQuery();
+            List<AnswerKey> list = new ArrayList<>();
+            while (rs.next()) {
+                String label = rs.getString("correct_label");
+                list.add(new AnswerKey(
+                        rs.getInt("question_id"),
+                        label != null && !label.isEmpty() ? label.charAt(0) : null,
+                        rs.getString("correct_text")
+                ));
+            }
+            return list;
+        } catch (SQLException e) {
+            throw new DaoException("Error finding AnswerKeys by examId", e);
+        }
+    }
+
     @Override
     public void insert(AnswerKey key) throws DaoException {
         String sql = "INSERT INTO answer_key(question_id, correct_label, correct_text) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, key.getQuestionId());
             if (key.getCorrectLabel() != null) pstmt.setString(2, key.getCorrectLabel().toString()); else pstmt.setNull(2, Types.CHAR);
             if (key.getCorrectText() != null) pstmt.setString(3, key.getCorrectText()); else pstmt.setNull(3, Types.VARCHAR);
@@ -40,10 +68,30 @@ public class AnswerKeyDaoImpl implements AnswerKeyDao {
         }
     }
 
+    @Override
+    public void insertAll(Connection conn, List<AnswerKey> keys) throws DaoException {
+        if (keys.isEmpty()) return;
+        String sql = "INSERT INTO answer_key(question_id, correct_label, correct_text) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int n = 0;
+            for (AnswerKey key : keys) {
+                pstmt.setInt(1, key.getQuestionId());
+                if (key.getCorrectLabel() != null) pstmt.setString(2, key.getCorrectLabel().toString()); else pstmt.setNull(2, Types.CHAR);
+                if (key.getCorrectText() != null) pstmt.setString(3, key.getCorrectText()); else pstmt.setNull(3, Types.VARCHAR);
+                pstmt.addBatch();
+                if (++n % QuestionBankDaoImpl.MAX_BATCH_ROWS == 0) pstmt.executeBatch();
+            }
+            pstmt.executeBatch();
+        } catch (SQLException e) {
+            throw new DaoException("Error batch inserting AnswerKeys", e);
+        }
+    }
+
     @Override
     public void update(AnswerKey key) throws DaoException {
         String sql = "UPDATE answer_key SET correct_label = ?, correct_text = ? WHERE question_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             if (key.getCorrectLabel() != null) pstmt.setString(1, key.getCorrectLabel().toString()); else pstmt.setNull(1, Types.CHAR);
             if (key.getCorrectText() != null) pstmt.setString(2, key.getCorrectText()); else pstmt.setNull(2, Types.VARCHAR);
             pstmt.setInt(3, key.getQuestionId());
@@ -56,7 +104,8 @@ public class AnswerKeyDaoImpl implements AnswerKeyDao {
     @Override
     public void deleteByQuestionId(int questionId) throws DaoException {
         String sql = "DELETE FROM answer_key WHERE question_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, questionId);
             pstmt.executeUpdate();
         } catch (SQLException e) {
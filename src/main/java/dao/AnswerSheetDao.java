@@ -1,10 +1,35 @@
 package main.java.dao;
 
 import main.java.model.AnswerSheet;
+
+import java.sql.Connection;
 import java.util.List;
 
 public interface AnswerSheetDao {
     void insert(AnswerSheet sheet) throws DaoException;
+
+    /**
+     * 여러 답안을 다중 행 INSERT로 저장한다 (answerId는 채우지 않는다).
+     * 커밋/롤백은 conn을 넘겨준 호출자가 관리한다.
+     */
+    void insertAll(Connection conn, List<AnswerSheet> sheets) throws DaoException;
+
+    /**
+     * (user_id, exam_id, question_id)가 같은 기존 답안은 답만 바꾸고, 없으면 새로 저장한다. (upsert)
+     * - 해당 세 열의 유일 키가 있으면 ON DUPLICATE KEY UPDATE 한 문장으로, 없으면 UPDATE 후
+     *   없던 행만 INSERT한다. (AnswerSheetDaoImpl 참고)
+     * - 같은 문제의 답안이 여러 번 들어 있으면 마지막 것만 저장한다.
+     * - 커밋/롤백은 conn을 넘겨준 호출자가 관리한다.
+     */
+    void upsertAll(Connection conn, List<AnswerSheet> sheets) throws DaoException;
     List<AnswerSheet> findByUserAndExam(int userId, int examId) throws DaoException;
+
+    /**
+     * 시험을 최종 제출한 학생의 답안을 fetchSize 단위로 나눠 읽으며 한 건씩 handler에 넘긴다. (user_id, question_id 오름차순)
+     * 자동 저장만 되고 제출하지 않은 답안은 빠진다. 답안 없이 제출한 학생은 questionId가 0인 한 건으로 넘긴다.
+     * @param maxResultId 이 값 이하의 result_id로 제출한 학생만 (재계산 기준점)
+     * @param fetchSize 한 번에 받아올 행 수 (0 이하이면 기본값 cbt.db.fetchSize)
+     */
+    void streamByExam(int examId, int maxResultId, int fetchSize, RowHandler<AnswerSheet> handler) throws DaoException;
     void deleteByUserAndExam(int userId, int examId) throws DaoException;
 }
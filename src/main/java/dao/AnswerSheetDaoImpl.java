@@ -2,33 +2,198 @@ package main.java.dao;
 
 import main.java.model.AnswerSheet;
 import main.java.util.DBConnection;
+import main.java.util.SqlBatch;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * AnswerSheetDao 구현체 (JDBC)
+ * upsertAll은 다음 유일 키가 있을 때만 ON DUPLICATE KEY UPDATE 한 문장으로 처리한다.
+ * <pre>
+ * ALTER TABLE answersheets
+ *     ADD UNIQUE KEY uk_answersheets_user_exam_question (user_id, exam_id, question_id);
+ * </pre>
+ * 키가 있는지는 처음 upsert할 때 한 번 DB 메타데이터로 확인한다. 없으면 (user_id, exam_id)별로
+ * 이미 있는 문제는 UPDATE하고 없는 문제만 INSERT한다. (키가 없으면 같은 학생·시험의 upsert를 동시에 돌리지 않는
+ * 호출 순서에 기대므로 키를 추가하는 것을 권장한다)
+ */
 public class AnswerSheetDaoImpl implements AnswerSheetDao {
-    private final Connection conn = DBConnection.getConnection();
+    static final String SQL_INSERT =
+            "INSERT INTO answersheets(user_id, exam_id, question_id, selected_answer) VALUES(?,?,?,?)";
+    static final String SQL_FIND_BY_USER_AND_EXAM =
+            "SELECT * FROM answersheets WHERE user_id=? AND exam_id=? ORDER BY question_id";
+    /**
+     * result_id가 기준 이하인 최종 제출(examresults)의 답안만.
+     * 답안이 하나도 없는 제출자는 question_id가 NULL인 한 행으로 나온다.
+     */
+    static final String SQL_STREAM_BY_EXAM = """
+            SELECT a.answer_id, r.user_id, r.exam_id, a.question_id, a.selected_answer
+              FROM (SELECT DISTINCT user_id, exam_id FROM examresults WHERE exam_id = ? AND result_id <= ?) r
+              LEFT JOIN answersheets a ON a.user_id = r.user_id AND a.exam_id = r.exam_id
+             ORDER BY r.user_id, a.question_id
+            """;
+    static final String SQL_DELETE_BY_USER_AND_EXAM = "DELETE FROM answersheets WHERE user_id=? AND exam_id=?";
+    static final String SQL_FIND_QUESTION_IDS =
+            "SELECT question_id FROM answersheets WHERE user_id=? AND exam_id=?";
+    static final String SQL_UPDATE_ANSWER =
+            "UPDATE answersheets SET selected_answer=? WHERE user_id=? AND exam_id=? AND question_id=?";
+    /** upsert가 기대는 유일 키의 열 */
+    private static final Set<String> UPSERT_KEY_COLUMNS = Set.of("user_id", "exam_id", "question_id");
+
+    /** 유일 키 존재 여부 (처음 upsert할 때 확인, null이면 아직 모름) */
+    private static volatile Boolean hasUpsertKey;
+
+    static final RowMapper<AnswerSheet> SHEET_MAPPER = rs -> {
+        AnswerSheet sheet = new AnswerSheet();
+        sheet.setAnswerId(rs.getInt("answer_id"));
+        sheet.setUserId(rs.getInt("user_id"));
+        sheet.setExamId(rs.getInt("exam_id"));
+        sheet.setQuestionId(rs.getInt("question_id"));
+        sheet.setSelectedAnswer(rs.getString("selected_answer"));
+        return sheet;
+    };
+
     @Override
     public void insert(AnswerSheet sheet) throws DaoException {
-        String sql = "INSERT INTO answersheets(user_id, exam_id, question_id, selected_answer) VALUES(?,?,?,?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_INSERT, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, sheet.getUserId()); pstmt.setInt(2, sheet.getExamId()); pstmt.setInt(3, sheet.getQuestionId()); pstmt.setString(4, sheet.getSelectedAnswer());
             pstmt.executeUpdate(); ResultSet rs = pstmt.getGeneratedKeys(); if (rs.next()) sheet.setAnswerId(rs.getInt(1));
         } catch (SQLException e) { throw new DaoException("Error inserting AnswerSheet", e); }
     }
     @Override
+    public void insertAll(Connection conn, List<AnswerSheet> sheets) throws DaoException {
+        for (int from = 0; from < sheets.size(); ) {
+            int n = SqlBatch.chunkSize(sheets.size() - from);
+            List<AnswerSheet> chunk = sheets.subList(from, from + n);
+            from += n;
+            String sql = "INSERT INTO answersheets(user_id, exam_id, question_id, selected_answer) VALUES "
+                    + SqlBatch.repeat("(?,?,?,?)", n);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int idx = 1;
+                for (AnswerSheet sheet : chunk) {
+                    pstmt.setInt(idx++, sheet.getUserId());
+                    pstmt.setInt(idx++, sheet.getExamId());
+                    pstmt.setInt(idx++, sheet.getQuestionId());
+                    pstmt.setString(idx++, sheet.getSelectedAnswer());
+                }
+                pstmt.executeUpdate();
+            } catch (SQLException e) { throw new DaoException("Error batch inserting AnswerSheets", e); }
+        }
+    }
+    @Override
+    public void upsertAll(Connection conn, List<AnswerSheet> sheets) throws DaoException {
+        // 같은 문제는 마지막 답안만 남긴다.
+        Map<List<Integer>, AnswerSheet> latest = new LinkedHashMap<>();
+        for (AnswerSheet sheet : sheets) {
+            latest.put(List.of(sheet.getUserId(), sheet.getExamId(), sheet.getQuestionId()), sheet);
+        }
+        List<AnswerSheet> rows = new ArrayList<>(latest.values());
+        if (!hasUpsertKey(conn)) {
+            updateThenInsert(conn, rows);
+            return;
+        }
+        // 기존 행은 answer_id를 유지한 채 답만 바꾼다. (DELETE 후 재삽입의 간격 잠금·id 소모 없음)
+        for (int from = 0; from < rows.size(); ) {
+            int n = SqlBatch.chunkSize(rows.size() - from);
+            List<AnswerSheet> chunk = rows.subList(from, from + n);
+            from += n;
+            String sql = "INSERT INTO answersheets(user_id, exam_id, question_id, selected_answer) VALUES "
+                    + SqlBatch.repeat("(?,?,?,?)", n)
+                    + " ON DUPLICATE KEY UPDATE selected_answer = VALUES(selected_answer)";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int idx = 1;
+                for (AnswerSheet sheet : chunk) {
+                    pstmt.setInt(idx++, sheet.getUserId());
+                    pstmt.setInt(idx++, sheet.getExamId());
+                    pstmt.setInt(idx++, sheet.getQuestionId());
+                    pstmt.setString(idx++, sheet.getSelectedAnswer());
+                }
+                pstmt.executeUpdate();
+            } catch (SQLException e) { throw new DaoException("Error upserting AnswerSheets", e); }
+        }
+    }
+
+    /** 유일 키가 없을 때의 upsert: (user_id, exam_id)별로 있는 문제는 UPDATE, 없는 문제만 INSERT */
+    private void updateThenInsert(Connection conn, List<AnswerSheet> rows) throws DaoException {
+        Map<List<Integer>, List<AnswerSheet>> byUserExam = new LinkedHashMap<>();
+        for (AnswerSheet sheet : rows) {
+            byUserExam.computeIfAbsent(List.of(sheet.getUserId(), sheet.getExamId()), k -> new ArrayList<>()).add(sheet);
+        }
+        List<AnswerSheet> missing = new ArrayList<>();
+        try (PreparedStatement find = conn.prepareStatement(SQL_FIND_QUESTION_IDS);
+             PreparedStatement update = conn.prepareStatement(SQL_UPDATE_ANSWER)) {
+            boolean anyUpdate = false;
+            for (Map.Entry<List<Integer>, List<AnswerSheet>> group : byUserExam.entrySet()) {
+                Set<Integer> existing = new HashSet<>();
+                find.setInt(1, group.getKey().get(0));
+                find.setInt(2, group.getKey().get(1));
+                try (ResultSet rs = find.executeQuery()) {
+                    while (rs.next()) existing.add(rs.getInt(1));
+                }
+                for (AnswerSheet sheet : group.getValue()) {
+                    if (!existing.contains(sheet.getQuestionId())) {
+                        missing.add(sheet);
+                        continue;
+                    }
+                    // 이미 중복 행이 있으면 모두 같은 답으로 맞춘다.
+                    update.setString(1, sheet.getSelectedAnswer());
+                    update.setInt(2, sheet.getUserId());
+                    update.setInt(3, sheet.getExamId());
+                    update.setInt(4, sheet.getQuestionId());
+                    update.addBatch();
+                    anyUpdate = true;
+                }
+            }
+            if (anyUpdate) update.executeBatch();
+        } catch (SQLException e) { throw new DaoException("Error updating AnswerSheets", e); }
+        insertAll(conn, missing);
+    }
+
+    /** answersheets에 (user_id, exam_id, question_id) 유일 키가 있는지 (이름과 무관하게 열 구성으로 판단) */
+    private static boolean hasUpsertKey(Connection conn) throws DaoException {
+        Boolean known = hasUpsertKey;
+        if (known != null) return known;
+        Map<String, Set<String>> uniqueIndexes = new LinkedHashMap<>();
+        try (ResultSet rs = conn.getMetaData().getIndexInfo(conn.getCatalog(), null, "answersheets", true, false)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (index == null || column == null) continue;
+                uniqueIndexes.computeIfAbsent(index, k -> new HashSet<>()).add(column.toLowerCase());
+            }
+        } catch (SQLException e) { throw new DaoException("Error reading answersheets indexes", e); }
+        boolean found = uniqueIndexes.containsValue(UPSERT_KEY_COLUMNS);
+        if (!found) {
+            System.err.println("[AnswerSheetDao] answersheets에 (user_id, exam_id, question_id) 유일 키가 없어 "
+                    + "UPDATE 후 INSERT로 저장합니다. uk_answersheets_user_exam_question 추가를 권장합니다.");
+        }
+        hasUpsertKey = found;
+        return found;
+    }
+    @Override
     public List<AnswerSheet> findByUserAndExam(int userId, int examId) throws DaoException {
-        String sql = "SELECT * FROM answersheets WHERE user_id=? AND exam_id=? ORDER BY question_id";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_FIND_BY_USER_AND_EXAM)) {
             pstmt.setInt(1, userId); pstmt.setInt(2, examId);
             ResultSet rs = pstmt.executeQuery(); List<AnswerSheet> list = new ArrayList<>();
             while (rs.next()) { AnswerSheet sheet = new AnswerSheet(); sheet.setAnswerId(rs.getInt("answer_id")); sheet.setUserId(userId); sheet.setExamId(examId); sheet.setQuestionId(rs.getInt("question_id")); sheet.setSelectedAnswer(rs.getString("selected_answer")); list.add(sheet);} return list;
         } catch (SQLException e) { throw new DaoException("Error finding AnswerSheets by user and exam", e); }
     }
     @Override
+    public void streamByExam(int examId, int maxResultId, int fetchSize, RowHandler<AnswerSheet> handler) throws DaoException {
+        DaoSupport.stream(SQL_STREAM_BY_EXAM, fetchSize, SHEET_MAPPER, handler, examId, maxResultId);
+    }
+    @Override
     public void deleteByUserAndExam(int userId, int examId) throws DaoException {
-        try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM answersheets WHERE user_id=? AND exam_id=?")) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_DELETE_BY_USER_AND_EXAM)) {
             pstmt.setInt(1, userId); pstmt.setInt(2, examId); pstmt.executeUpdate();
         } catch (SQLException e) { throw new DaoException("Error deleting AnswerSheets by user and exam", e); }
     }
@@ -0,0 +1,46 @@
+package main.java.dao;
+
+import main.java.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DAO 구현체 공용 JDBC 헬퍼 (패키지 전용)
+ */
+final class DaoSupport {
+    /** 스트리밍 조회 기본 fetch 크기 (-Dcbt.db.fetchSize로 변경) */
+    static final int DEFAULT_FETCH_SIZE = Integer.getInteger("cbt.db.fetchSize", 500);
+
+    private DaoSupport() {
+    }
+
+    /**
+     * sql 결과를 fetchSize 단위로 받아 한 행씩 handler에 넘긴다.
+     * - MariaDB 드라이버는 fetchSize > 0이면 결과를 한꺼번에 버퍼링하지 않고 나눠 읽는다.
+     * - 조회가 끝날 때까지 커넥션을 점유하므로 handler에서 오래 걸리는 작업은 피한다.
+     */
+    static <T> void stream(String sql, int fetchSize, RowMapper<T> mapper, RowHandler<T> handler,
+                           Object... params) throws DaoException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) ps.setObject(i + 1, params[i]);
+            ps.setFetchSize(fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        handler.handle(mapper.map(rs));
+                    } catch (SQLException | DaoException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new DaoException("행 처리 중 오류: " + e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DaoException("스트리밍 조회 실패", e);
+        }
+    }
+}
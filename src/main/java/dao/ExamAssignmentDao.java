@@ -1,17 +1,52 @@
 package main.java.dao;
 
+import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
 
 public interface ExamAssignmentDao {
     /**
-     * 주어진 exam_id에 대해 기존 할당을 모두 삭제하고,
-     * userIds에 있는 학생들을 일괄 배정(insert)한다.
+     * 주어진 exam_id의 배정을 userIds와 같아지도록 맞춘다.
+     * 현재 배정과 비교해 빠진 학생만 삭제하고 새 학생만 삽입하며, 전체를 한 트랜잭션으로 처리한다.
      */
     void assignStudents(int examId, List<Integer> userIds) throws DaoException;
 
+    /**
+     * 호출자 트랜잭션(conn) 안에서 배정을 userIds와 같아지도록 맞춘다. (차이만 반영)
+     * @return {추가된 수, 삭제된 수}
+     */
+    int[] syncStudents(Connection conn, int examId, Collection<Integer> userIds) throws DaoException;
+
+    /**
+     * examsdepartment에 등록된 (학과, 학년) 대상의 활성 학생 중 아직 배정되지 않은 학생을
+     * INSERT ... SELECT 한 문장으로 배정한다.
+     * @return 새로 배정된 학생 수
+     */
+    int assignByTargets(Connection conn, int examId) throws DaoException;
+
+    /**
+     * 현재 (학과, 학년) 대상에서 벗어난 학생의 배정을 DELETE 한 문장으로 해제한다.
+     * 이미 결과(examresults)가 있는 학생의 배정은 남긴다.
+     * @return 해제된 배정 수
+     */
+    int removeOutsideTargets(Connection conn, int examId) throws DaoException;
+
     /** 특정 exam_id에 대한 모든 배정 레코드를 삭제한다. */
     void removeAssignments(int examId) throws DaoException;
 
+    /**
+     * 시험이 학생에게 배정되어 있고 응시 기간(start_date ~ end_date + graceSeconds) 중인지 확인한다.
+     * @param graceSeconds 마감 뒤에도 허용할 초 (마감 시각에 자동 제출되는 요청이 늦게 도착하는 경우)
+     */
+    boolean isOpenFor(int userId, int examId, int graceSeconds) throws DaoException;
+
+    /**
+     * 호출자 트랜잭션(conn) 안에서 학생의 배정 행을 SELECT ... FOR UPDATE로 잠근다.
+     * 같은 학생·시험의 최종 제출을 직렬화하는 데 쓴다.
+     * @return 배정 행이 있으면 true
+     */
+    boolean lockAssignment(Connection conn, int userId, int examId) throws DaoException;
+
     /** 주어진 user_id가 배정된 exam_id 리스트를 반환한다. */
     List<Integer> findExamIdsByUser(int userId) throws DaoException;
 
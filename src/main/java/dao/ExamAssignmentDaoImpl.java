@@ -1,43 +1,128 @@
 package main.java.dao;
 
 import main.java.util.DBConnection;
+import main.java.util.SqlBatch;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ExamAssignmentDaoImpl implements ExamAssignmentDao {
-    private final Connection conn = DBConnection.getConnection();
+    /** (학과, 학년) 대상에 속하는 활성 학생 */
+    private static final String TARGET_STUDENTS = """
+              FROM users u
+              JOIN examsdepartment ed ON ed.dpmt_id = u.dpmt_id AND ed.grade = u.grade
+             WHERE ed.exam_id = ? AND u.level = 1 AND u.is_active = TRUE
+            """;
 
     @Override
     public void assignStudents(int examId, List<Integer> userIds) throws DaoException {
-        // 1) 기존 배정 삭제
-        String deleteSql = "DELETE FROM exam_assignments WHERE exam_id = ?";
-        try (PreparedStatement del = conn.prepareStatement(deleteSql)) {
-            del.setInt(1, examId);
-            del.executeUpdate();
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                syncStudents(conn, examId, userIds);
+                conn.commit();
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DaoException("assignStudents 실패: examId=" + examId, e);
+        }
+    }
+
+    @Override
+    public int[] syncStudents(Connection conn, int examId, Collection<Integer> userIds) throws DaoException {
+        Set<Integer> wanted = new LinkedHashSet<>(userIds);
+        Set<Integer> current = new HashSet<>();
+        try (PreparedStatement ps = conn.prepareStatement("SELECT user_id FROM exam_assignments WHERE exam_id = ?")) {
+            ps.setInt(1, examId);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) current.add(rs.getInt(1));
+            }
         } catch (SQLException e) {
-            throw new DaoException("assignStudents: 기존 배정 삭제 실패", e);
+            throw new DaoException("syncStudents: 현재 배정 조회 실패", e);
         }
 
-        // 2) 새로운 배정 일괄 삽입
-        String insertSql = "INSERT INTO exam_assignments (user_id, exam_id) VALUES (?, ?)";
-        try (PreparedStatement ins = conn.prepareStatement(insertSql)) {
-            for (Integer userId : userIds) {
-                ins.setInt(1, userId);
-                ins.setInt(2, examId);
-                ins.addBatch();
+        List<Integer> removed = new ArrayList<>();
+        for (Integer id : current) if (!wanted.contains(id)) removed.add(id);
+        List<Integer> added = new ArrayList<>();
+        for (Integer id : wanted) if (!current.contains(id)) added.add(id);
+
+        for (int from = 0; from < removed.size(); from += SqlBatch.MAX_ROWS) {
+            List<Integer> chunk = removed.subList(from, Math.min(from + SqlBatch.MAX_ROWS, removed.size()));
+            int slots = SqlBatch.paddedSize(chunk.size());
+            String sql = "DELETE FROM exam_assignments WHERE exam_id = ? AND user_id IN (" + SqlBatch.repeat("?", slots) + ")";
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, examId);
+                for (int i = 0; i < slots; i++) ps.setInt(i + 2, chunk.get(Math.min(i, chunk.size() - 1)));
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new DaoException("syncStudents: 배정 해제 실패", e);
             }
-            ins.executeBatch();
+        }
+        for (int from = 0; from < added.size(); ) {
+            int n = SqlBatch.chunkSize(added.size() - from);
+            List<Integer> chunk = added.subList(from, from + n);
+            from += n;
+            String sql = "INSERT INTO exam_assignments (user_id, exam_id) VALUES " + SqlBatch.repeat("(?,?)", n);
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int idx = 1;
+                for (Integer userId : chunk) {
+                    ps.setInt(idx++, userId);
+                    ps.setInt(idx++, examId);
+                }
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new DaoException("syncStudents: 배정 삽입 실패", e);
+            }
+        }
+        return new int[]{added.size(), removed.size()};
+    }
+
+    @Override
+    public int assignByTargets(Connection conn, int examId) throws DaoException {
+        String sql = "INSERT INTO exam_assignments (user_id, exam_id) SELECT DISTINCT u.user_id, ? " + TARGET_STUDENTS
+                + " AND NOT EXISTS (SELECT 1 FROM exam_assignments a WHERE a.exam_id = ? AND a.user_id = u.user_id)";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, examId);
+            ps.setInt(2, examId);
+            ps.setInt(3, examId);
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("assignByTargets 실패: examId=" + examId, e);
+        }
+    }
+
+    @Override
+    public int removeOutsideTargets(Connection conn, int examId) throws DaoException {
+        String sql = """
+            DELETE FROM exam_assignments
+             WHERE exam_id = ?
+               AND user_id NOT IN (SELECT u.user_id %s)
+               AND NOT EXISTS (SELECT 1 FROM examresults r
+                                WHERE r.exam_id = exam_assignments.exam_id AND r.user_id = exam_assignments.user_id)
+            """.formatted(TARGET_STUDENTS);
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, examId);
+            ps.setInt(2, examId);
+            return ps.executeUpdate();
         } catch (SQLException e) {
-            throw new DaoException("assignStudents: 배정 삽입 실패", e);
+            throw new DaoException("removeOutsideTargets 실패: examId=" + examId, e);
         }
     }
 
     @Override
     public void removeAssignments(int examId) throws DaoException {
         String sql = "DELETE FROM exam_assignments WHERE exam_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             ps.executeUpdate();
         } catch (SQLException e) {
@@ -45,11 +130,49 @@ public class ExamAssignmentDaoImpl implements ExamAssignmentDao {
         }
     }
 
+    @Override
+    public boolean isOpenFor(int userId, int examId, int graceSeconds) throws DaoException {
+        String sql = """
+            SELECT 1
+              FROM exam_assignments a
+              JOIN exams e ON e.exam_id = a.exam_id
+             WHERE a.user_id = ? AND a.exam_id = ?
+               AND e.start_date <= NOW()
+               AND e.end_date   >= NOW() - INTERVAL ? SECOND
+            """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            ps.setInt(2, examId);
+            ps.setInt(3, graceSeconds);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new DaoException("isOpenFor 실패: userId=" + userId + ", examId=" + examId, e);
+        }
+    }
+
+    @Override
+    public boolean lockAssignment(Connection conn, int userId, int examId) throws DaoException {
+        String sql = "SELECT 1 FROM exam_assignments WHERE user_id = ? AND exam_id = ? FOR UPDATE";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            ps.setInt(2, examId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new DaoException("lockAssignment 실패: userId=" + userId + ", examId=" + examId, e);
+        }
+    }
+
     @Override
     public List<Integer> findExamIdsByUser(int userId) throws DaoException {
         String sql = "SELECT exam_id FROM exam_assignments WHERE user_id = ?";
         List<Integer> exams = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, userId);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -66,7 +189,8 @@ public class ExamAssignmentDaoImpl implements ExamAssignmentDao {
     public List<Integer> findUserIdsByExam(int examId) throws DaoException {
         String sql = "SELECT user_id FROM exam_assignments WHERE exam_id = ?";
         List<Integer> users = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
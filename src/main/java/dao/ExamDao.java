@@ -1,6 +1,8 @@
 package main.java.dao;
 
 import main.java.model.Exam;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -13,9 +15,25 @@ public interface ExamDao {
     /** 모든 시험 조회 */
     List<Exam> findAll() throws DaoException;
 
+    /**
+     * 모든 시험을 fetchSize 단위로 나눠 읽으며 한 건씩 handler에 넘긴다. (exam_id 오름차순)
+     * @param fetchSize 한 번에 받아올 행 수 (0 이하이면 기본값 cbt.db.fetchSize)
+     */
+    void streamAll(int fetchSize, RowHandler<Exam> handler) throws DaoException;
+
+    /**
+     * exam_id 기준 키셋 페이지 조회
+     * @param afterExamId 이전 페이지의 마지막 exam_id (첫 페이지는 0)
+     * @param limit       페이지 크기
+     */
+    List<Exam> findPage(int afterExamId, int limit) throws DaoException;
+
     /** 열려 있는(OPEN) 시험 목록 조회 */
     List<Exam> findOpenExams() throws DaoException;
 
+    /** 아직 끝나지 않았고 until 이전에 시작하는 시험 목록 (진행 중 + 곧 시작, 시작일 오름차순) */
+    List<Exam> findStartingBy(LocalDateTime until) throws DaoException;
+
     /**
      * 새 Exam을 저장하고, 생성된 PK를 exam.examId에 설정한다.
      * @param exam 저장할 Exam 객체(subject, startDate, endDate, durationMinutes, questionCnt)
@@ -30,4 +48,10 @@ public interface ExamDao {
     void updateQuestionCount(int examId, int questionCnt) throws DaoException;
     List<Exam> findAllByDpmtAndGrade(int dpmtId, int grade) throws DaoException;
     List<Exam> findAllByUser(int userId) throws DaoException;
+
+    /** 학생에게 배정된 모든 시험을 exam_assignments JOIN 한 번으로 조회 (시작일 내림차순) */
+    List<Exam> findAssignedByUser(int userId) throws DaoException;
+
+    /** 학생에게 배정된 시험 중 현재 응시 기간인 것만 조회 (기간 조건은 SQL에서 처리) */
+    List<Exam> findAssignedOpenByUser(int userId) throws DaoException;
 }
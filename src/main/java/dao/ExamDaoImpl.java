@@ -13,29 +13,20 @@ import java.util.List;
  * ExamDao 구현체 (JDBC)
  */
 public class ExamDaoImpl implements ExamDao {
-    private final Connection conn = DBConnection.getConnection();
+    private static final String EXAM_COLUMNS =
+            "e.exam_id, e.subject, e.created_at, e.start_date, e.end_date, e.duration_minutes, e.question_cnt";
+
+    /** exams 행 → Exam 공용 변환기 */
+    static final RowMapper<Exam> EXAM_MAPPER = ExamDaoImpl::mapExam;
 
     @Override
     public Exam findById(int examId) throws DaoException {
-        String sql = """
-            SELECT exam_id, subject, start_date, end_date, duration_minutes, question_cnt
-              FROM exams
-             WHERE exam_id = ?
-        """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        String sql = "SELECT " + EXAM_COLUMNS + " FROM exams e WHERE e.exam_id = ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    Exam exam = new Exam();
-                    exam.setExamId(rs.getInt("exam_id"));
-                    exam.setSubject(rs.getString("subject"));
-                    exam.setStartDate(rs.getTimestamp("start_date").toLocalDateTime());
-                    exam.setEndDate(rs.getTimestamp("end_date").toLocalDateTime());
-                    exam.setDurationMinutes(rs.getInt("duration_minutes"));
-                    exam.setQuestionCnt(rs.getInt("question_cnt"));
-                    return exam;
-                }
-                return null;
+                return rs.next() ? mapExam(rs) : null;
             }
         } catch (SQLException e) {
             throw new DaoException("findById 실패: examId=" + examId, e);
@@ -44,47 +35,89 @@ public class ExamDaoImpl implements ExamDao {
 
     @Override
     public List<Exam> findAll() throws DaoException {
-        String sql = "SELECT exam_id FROM exams";
-        try (Statement stmt = conn.createStatement();
+        String sql = "SELECT " + EXAM_COLUMNS + " FROM exams e ORDER BY e.exam_id";
+        try (Connection conn = DBConnection.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             List<Exam> list = new ArrayList<>();
-            while (rs.next()) {
-                list.add(findById(rs.getInt("exam_id")));
-            }
+            while (rs.next()) list.add(mapExam(rs));
             return list;
         } catch (SQLException e) {
             throw new DaoException("findAll 실패", e);
         }
     }
 
+    @Override
+    public void streamAll(int fetchSize, RowHandler<Exam> handler) throws DaoException {
+        String sql = "SELECT " + EXAM_COLUMNS + " FROM exams e ORDER BY e.exam_id";
+        DaoSupport.stream(sql, fetchSize, EXAM_MAPPER, handler);
+    }
+
+    @Override
+    public List<Exam> findPage(int afterExamId, int limit) throws DaoException {
+        String sql = "SELECT " + EXAM_COLUMNS + " FROM exams e WHERE e.exam_id > ? ORDER BY e.exam_id LIMIT ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, afterExamId);
+            ps.setInt(2, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Exam> list = new ArrayList<>();
+                while (rs.next()) list.add(mapExam(rs));
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("findPage 실패: afterExamId=" + afterExamId, e);
+        }
+    }
+
     @Override
     public List<Exam> findOpenExams() throws DaoException {
-        String sql = """
-            SELECT exam_id
-              FROM exams
-             WHERE start_date <= NOW()
-               AND end_date   >= NOW()
-             ORDER BY start_date
+        String sql = "SELECT " + EXAM_COLUMNS + """
+              FROM exams e
+             WHERE e.start_date <= NOW()
+               AND e.end_date   >= NOW()
+             ORDER BY e.start_date
         """;
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = DBConnection.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             List<Exam> list = new ArrayList<>();
-            while (rs.next()) {
-                list.add(findById(rs.getInt("exam_id")));
-            }
+            while (rs.next()) list.add(mapExam(rs));
             return list;
         } catch (SQLException e) {
             throw new DaoException("findOpenExams 실패", e);
         }
     }
 
+    @Override
+    public List<Exam> findStartingBy(LocalDateTime until) throws DaoException {
+        String sql = "SELECT " + EXAM_COLUMNS + """
+              FROM exams e
+             WHERE e.start_date <= ?
+               AND e.end_date   >= NOW()
+             ORDER BY e.start_date
+        """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, Timestamp.valueOf(until));
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Exam> list = new ArrayList<>();
+                while (rs.next()) list.add(mapExam(rs));
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("findStartingBy 실패: until=" + until, e);
+        }
+    }
+
     @Override
     public void insert(Exam exam) throws DaoException {
         String sql = """
             INSERT INTO exams (subject, start_date, end_date, duration_minutes, question_cnt)
             VALUES (?, ?, ?, ?, ?)
         """;
-        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             ps.setString(1, exam.getSubject());
             ps.setTimestamp(2, Timestamp.valueOf(exam.getStartDate()));
             ps.setTimestamp(3, Timestamp.valueOf(exam.getEndDate()));
@@ -104,7 +137,8 @@ public class ExamDaoImpl implements ExamDao {
     @Override
     public void updateQuestionCount(int examId, int questionCnt) throws DaoException {
         String sql = "UPDATE exams SET question_cnt = ? WHERE exam_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, questionCnt);
             ps.setInt(2, examId);
             ps.executeUpdate();
@@ -113,27 +147,18 @@ public class ExamDaoImpl implements ExamDao {
         }
     }
     public List<Exam> findAllByDpmtAndGrade(int dpmtId, int grade) throws DaoException {
-        String sql = "SELECT e.* " +
+        String sql = "SELECT " + EXAM_COLUMNS + " " +
                 "FROM exams e " +
                 "JOIN examsdepartment ed ON e.exam_id = ed.exam_id " +
                 "WHERE ed.dpmt_id = ? AND ed.grade = ? " +
                 "ORDER BY e.start_date DESC";
         List<Exam> list = new ArrayList<>();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, dpmtId);
             pstmt.setInt(2, grade);
             ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                Exam exam = new Exam();
-                exam.setExamId(rs.getInt("exam_id"));
-                exam.setSubject(rs.getString("subject"));
-                exam.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-                exam.setStartDate(rs.getTimestamp("start_date").toLocalDateTime());
-                exam.setEndDate(rs.getTimestamp("end_date").toLocalDateTime());
-                exam.setDurationMinutes(rs.getInt("duration_minutes"));
-                exam.setQuestionCnt(rs.getInt("question_cnt"));
-                list.add(exam);
-            }
+            while (rs.next()) list.add(mapExam(rs));
             return list;
         } catch (SQLException e) {
             throw new DaoException("Error finding all Exams by dpmtId and grade", e);
@@ -142,30 +167,78 @@ public class ExamDaoImpl implements ExamDao {
 
     @Override
     public List<Exam> findAllByUser(int userId) throws DaoException {
-        String sql = "SELECT DISTINCT e.* FROM exams e " +
+        String sql = "SELECT DISTINCT " + EXAM_COLUMNS + " FROM exams e " +
                 "JOIN examresults r ON e.exam_id = r.exam_id " +
                 "WHERE r.user_id = ? ORDER BY e.start_date DESC";
         List<Exam> list = new ArrayList<>();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId); // ★★★ 반드시 바인딩!
             ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                Exam exam = new Exam();
-                exam.setExamId(rs.getInt("exam_id"));
-                exam.setSubject(rs.getString("subject"));
-                Timestamp createdTs = rs.getTimestamp("created_at");
-                exam.setCreatedAt(createdTs != null ? createdTs.toLocalDateTime() : null);
-                Timestamp startTs = rs.getTimestamp("start_date");
-                exam.setStartDate(startTs != null ? startTs.toLocalDateTime() : null);
-                Timestamp endTs = rs.getTimestamp("end_date");
-                exam.setEndDate(endTs != null ? endTs.toLocalDateTime() : null);
-                exam.setDurationMinutes(rs.getInt("duration_minutes"));
-                exam.setQuestionCnt(rs.getInt("question_cnt"));
-                list.add(exam);
-            }
+            while (rs.next()) list.add(mapExam(rs));
             return list;
         } catch (SQLException e) {
             throw new DaoException("Error finding all Exams by userId", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Exam> findAssignedByUser(int userId) throws DaoException {
+        String sql = "SELECT " + EXAM_COLUMNS + """
+              FROM exam_assignments a
+              JOIN exams e ON e.exam_id = a.exam_id
+             WHERE a.user_id = ?
+             ORDER BY e.start_date DESC
+        """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Exam> list = new ArrayList<>();
+                while (rs.next()) list.add(mapExam(rs));
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("findAssignedByUser 실패: userId=" + userId, e);
+        }
+    }
+
+    @Override
+    public List<Exam> findAssignedOpenByUser(int userId) throws DaoException {
+        String sql = "SELECT " + EXAM_COLUMNS + """
+              FROM exam_assignments a
+              JOIN exams e ON e.exam_id = a.exam_id
+             WHERE a.user_id = ?
+               AND e.start_date <= NOW()
+               AND e.end_date   >= NOW()
+             ORDER BY e.start_date
+        """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Exam> list = new ArrayList<>();
+                while (rs.next()) list.add(mapExam(rs));
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("findAssignedOpenByUser 실패: userId=" + userId, e);
+        }
+    }
+
+    /** exams 행 하나를 Exam으로 변환 (NULL 날짜 허용) */
+    private static Exam mapExam(ResultSet rs) throws SQLException {
+        Exam exam = new Exam();
+        exam.setExamId(rs.getInt("exam_id"));
+        exam.setSubject(rs.getString("subject"));
+        Timestamp createdTs = rs.getTimestamp("created_at");
+        exam.setCreatedAt(createdTs != null ? createdTs.toLocalDateTime() : null);
+        Timestamp startTs = rs.getTimestamp("start_date");
+        exam.setStartDate(startTs != null ? startTs.toLocalDateTime() : null);
+        Timestamp endTs = rs.getTimestamp("end_date");
+        exam.setEndDate(endTs != null ? endTs.toLocalDateTime() : null);
+        exam.setDurationMinutes(rs.getInt("duration_minutes"));
+        exam.setQuestionCnt(rs.getInt("question_cnt"));
+        return exam;
+    }
+}
@@ -1,12 +1,28 @@
 package main.java.dao;
 
 import main.java.model.ExamResult;
+
+import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * examresults 접근
+ * - 학생당 시험 결과는 하나다. ExamServiceImpl.submitExam이 배정 행 잠금으로 한 번만 저장하고,
+ *   DB에서도 막으려면 다음 키를 둔다.
+ *   ALTER TABLE examresults ADD UNIQUE KEY uk_examresults_user_exam (user_id, exam_id);
+ */
 public interface ExamResultDao {
     void insert(ExamResult result) throws DaoException;
+    /** 호출자가 관리하는 트랜잭션(conn) 안에서 결과를 저장한다. */
+    void insert(Connection conn, ExamResult result) throws DaoException;
     ExamResult findByUserAndExam(int userId, int examId) throws DaoException;
     Map<Integer, ExamResult> findAllByUser(int userId) throws DaoException;
+    /** 시험의 결과 전체 (user_id → 결과) */
+    Map<Integer, ExamResult> findAllByExam(int examId) throws DaoException;
     boolean existsByUserAndExam(int userId, int examId) throws DaoException;
+    /** 호출자 트랜잭션(conn) 안에서 잠금 읽기로 결과 존재 여부를 확인한다. (스냅샷이 아닌 최신 커밋 기준) */
+    boolean existsByUserAndExam(Connection conn, int userId, int examId) throws DaoException;
+    /** 시험의 가장 큰 result_id (결과가 없으면 0) */
+    int maxResultId(int examId) throws DaoException;
 }
@@ -10,12 +10,30 @@ import java.util.List;
 import java.util.Map;
 
 public class ExamResultDaoImpl implements ExamResultDao {
-    private final Connection conn = DBConnection.getConnection();
+    // 풀의 PreparedStatement 캐시는 SQL 문자열로 구분한다. (상수는 문장을 한곳에 모아 두려는 것일 뿐)
+    static final String SQL_INSERT =
+            "INSERT INTO examresults(exam_id, user_id, score, completed_at) VALUES(?,?,?,?)";
+    static final String SQL_FIND_BY_USER_AND_EXAM = "SELECT * FROM examresults WHERE user_id=? AND exam_id=?";
+    static final String SQL_EXISTS_BY_USER_AND_EXAM =
+            "SELECT COUNT(*) FROM examresults WHERE user_id = ? AND exam_id = ?";
+    static final String SQL_EXISTS_BY_USER_AND_EXAM_LOCKING =
+            "SELECT COUNT(*) FROM examresults WHERE user_id = ? AND exam_id = ? LOCK IN SHARE MODE";
+    static final String SQL_FIND_ALL_BY_USER = "SELECT * FROM examresults WHERE user_id = ?";
+    static final String SQL_FIND_ALL_BY_EXAM = "SELECT * FROM examresults WHERE exam_id = ?";
+    static final String SQL_MAX_RESULT_ID = "SELECT COALESCE(MAX(result_id), 0) FROM examresults WHERE exam_id = ?";
 
     @Override
     public void insert(ExamResult result) throws DaoException {
-        String sql = "INSERT INTO examresults(exam_id, user_id, score, completed_at) VALUES(?,?,?,?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection()) {
+            insert(conn, result);
+        } catch (SQLException e) {
+            throw new DaoException("Error inserting ExamResult", e);
+        }
+    }
+
+    @Override
+    public void insert(Connection conn, ExamResult result) throws DaoException {
+        try (PreparedStatement pstmt = conn.prepareStatement(SQL_INSERT, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, result.getExamId());
             pstmt.setInt(2, result.getUserId());
             pstmt.setInt(3, result.getScore());
@@ -30,8 +48,8 @@ public class ExamResultDaoImpl implements ExamResultDao {
 
     @Override
     public ExamResult findByUserAndExam(int userId, int examId) throws DaoException {
-        String sql = "SELECT * FROM examresults WHERE user_id=? AND exam_id=?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_FIND_BY_USER_AND_EXAM)) {
             pstmt.setInt(1, userId);
             pstmt.setInt(2, examId);
             ResultSet rs = pstmt.executeQuery();
@@ -50,11 +68,36 @@ public class ExamResultDaoImpl implements ExamResultDao {
         }
     }
 
+    @Override
+    public boolean existsByUserAndExam(Connection conn, int userId, int examId) throws DaoException {
+        try (PreparedStatement pstmt = conn.prepareStatement(SQL_EXISTS_BY_USER_AND_EXAM_LOCKING)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, examId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("시험 응시 이력 조회 실패", e);
+        }
+    }
+
+    @Override
+    public int maxResultId(int examId) throws DaoException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_MAX_RESULT_ID)) {
+            pstmt.setInt(1, examId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Error finding max result id", e);
+        }
+    }
+
     @Override
     public boolean existsByUserAndExam(int userId, int examId) throws DaoException {
-        String sql = "SELECT COUNT(*) FROM examresults WHERE user_id = ? AND exam_id = ?";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+             PreparedStatement pstmt = conn.prepareStatement(SQL_EXISTS_BY_USER_AND_EXAM)) {
             pstmt.setInt(1, userId);
             pstmt.setInt(2, examId);
             try (ResultSet rs = pstmt.executeQuery()) {
@@ -67,9 +110,9 @@ public class ExamResultDaoImpl implements ExamResultDao {
 
     @Override
     public Map<Integer, ExamResult> findAllByUser(int userId) throws DaoException {
-        String sql = "SELECT * FROM examresults WHERE user_id = ?";
         Map<Integer, ExamResult> map = new HashMap<>();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_FIND_ALL_BY_USER)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
@@ -86,4 +129,26 @@ public class ExamResultDaoImpl implements ExamResultDao {
             throw new DaoException("Error finding all ExamResults by user", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Integer, ExamResult> findAllByExam(int examId) throws DaoException {
+        Map<Integer, ExamResult> map = new HashMap<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_FIND_ALL_BY_EXAM)) {
+            pstmt.setInt(1, examId);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                ExamResult er = new ExamResult();
+                er.setResultId(rs.getInt("result_id"));
+                er.setExamId(examId);
+                er.setUserId(rs.getInt("user_id"));
+                er.setScore(rs.getInt("score"));
+                er.setCompletedAt(rs.getTimestamp("completed_at").toLocalDateTime());
+                map.put(er.getUserId(), er);
+            }
+            return map;
+        } catch (SQLException e) {
+            throw new DaoException("Error finding all ExamResults by exam", e);
+        }
+    }
+}
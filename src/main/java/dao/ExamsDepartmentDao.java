@@ -1,6 +1,8 @@
 package main.java.dao;
 
 import main.java.model.ExamsDepartment;
+
+import java.sql.Connection;
 import java.util.List;
 
 public interface ExamsDepartmentDao {
@@ -23,4 +25,10 @@ public interface ExamsDepartmentDao {
      * examId에 해당하는 모든 매핑 삭제 (시험 삭제 시 연동)
      */
     void deleteByExamId(int examId) throws DaoException;
+
+    /**
+     * 호출자 트랜잭션(conn) 안에서 examId의 응시 대상을 targets로 교체한다.
+     * (기존 매핑 삭제 후 다중 행 INSERT 한 번)
+     */
+    void replaceTargets(Connection conn, int examId, List<ExamsDepartment> targets) throws DaoException;
 }
\ No newline at end of file
@@ -2,14 +2,13 @@ package main.java.dao;
 
 import main.java.model.ExamsDepartment;
 import main.java.util.DBConnection;
+import main.java.util.SqlBatch;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ExamsDepartmentDaoImpl implements ExamsDepartmentDao {
-    private final Connection conn = DBConnection.getConnection();
-
     @Override
     public List<ExamsDepartment> findByExamId(int examId) throws DaoException {
         String sql = """
@@ -17,7 +16,8 @@ public class ExamsDepartmentDaoImpl implements ExamsDepartmentDao {
               FROM examsdepartment
              WHERE exam_id = ?
             """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             try (ResultSet rs = ps.executeQuery()) {
                 List<ExamsDepartment> list = new ArrayList<>();
@@ -41,7 +41,8 @@ public class ExamsDepartmentDaoImpl implements ExamsDepartmentDao {
             INSERT INTO examsdepartment (exam_id, dpmt_id, grade)
             VALUES (?, ?, ?)
             """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, ed.getExamId());
             ps.setInt(2, ed.getDpmtId());
             ps.setInt(3, ed.getGrade());
@@ -57,7 +58,8 @@ public class ExamsDepartmentDaoImpl implements ExamsDepartmentDao {
             DELETE FROM examsdepartment
              WHERE exam_id = ? AND dpmt_id = ? AND grade = ?
             """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             ps.setInt(2, dpmtId);
             ps.setInt(3, grade);
@@ -74,11 +76,40 @@ public class ExamsDepartmentDaoImpl implements ExamsDepartmentDao {
             DELETE FROM examsdepartment
              WHERE exam_id = ?
             """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new DaoException("deleteByExamId 실패: examId=" + examId, e);
         }
     }
+
+    @Override
+    public void replaceTargets(Connection conn, int examId, List<ExamsDepartment> targets) throws DaoException {
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM examsdepartment WHERE exam_id = ?")) {
+            ps.setInt(1, examId);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("replaceTargets: 기존 대상 삭제 실패: examId=" + examId, e);
+        }
+        if (targets.isEmpty()) return;
+        for (int from = 0; from < targets.size(); ) {
+            int n = SqlBatch.chunkSize(targets.size() - from);
+            List<ExamsDepartment> chunk = targets.subList(from, from + n);
+            from += n;
+            String sql = "INSERT IGNORE INTO examsdepartment (exam_id, dpmt_id, grade) VALUES " + SqlBatch.repeat("(?,?,?)", n);
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int idx = 1;
+                for (ExamsDepartment ed : chunk) {
+                    ps.setInt(idx++, examId);
+                    ps.setInt(idx++, ed.getDpmtId());
+                    ps.setInt(idx++, ed.getGrade());
+                }
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new DaoException("replaceTargets: 대상 삽입 실패: examId=" + examId, e);
+            }
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package main.java.dao;
 
 import main.java.model.QuestionBank;
+
+import java.sql.Connection;
 import java.util.List;
 
 public interface QuestionBankDao {
     QuestionBank findById(int questionId) throws DaoException;
     List<QuestionBank> findByExamId(int examId) throws DaoException;
     void insert(QuestionBank qb) throws DaoException;
+    /** JDBC 배치 한 번으로 삽입하고, 생성된 question_id를 입력 순서대로 각 객체에 채운다. */
+    void insertAll(Connection conn, List<QuestionBank> banks) throws DaoException;
     void deleteByExamId(int examId) throws DaoException;
     int countByExamId(int examId) throws DaoException;
 }
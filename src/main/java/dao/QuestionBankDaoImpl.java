@@ -8,12 +8,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class QuestionBankDaoImpl implements QuestionBankDao {
-    private final Connection conn = DBConnection.getConnection();
+    /** executeBatch 한 번에 보내는 최대 행 수 */
+    static final int MAX_BATCH_ROWS = 1000;
 
     @Override
     public QuestionBank findById(int questionId) throws DaoException {
         String sql = "SELECT * FROM question_bank WHERE question_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, questionId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) return new QuestionBank(
@@ -29,7 +31,8 @@ public class QuestionBankDaoImpl implements QuestionBankDao {
     @Override
     public List<QuestionBank> findByExamId(int examId) throws DaoException {
         String sql = "SELECT * FROM question_bank WHERE exam_id = ? ORDER BY question_id";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, examId);
             ResultSet rs = pstmt.executeQuery();
             List<QuestionBank> list = new ArrayList<>();
@@ -45,7 +48,8 @@ public class QuestionBankDaoImpl implements QuestionBankDao {
     @Override
     public void insert(QuestionBank qb) throws DaoException {
         String sql = "INSERT INTO question_bank(exam_id, type, question_text) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, qb.getExamId());
             pstmt.setString(2, qb.getType());
             pstmt.setString(3, qb.getQuestionText());
@@ -57,9 +61,38 @@ public class QuestionBankDaoImpl implements QuestionBankDao {
         }
     }
 
+    @Override
+    public void insertAll(Connection conn, List<QuestionBank> banks) throws DaoException {
+        if (banks.isEmpty()) return;
+        String sql = "INSERT INTO question_bank(exam_id, type, question_text) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            // 배치 하나가 너무 커지지 않도록 MAX_BATCH_ROWS행씩 보내고, 배치마다 생성 키를 순서대로 회수한다.
+            for (int from = 0; from < banks.size(); from += MAX_BATCH_ROWS) {
+                List<QuestionBank> chunk = banks.subList(from, Math.min(from + MAX_BATCH_ROWS, banks.size()));
+                for (QuestionBank qb : chunk) {
+                    pstmt.setInt(1, qb.getExamId());
+                    pstmt.setString(2, qb.getType());
+                    pstmt.setString(3, qb.getQuestionText());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                    int i = 0;
+                    while (i < chunk.size() && rs.next()) chunk.get(i++).setQuestionId(rs.getInt(1));
+                    if (i != chunk.size()) {
+                        throw new DaoException("생성된 question_id 수가 맞지 않습니다: " + i + "/" + chunk.size());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Error batch inserting QuestionBanks", e);
+        }
+    }
+
     @Override
     public void deleteByExamId(int examId) throws DaoException {
-        try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM question_bank WHERE exam_id = ?")) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("DELETE FROM question_bank WHERE exam_id = ?")) {
             pstmt.setInt(1, examId);
             pstmt.executeUpdate();
         } catch (SQLException e) {
@@ -70,7 +103,8 @@ public class QuestionBankDaoImpl implements QuestionBankDao {
     @Override
     public int countByExamId(int examId) throws DaoException {
         String sql = "SELECT COUNT(*) FROM question_bank WHERE exam_id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, examId);
             try (ResultSet rs = ps.executeQuery()) {
                 return rs.next() ? rs.getInt(1) : 0;
@@ -1,24 +1,64 @@
 package main.java.dao;
 
 import main.java.model.*;
+import main.java.util.DBConnection;
+
+import java.sql.*;
 import java.util.List;
 import java.util.ArrayList;
 
+/**
+ * QuestionDao 구현체 (JDBC)
+ * - 문제·선택지·정답키를 LEFT JOIN 한 번으로 읽어 QuestionFull 목록을 만든다.
+ */
 public class QuestionDaoImpl implements QuestionDao {
-    private final QuestionBankDao qbDao = new QuestionBankDaoImpl();
-    private final QuestionOptionDao qoDao = new QuestionOptionDaoImpl();
-    private final AnswerKeyDao akDao = new AnswerKeyDaoImpl();
 
     @Override
     public List<QuestionFull> findFullByExamId(int examId) throws DaoException {
-        List<QuestionBank> banks = qbDao.findByExamId(examId);
-        List<QuestionFull> fullList = new ArrayList<>();
-        for (QuestionBank qb : banks) {
-            int qId = qb.getQuestionId();
-            List<QuestionOption> opts = qoDao.findByQuestionId(qId);
-            AnswerKey ak = akDao.findByQuestionId(qId);
-            fullList.add(new QuestionFull(qb, opts, ak));
+        // answer_key는 문제당 최대 1행이므로 선택지 수만큼만 행이 늘어난다.
+        String sql = """
+            SELECT qb.question_id, qb.exam_id, qb.type, qb.question_text,
+                   o.option_id, o.option_label, o.content,
+                   ak.question_id AS ak_question_id, ak.correct_label, ak.correct_text
+              FROM question_bank qb
+              LEFT JOIN question_option o ON o.question_id = qb.question_id
+              LEFT JOIN answer_key ak     ON ak.question_id = qb.question_id
+             WHERE qb.exam_id = ?
+             ORDER BY qb.question_id, o.option_label
+        """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, examId);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<QuestionFull> fullList = new ArrayList<>();
+                QuestionFull current = null;
+                while (rs.next()) {
+                    int qId = rs.getInt("question_id");
+                    // 정렬되어 있으므로 question_id가 바뀌는 행에서 새 문제를 시작한다.
+                    if (current == null || current.getQuestionId() != qId) {
+                        QuestionBank qb = new QuestionBank(
+                                qId, rs.getInt("exam_id"), rs.getString("type"), rs.getString("question_text"));
+                        AnswerKey ak = null;
+                        rs.getInt("ak_question_id");
+                        if (!rs.wasNull()) {
+                            String label = rs.getString("correct_label");
+                            ak = new AnswerKey(qId,
+                                    label != null && !label.isEmpty() ? label.charAt(0) : null,
+                                    rs.getString("correct_text"));
+                        }
+                        current = new QuestionFull(qb, new ArrayList<>(), ak);
+                        fullList.add(current);
+                    }
+                    int optionId = rs.getInt("option_id");
+                    if (!rs.wasNull()) {
+                        current.getOptions().add(new QuestionOption(
+                                optionId, qId, rs.getString("option_label").charAt(0), rs.getString("content")));
+                    }
+                }
+                return fullList;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("findFullByExamId 실패: examId=" + examId, e);
         }
-        return fullList;
     }
 }
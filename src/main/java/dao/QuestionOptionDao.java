@@ -1,11 +1,15 @@
 package main.java.dao;
 
 import main.java.model.QuestionOption;
+
+import java.sql.Connection;
 import java.util.List;
 
 public interface QuestionOptionDao {
     List<QuestionOption> findByQuestionId(int questionId) throws DaoException;
     void insert(QuestionOption option) throws DaoException;
+    /** JDBC 배치 한 번으로 삽입한다. (option_id는 채우지 않는다) */
+    void insertAll(Connection conn, List<QuestionOption> options) throws DaoException;
     void deleteByQuestionId(int questionId) throws DaoException;
 }
 
@@ -8,12 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class QuestionOptionDaoImpl implements QuestionOptionDao {
-    private final Connection conn = DBConnection.getConnection();
-
     @Override
     public List<QuestionOption> findByQuestionId(int questionId) throws DaoException {
         String sql = "SELECT * FROM question_option WHERE question_id = ? ORDER BY option_label";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, questionId);
             ResultSet rs = pstmt.executeQuery();
             List<QuestionOption> list = new ArrayList<>();
@@ -34,7 +33,8 @@ public class QuestionOptionDaoImpl implements QuestionOptionDao {
     @Override
     public void insert(QuestionOption option) throws DaoException {
         String sql = "INSERT INTO question_option(question_id, option_label, content) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, option.getQuestionId());
             pstmt.setString(2, String.valueOf(option.getOptionLabel()));
             pstmt.setString(3, option.getContent());
@@ -46,10 +46,30 @@ public class QuestionOptionDaoImpl implements QuestionOptionDao {
         }
     }
 
+    @Override
+    public void insertAll(Connection conn, List<QuestionOption> options) throws DaoException {
+        if (options.isEmpty()) return;
+        String sql = "INSERT INTO question_option(question_id, option_label, content) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int n = 0;
+            for (QuestionOption option : options) {
+                pstmt.setInt(1, option.getQuestionId());
+                pstmt.setString(2, String.valueOf(option.getOptionLabel()));
+                pstmt.setString(3, option.getContent());
+                pstmt.addBatch();
+                if (++n % QuestionBankDaoImpl.MAX_BATCH_ROWS == 0) pstmt.executeBatch();
+            }
+            pstmt.executeBatch();
+        } catch (SQLException e) {
+            throw new DaoException("Error batch inserting QuestionOptions", e);
+        }
+    }
+
     @Override
     public void deleteByQuestionId(int questionId) throws DaoException {
         String sql = "DELETE FROM question_option WHERE question_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, questionId);
             pstmt.executeUpdate();
         } catch (SQLException e) {
@@ -0,0 +1,10 @@
+package main.java.dao;
+
+/**
+ * 스트리밍 조회에서 행을 하나씩 받아 처리하는 콜백
+ * - 목록 전체를 메모리에 올리지 않고 내보내기 등에 사용한다.
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+    void handle(T row) throws Exception;
+}
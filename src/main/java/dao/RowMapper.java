@@ -0,0 +1,12 @@
+package main.java.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet의 현재 행 하나를 모델 객체로 변환하는 함수
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,30 @@
+package main.java.dao;
+
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * 미리 계산한 문항·시험 통계(question_stats, exam_stats) 저장소
+ */
+public interface StatisticsDao {
+    /**
+     * 시험 한 개의 통계를 통째로 교체한다. (기존 행 삭제 후 다중 행 INSERT)
+     * 커밋/롤백은 conn을 넘겨준 호출자가 관리한다.
+     */
+    void replaceExamStats(Connection conn, ExamStat examStat, List<QuestionStat> questionStats) throws DaoException;
+
+    /**
+     * 제출 증분(delta)을 저장된 통계에 더한다. (응시 수·정답 수·점수 합·분포는 합산, 최저/최고는 비교, 정답률·평균은 재계산)
+     * 커밋/롤백은 conn을 넘겨준 호출자가 관리한다.
+     */
+    void mergeExamStats(Connection conn, ExamStat delta, List<QuestionStat> questionDeltas) throws DaoException;
+
+    /** 시험의 문항 통계 (question_id 오름차순) */
+    List<QuestionStat> findQuestionStats(int examId) throws DaoException;
+
+    /** 시험 통계 (계산한 적이 없으면 null) */
+    ExamStat findExamStat(int examId) throws DaoException;
+}
@@ -0,0 +1,197 @@
+package main.java.dao;
+
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+import main.java.util.DBConnection;
+import main.java.util.SqlBatch;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StatisticsDao 구현체 (JDBC)
+ * <pre>
+ * CREATE TABLE question_stats (
+ *     question_id   INT PRIMARY KEY,
+ *     exam_id       INT NOT NULL,
+ *     attempts      INT NOT NULL,
+ *     correct_count INT NOT NULL,
+ *     correct_rate  FLOAT NOT NULL,
+ *     question_type VARCHAR(10),
+ *     sub_subject   VARCHAR(100),
+ *     INDEX idx_question_stats_exam (exam_id)
+ * );
+ * CREATE TABLE exam_stats (
+ *     exam_id      INT PRIMARY KEY,
+ *     participants INT NOT NULL,
+ *     question_cnt INT NOT NULL,
+ *     score_sum    BIGINT NOT NULL,
+ *     avg_score    FLOAT NOT NULL,
+ *     min_score    INT NOT NULL,
+ *     max_score    INT NOT NULL,
+ *     computed_at  DATETIME NOT NULL
+ * );
+ * CREATE TABLE exam_score_dist (
+ *     exam_id INT NOT NULL,
+ *     bucket  TINYINT NOT NULL,
+ *     cnt     INT NOT NULL,
+ *     PRIMARY KEY (exam_id, bucket)
+ * );
+ * </pre>
+ */
+public class StatisticsDaoImpl implements StatisticsDao {
+    @Override
+    public void replaceExamStats(Connection conn, ExamStat examStat, List<QuestionStat> questionStats) throws DaoException {
+        int examId = examStat.getExamId();
+        try (PreparedStatement del1 = conn.prepareStatement("DELETE FROM question_stats WHERE exam_id = ?");
+             PreparedStatement del2 = conn.prepareStatement("DELETE FROM exam_score_dist WHERE exam_id = ?");
+             PreparedStatement del3 = conn.prepareStatement("DELETE FROM exam_stats WHERE exam_id = ?")) {
+            del1.setInt(1, examId); del1.executeUpdate();
+            del2.setInt(1, examId); del2.executeUpdate();
+            del3.setInt(1, examId); del3.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("Error deleting stats for replace", e);
+        }
+        // 빈 테이블에 증분 병합과 같은 문장으로 넣으면 교체가 된다.
+        mergeExamStats(conn, examStat, questionStats);
+    }
+
+    @Override
+    public void mergeExamStats(Connection conn, ExamStat delta, List<QuestionStat> questionDeltas) throws DaoException {
+        // ON DUPLICATE KEY UPDATE의 대입은 왼쪽부터 적용되므로 뒤의 식은 갱신된 값을 본다.
+        for (int from = 0; from < questionDeltas.size(); ) {
+            int n = SqlBatch.chunkSize(questionDeltas.size() - from);
+            List<QuestionStat> chunk = questionDeltas.subList(from, from + n);
+            from += n;
+            StringBuilder sql = new StringBuilder("INSERT INTO question_stats"
+                    + "(question_id, exam_id, attempts, correct_count, correct_rate, question_type, sub_subject) VALUES ");
+            sql.append(SqlBatch.repeat("(?,?,?,?,?,?,?)", n));
+            sql.append(" ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts),"
+                    + " correct_count = correct_count + VALUES(correct_count),"
+                    + " correct_rate = IF(attempts = 0, 0, correct_count / attempts),"
+                    + " question_type = VALUES(question_type), sub_subject = VALUES(sub_subject)");
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                int idx = 1;
+                for (QuestionStat stat : chunk) {
+                    pstmt.setInt(idx++, stat.getQuestionId());
+                    pstmt.setInt(idx++, delta.getExamId());
+                    pstmt.setInt(idx++, stat.getAttempts());
+                    pstmt.setInt(idx++, stat.getCorrectCount());
+                    pstmt.setFloat(idx++, stat.getCorrectRate());
+                    pstmt.setString(idx++, stat.getQuestionType());
+                    pstmt.setString(idx++, stat.getSubSubject());
+                }
+                pstmt.executeUpdate();
+            } catch (SQLException e) {
+                throw new DaoException("Error merging QuestionStats", e);
+            }
+        }
+
+        String sql = """
+            INSERT INTO exam_stats (exam_id, participants, question_cnt, score_sum, avg_score, min_score, max_score, computed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                min_score    = IF(participants = 0, VALUES(min_score), LEAST(min_score, VALUES(min_score))),
+                max_score    = IF(participants = 0, VALUES(max_score), GREATEST(max_score, VALUES(max_score))),
+                participants = participants + VALUES(participants),
+                score_sum    = score_sum + VALUES(score_sum),
+                avg_score    = IF(participants = 0, 0, score_sum / participants),
+                question_cnt = VALUES(question_cnt),
+                computed_at  = VALUES(computed_at)
+        """;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, delta.getExamId());
+            pstmt.setInt(2, delta.getParticipants());
+            pstmt.setInt(3, delta.getQuestionCount());
+            pstmt.setLong(4, delta.getScoreSum());
+            pstmt.setFloat(5, delta.getAvgScore());
+            pstmt.setInt(6, delta.getMinScore());
+            pstmt.setInt(7, delta.getMaxScore());
+            pstmt.setTimestamp(8, Timestamp.valueOf(delta.getComputedAt()));
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("Error merging ExamStat", e);
+        }
+
+        int[] dist = delta.getScoreDistribution();
+        StringBuilder distSql = new StringBuilder("INSERT INTO exam_score_dist (exam_id, bucket, cnt) VALUES ");
+        for (int b = 0; b < dist.length; b++) distSql.append(b == 0 ? "(?,?,?)" : ",(?,?,?)");
+        distSql.append(" ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)");
+        try (PreparedStatement pstmt = conn.prepareStatement(distSql.toString())) {
+            int idx = 1;
+            for (int b = 0; b < dist.length; b++) {
+                pstmt.setInt(idx++, delta.getExamId());
+                pstmt.setInt(idx++, b);
+                pstmt.setInt(idx++, dist[b]);
+            }
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("Error merging score distribution", e);
+        }
+    }
+
+    @Override
+    public List<QuestionStat> findQuestionStats(int examId) throws DaoException {
+        String sql = "SELECT question_id, exam_id, attempts, correct_count, correct_rate, question_type, sub_subject "
+                + "FROM question_stats WHERE exam_id = ? ORDER BY question_id";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, examId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<QuestionStat> list = new ArrayList<>();
+                while (rs.next()) {
+                    list.add(new QuestionStat(
+                            rs.getInt("question_id"),
+                            rs.getInt("exam_id"),
+                            rs.getInt("attempts"),
+                            rs.getInt("correct_count"),
+                            rs.getFloat("correct_rate"),
+                            rs.getString("question_type"),
+                            rs.getString("sub_subject")));
+                }
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Error finding QuestionStats by examId", e);
+        }
+    }
+
+    @Override
+    public ExamStat findExamStat(int examId) throws DaoException {
+        String sql = "SELECT exam_id, participants, question_cnt, score_sum, avg_score, min_score, max_score, computed_at "
+                + "FROM exam_stats WHERE exam_id = ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             PreparedStatement distStmt = conn.prepareStatement(
+                     "SELECT bucket, cnt FROM exam_score_dist WHERE exam_id = ?")) {
+            pstmt.setInt(1, examId);
+            ExamStat stat;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
+                Timestamp computedAt = rs.getTimestamp("computed_at");
+                stat = new ExamStat(
+                        rs.getInt("exam_id"),
+                        rs.getInt("participants"),
+                        rs.getInt("question_cnt"),
+                        rs.getFloat("avg_score"),
+                        rs.getInt("min_score"),
+                        rs.getInt("max_score"),
+                        computedAt != null ? computedAt.toLocalDateTime() : null);
+                stat.setScoreSum(rs.getLong("score_sum"));
+            }
+            distStmt.setInt(1, examId);
+            try (ResultSet rs = distStmt.executeQuery()) {
+                int[] dist = new int[ExamStat.SCORE_BUCKETS];
+                while (rs.next()) {
+                    int bucket = rs.getInt("bucket");
+                    if (bucket >= 0 && bucket < dist.length) dist[bucket] = rs.getInt("cnt");
+                }
+                stat.setScoreDistribution(dist);
+            }
+            return stat;
+        } catch (SQLException e) {
+            throw new DaoException("Error finding ExamStat by examId", e);
+        }
+    }
+}
@@ -1,13 +1,40 @@
 package main.java.dao;
 
 import main.java.model.User;
+import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface UserDao {
     User findById(int userId) throws DaoException;
-    User findByStudentNumberAndPassword(String studentNumber, String password) throws DaoException;
+    /** 여러 사용자를 IN 조회로 한꺼번에 읽는다. (없는 ID는 빠진다) */
+    List<User> findByIds(Collection<Integer> userIds) throws DaoException;
+    /** 학번으로 한 명 조회 (student_number 유니크 인덱스 한 번). 비밀번호 검증은 호출자가 한다. */
+    User findByStudentNumber(String studentNumber) throws DaoException;
+
+    /**
+     * 저장된 비밀번호가 아직 expected일 때만 newPassword로 바꾼다. (로그인 시 해시 이전용)
+     * @return 바꿨으면 true
+     */
+    boolean replacePassword(int userId, String expected, String newPassword) throws DaoException;
     List<User> findAll() throws DaoException;
+
+    /** 모든 사용자를 fetchSize 단위로 나눠 읽으며 한 건씩 handler에 넘긴다. (user_id 오름차순) */
+    void streamAll(int fetchSize, RowHandler<User> handler) throws DaoException;
+
+    /** user_id 기준 키셋 페이지 조회 (첫 페이지는 afterUserId = 0) */
+    List<User> findPage(int afterUserId, int limit) throws DaoException;
     void insert(User user) throws DaoException;
+
+    /**
+     * 여러 사용자를 다중 행 INSERT로 저장한다 (userId는 채우지 않는다).
+     * 커밋/롤백은 conn을 넘겨준 호출자가 관리한다.
+     */
+    void insertAll(Connection conn, List<User> users) throws DaoException;
+
+    /** studentNumbers 중 이미 users에 있는 학번 (conn의 트랜잭션 안에서 조회) */
+    Set<String> findExistingStudentNumbers(Connection conn, Collection<String> studentNumbers) throws DaoException;
     void update(User user) throws DaoException;
     void delete(int userId) throws DaoException;
 }
\ No newline at end of file
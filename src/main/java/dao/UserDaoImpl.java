@@ -2,63 +2,123 @@ package main.java.dao;
 
 import main.java.model.User;
 import main.java.util.DBConnection;
+import main.java.util.SqlBatch;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class UserDaoImpl implements UserDao {
-    private final Connection conn = DBConnection.getConnection();
+    private static final String USER_COLUMNS =
+            "user_id, level, name, student_number, password, dpmt_id, grade, is_active";
+
+    static final String SQL_FIND_BY_STUDENT_NUMBER =
+            "SELECT " + USER_COLUMNS + " FROM users WHERE student_number = ?";
+    static final String SQL_REPLACE_PASSWORD = "UPDATE users SET password = ? WHERE user_id = ? AND password = ?";
+
+    /** users 행 → User 공용 변환기 */
+    static final RowMapper<User> USER_MAPPER = UserDaoImpl::mapUser;
+
     @Override
     public User findById(int userId) throws DaoException {
-        String sql = "SELECT * FROM users WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users WHERE user_id = ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                User u = new User();
-                u.setUserId(rs.getInt("user_id"));
-                u.setLevel(rs.getInt("level"));
-                u.setName(rs.getString("name"));
-                u.setStudentNumber(rs.getString("student_number"));
-                u.setPassword(rs.getString("password"));
-                u.setDpmtId(rs.getInt("dpmt_id"));
-                u.setGrade(rs.getInt("grade"));
-                u.setActive(rs.getBoolean("is_active"));
-                return u;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapUser(rs) : null;
             }
-            return null;
         } catch (SQLException e) {
             throw new DaoException("Error finding User by id", e);
         }
     }
     @Override
-    public User findByStudentNumberAndPassword(String studentNumber, String password) throws DaoException {
-        String sql = "SELECT * FROM users WHERE student_number = ? AND password = ? AND is_active = TRUE";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    public List<User> findByIds(Collection<Integer> userIds) throws DaoException {
+        List<Integer> ids = new ArrayList<>(userIds);
+        List<User> list = new ArrayList<>(ids.size());
+        try (Connection conn = DBConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += SqlBatch.MAX_ROWS) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + SqlBatch.MAX_ROWS, ids.size()));
+                // 자리 수를 고정 크기로 올려 문장 모양을 재사용한다. (남는 자리는 마지막 ID 반복)
+                int slots = SqlBatch.paddedSize(chunk.size());
+                String sql = "SELECT " + USER_COLUMNS + " FROM users WHERE user_id IN ("
+                        + SqlBatch.repeat("?", slots) + ") ORDER BY user_id";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < slots; i++) pstmt.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) list.add(mapUser(rs));
+                    }
+                }
+            }
+            return list;
+        } catch (SQLException e) {
+            throw new DaoException("Error finding Users by ids", e);
+        }
+    }
+    @Override
+    public User findByStudentNumber(String studentNumber) throws DaoException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_FIND_BY_STUDENT_NUMBER)) {
             pstmt.setString(1, studentNumber);
-            pstmt.setString(2, password);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) return findById(rs.getInt("user_id"));
-            return null;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapUser(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Error finding User by student number", e);
+        }
+    }
+    @Override
+    public boolean replacePassword(int userId, String expected, String newPassword) throws DaoException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SQL_REPLACE_PASSWORD)) {
+            pstmt.setString(1, newPassword);
+            pstmt.setInt(2, userId);
+            pstmt.setString(3, expected);
+            return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
-            throw new DaoException("Error finding User by credentials", e);
+            throw new DaoException("Error replacing User password", e);
         }
     }
     @Override
     public List<User> findAll() throws DaoException {
-        String sql = "SELECT * FROM users";
-        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users ORDER BY user_id";
+        try (Connection conn = DBConnection.getConnection();
+             Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
             List<User> list = new ArrayList<>();
-            while (rs.next()) list.add(findById(rs.getInt("user_id")));
+            while (rs.next()) list.add(mapUser(rs));
             return list;
         } catch (SQLException e) {
             throw new DaoException("Error retrieving all Users", e);
         }
     }
     @Override
+    public void streamAll(int fetchSize, RowHandler<User> handler) throws DaoException {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users ORDER BY user_id";
+        DaoSupport.stream(sql, fetchSize, USER_MAPPER, handler);
+    }
+    @Override
+    public List<User> findPage(int afterUserId, int limit) throws DaoException {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, afterUserId);
+            pstmt.setInt(2, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<User> list = new ArrayList<>();
+                while (rs.next()) list.add(mapUser(rs));
+                return list;
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving User page", e);
+        }
+    }
+    @Override
     public void insert(User user) throws DaoException {
         String sql = "INSERT INTO users(level, name, student_number, password, dpmt_id, grade, is_active) VALUES(?,?,?,?,?,?,?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, user.getLevel());
             pstmt.setString(2, user.getName());
             pstmt.setString(3, user.getStudentNumber());
@@ -73,9 +133,54 @@ public class UserDaoImpl implements UserDao {
         }
     }
     @Override
+    public void insertAll(Connection conn, List<User> users) throws DaoException {
+        for (int from = 0; from < users.size(); ) {
+            int n = SqlBatch.chunkSize(users.size() - from);
+            List<User> chunk = users.subList(from, from + n);
+            from += n;
+            String sql = "INSERT INTO users(level, name, student_number, password, dpmt_id, grade, is_active) VALUES "
+                    + SqlBatch.repeat("(?,?,?,?,?,?,?)", n);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int idx = 1;
+                for (User user : chunk) {
+                    pstmt.setInt(idx++, user.getLevel());
+                    pstmt.setString(idx++, user.getName());
+                    pstmt.setString(idx++, user.getStudentNumber());
+                    pstmt.setString(idx++, user.getPassword());
+                    pstmt.setInt(idx++, user.getDpmtId());
+                    pstmt.setInt(idx++, user.getGrade());
+                    pstmt.setBoolean(idx++, user.isActive());
+                }
+                pstmt.executeUpdate();
+            } catch (SQLException e) {
+                throw new DaoException("Error batch inserting Users", e);
+            }
+        }
+    }
+    @Override
+    public Set<String> findExistingStudentNumbers(Connection conn, Collection<String> studentNumbers) throws DaoException {
+        List<String> all = new ArrayList<>(studentNumbers);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < all.size(); from += SqlBatch.MAX_ROWS) {
+            List<String> chunk = all.subList(from, Math.min(from + SqlBatch.MAX_ROWS, all.size()));
+            int slots = SqlBatch.paddedSize(chunk.size());
+            String sql = "SELECT student_number FROM users WHERE student_number IN (" + SqlBatch.repeat("?", slots) + ")";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < slots; i++) pstmt.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) existing.add(rs.getString(1));
+                }
+            } catch (SQLException e) {
+                throw new DaoException("Error finding existing student numbers", e);
+            }
+        }
+        return existing;
+    }
+    @Override
     public void update(User user) throws DaoException {
         String sql = "UPDATE users SET level=?, name=?, student_number=?, password=?, dpmt_id=?, grade=?, is_active=? WHERE user_id=?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, user.getLevel());
             pstmt.setString(2, user.getName());
             pstmt.setString(3, user.getStudentNumber());
@@ -92,11 +197,26 @@ public class UserDaoImpl implements UserDao {
     @Override
     public void delete(int userId) throws DaoException {
         String sql = "DELETE FROM users WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             pstmt.executeUpdate();
         } catch (SQLException e) {
             throw new DaoException("Error deleting User", e);
         }
     }
+
+    /** users 행 하나를 User로 변환 */
+    private static User mapUser(ResultSet rs) throws SQLException {
+        User u = new User();
+        u.setUserId(rs.getInt("user_id"));
+        u.setLevel(rs.getInt("level"));
+        u.setName(rs.getString("name"));
+        u.setStudentNumber(rs.getString("student_number"));
+        u.setPassword(rs.getString("password"));
+        u.setDpmtId(rs.getInt("dpmt_id"));
+        u.setGrade(rs.getInt("grade"));
+        u.setActive(rs.getBoolean("is_active"));
+        return u;
+    }
 }
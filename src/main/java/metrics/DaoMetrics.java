@@ -0,0 +1,102 @@
+package main.java.metrics;
+
+import main.java.util.LatencyHistogram;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DAO 호출 지표 수집기
+ * - instrument(ExamDao.class, new ExamDaoImpl())처럼 DAO 인터페이스를 동적 프록시로 감싸
+ *   메서드별 호출 수, 지연 분포, 반환 행 수, 오류 수를 기록한다.
+ * - 호출당 추가 비용은 리플렉션 호출 1회 + nanoTime 2회 + 카운터 갱신 정도로 JDBC 왕복에 비해 무시할 수준이다.
+ * - -Dcbt.metrics.enabled=false면 감싸지 않고 원본을 그대로 돌려준다.
+ */
+public final class DaoMetrics {
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("cbt.metrics.enabled", "true"));
+
+    /** "ExamDao.findById" → 지표 */
+    private static final Map<String, MethodStats> METHODS = new ConcurrentHashMap<>();
+
+    /** DAO 메서드 하나의 누적 지표 */
+    public static final class MethodStats {
+        private final String dao;
+        private final String method;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LatencyHistogram latency;
+
+        MethodStats(String dao, String method) {
+            this.dao = dao;
+            this.method = method;
+            this.latency = new LatencyHistogram(dao + "." + method);
+        }
+
+        public String getDao() { return dao; }
+        public String getMethod() { return method; }
+        public long getCalls() { return calls.sum(); }
+        public long getErrors() { return errors.sum(); }
+        /** 조회 메서드가 반환한 행 수 합계 (List/Map은 크기, 단건 객체는 1) */
+        public long getRows() { return rows.sum(); }
+        public LatencyHistogram getLatency() { return latency; }
+    }
+
+    private DaoMetrics() {
+    }
+
+    /** DAO 구현체를 지표 수집 프록시로 감싼다. */
+    public static <T> T instrument(Class<T> daoInterface, T target) {
+        if (!ENABLED) return target;
+        String dao = daoInterface.getSimpleName();
+        // 호출마다 이름 문자열을 만들지 않도록 프록시별로 Method → 지표를 캐시
+        Map<Method, MethodStats> byMethod = new ConcurrentHashMap<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) return method.invoke(target, args);
+            MethodStats stats = byMethod.get(method);
+            if (stats == null) {
+                stats = METHODS.computeIfAbsent(dao + "." + method.getName(),
+                        k -> new MethodStats(dao, method.getName()));
+                byMethod.put(method, stats);
+            }
+            long t0 = System.nanoTime();
+            try {
+                Object result = method.invoke(target, args);
+                stats.rows.add(rowCount(result));
+                return result;
+            } catch (InvocationTargetException e) {
+                stats.errors.increment();
+                throw e.getCause();
+            } finally {
+                stats.calls.increment();
+                stats.latency.recordNanos(System.nanoTime() - t0);
+            }
+        };
+        return daoInterface.cast(Proxy.newProxyInstance(
+                daoInterface.getClassLoader(), new Class<?>[]{daoInterface}, handler));
+    }
+
+    /** 메서드별 지표 (DAO·메서드 이름순) */
+    public static List<MethodStats> snapshot() {
+        List<MethodStats> list = new ArrayList<>(METHODS.values());
+        list.sort(Comparator.comparing(MethodStats::getDao).thenComparing(MethodStats::getMethod));
+        return list;
+    }
+
+    private static long rowCount(Object result) {
+        if (result == null || result instanceof Boolean || result instanceof Number) return 0;
+        if (result instanceof Collection) return ((Collection<?>) result).size();
+        if (result instanceof Map) return ((Map<?, ?>) result).size();
+        return 1;
+    }
+}
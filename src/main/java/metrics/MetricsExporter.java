@@ -0,0 +1,171 @@
+package main.java.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import main.java.util.ConnectionPool;
+import main.java.util.DBConnection;
+import main.java.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DAO·커넥션 풀 지표 내보내기
+ * - textSnapshot(): 사람이 읽는 요약 (주기적 로그용)
+ * - prometheus(): Prometheus text exposition format (0.0.4)
+ * - startFromSystemProperties()
+ *   -Dcbt.metrics.port=9404        → 127.0.0.1:9404/metrics HTTP 엔드포인트
+ *   -Dcbt.metrics.logSeconds=60     → 주기적으로 표준 출력에 요약 출력
+ *   (둘 다 지정하지 않으면 아무 것도 시작하지 않는다)
+ */
+public final class MetricsExporter {
+    /** Prometheus 히스토그램 버킷 경계 (초) */
+    private static final double[] BUCKETS_SECONDS =
+            {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static HttpServer server;
+    private static ScheduledExecutorService logger;
+
+    private MetricsExporter() {
+    }
+
+    /** 시스템 프로퍼티에 따라 HTTP 엔드포인트와 주기 로그를 시작한다. */
+    public static synchronized void startFromSystemProperties() {
+        Integer port = Integer.getInteger("cbt.metrics.port");
+        if (port != null && server == null) {
+            try {
+                startHttp(port);
+            } catch (IOException e) {
+                System.err.println("[Metrics] HTTP 엔드포인트 시작 실패: " + e.getMessage());
+            }
+        }
+        Long logSeconds = Long.getLong("cbt.metrics.logSeconds");
+        if (logSeconds != null && logSeconds > 0 && logger == null) {
+            startLogging(logSeconds, System.out);
+        }
+    }
+
+    /** 로컬(127.0.0.1)에서만 접근 가능한 /metrics 엔드포인트를 연다. */
+    public static synchronized void startHttp(int port) throws IOException {
+        if (server != null) return;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = prometheus().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+    }
+
+    /** seconds마다 textSnapshot()을 out에 출력한다. */
+    public static synchronized void startLogging(long seconds, PrintStream out) {
+        if (logger != null) return;
+        logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-log");
+            t.setDaemon(true);
+            return t;
+        });
+        logger.scheduleAtFixedRate(() -> out.print(textSnapshot()), seconds, seconds, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+
+    /** 사람이 읽는 요약 (호출 수가 많은 순서가 아니라 DAO·메서드 이름순) */
+    public static String textSnapshot() {
+        StringBuilder sb = new StringBuilder("=== DAO metrics ===\n");
+        for (DaoMetrics.MethodStats m : DaoMetrics.snapshot()) {
+            LatencyHistogram h = m.getLatency();
+            sb.append(String.format(Locale.ROOT,
+                    "%-45s calls=%-8d errors=%-5d rows=%-9d mean=%.2fms p99=%.2fms max=%.2fms%n",
+                    m.getDao() + "." + m.getMethod(), m.getCalls(), m.getErrors(), m.getRows(),
+                    h.getMeanMicros() / 1000.0, h.percentileMicros(99) / 1000.0, h.getMaxMicros() / 1000.0));
+        }
+        LatencyHistogram wait = DBConnection.getPoolWaitHistogram();
+        sb.append(DBConnection.getPoolStats()).append('\n');
+        sb.append(String.format(Locale.ROOT, "pool wait p50=%.3fms p99=%.3fms max=%.3fms%n",
+                wait.percentileMicros(50) / 1000.0, wait.percentileMicros(99) / 1000.0, wait.getMaxMicros() / 1000.0));
+        return sb.toString();
+    }
+
+    /** Prometheus text exposition format */
+    public static String prometheus() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# HELP cbt_dao_calls_total DAO method calls\n# TYPE cbt_dao_calls_total counter\n");
+        for (DaoMetrics.MethodStats m : DaoMetrics.snapshot()) {
+            sb.append("cbt_dao_calls_total").append(labels(m)).append(' ').append(m.getCalls()).append('\n');
+        }
+        sb.append("# HELP cbt_dao_errors_total DAO method calls that threw\n# TYPE cbt_dao_errors_total counter\n");
+        for (DaoMetrics.MethodStats m : DaoMetrics.snapshot()) {
+            sb.append("cbt_dao_errors_total").append(labels(m)).append(' ').append(m.getErrors()).append('\n');
+        }
+        sb.append("# HELP cbt_dao_rows_total Rows returned by DAO methods\n# TYPE cbt_dao_rows_total counter\n");
+        for (DaoMetrics.MethodStats m : DaoMetrics.snapshot()) {
+            sb.append("cbt_dao_rows_total").append(labels(m)).append(' ').append(m.getRows()).append('\n');
+        }
+        sb.append("# HELP cbt_dao_latency_seconds DAO method latency\n# TYPE cbt_dao_latency_seconds histogram\n");
+        for (DaoMetrics.MethodStats m : DaoMetrics.snapshot()) {
+            String base = "dao=\"" + m.getDao() + "\",method=\"" + m.getMethod() + "\"";
+            appendHistogram(sb, "cbt_dao_latency_seconds", base, m.getLatency());
+        }
+
+        ConnectionPool.Stats pool = DBConnection.getPoolStats();
+        sb.append("# TYPE cbt_pool_active gauge\ncbt_pool_active ").append(pool.getActive()).append('\n');
+        sb.append("# TYPE cbt_pool_idle gauge\ncbt_pool_idle ").append(pool.getIdle()).append('\n');
+        sb.append("# TYPE cbt_pool_waiting gauge\ncbt_pool_waiting ").append(pool.getWaiting()).append('\n');
+        sb.append("# TYPE cbt_pool_timeouts_total counter\ncbt_pool_timeouts_total ").append(pool.getTimeoutCount()).append('\n');
+        sb.append("# HELP cbt_stmt_cache_hits_total prepareStatement calls served from the pool statement cache\n");
+        sb.append("# TYPE cbt_stmt_cache_hits_total counter\ncbt_stmt_cache_hits_total ")
+                .append(pool.getStatementCacheHits()).append('\n');
+        sb.append("# TYPE cbt_stmt_cache_misses_total counter\ncbt_stmt_cache_misses_total ")
+                .append(pool.getStatementCacheMisses()).append('\n');
+        sb.append("# TYPE cbt_stmt_cache_evictions_total counter\ncbt_stmt_cache_evictions_total ")
+                .append(pool.getStatementCacheEvictions()).append('\n');
+        sb.append("# HELP cbt_pool_wait_seconds Time spent waiting to borrow a connection\n");
+        sb.append("# TYPE cbt_pool_wait_seconds histogram\n");
+        appendHistogram(sb, "cbt_pool_wait_seconds", "", DBConnection.getPoolWaitHistogram());
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, String baseLabels, LatencyHistogram h) {
+        String sep = baseLabels.isEmpty() ? "" : ",";
+        for (double le : BUCKETS_SECONDS) {
+            sb.append(name).append("_bucket{").append(baseLabels).append(sep)
+                    .append("le=\"").append(le).append("\"} ")
+                    .append(h.countAtOrBelow((long) (le * 1_000_000))).append('\n');
+        }
+        String labelBlock = baseLabels.isEmpty() ? "" : "{" + baseLabels + "}";
+        sb.append(name).append("_bucket{").append(baseLabels).append(sep).append("le=\"+Inf\"} ")
+                .append(h.getCount()).append('\n');
+        sb.append(name).append("_sum").append(labelBlock).append(' ')
+                .append(String.format(Locale.ROOT, "%.6f", h.getSumMicros() / 1_000_000.0)).append('\n');
+        sb.append(name).append("_count").append(labelBlock).append(' ').append(h.getCount()).append('\n');
+    }
+
+    private static String labels(DaoMetrics.MethodStats m) {
+        return "{dao=\"" + m.getDao() + "\",method=\"" + m.getMethod() + "\"}";
+    }
+}
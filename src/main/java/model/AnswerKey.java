@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class AnswerKey {
+import java.io.Serializable;
+
+public class AnswerKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int questionId;
     private Character correctLabel;  // MCQ 정답
     private String correctText;      // SA 정답
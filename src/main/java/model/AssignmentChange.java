@@ -0,0 +1,37 @@
+package main.java.model;
+
+import java.io.Serializable;
+
+/**
+ * 시험 배정 변경 결과 (새로 배정된 학생 수 / 배정이 해제된 학생 수)
+ */
+public class AssignmentChange implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int examId;
+    private final int added;
+    private final int removed;
+
+    public AssignmentChange(int examId, int added, int removed) {
+        this.examId = examId;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+
+    public int getAdded() {
+        return added;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return "examId=" + examId + " +" + added + " -" + removed;
+    }
+}
@@ -1,8 +1,11 @@
 package main.java.model;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
-public class Exam {
+public class Exam implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int examId;
     private String subject;
     private LocalDateTime createdAt;
@@ -0,0 +1,41 @@
+package main.java.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 시험 진행 현황 조회 결과 (증분)
+ * - sessions: 요청한 version 이후 바뀐 세션만 담는다. (full이면 전체)
+ * - version: 다음 조회 때 넘길 값
+ */
+public final class ExamProgress implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int examId;
+    private final long version;
+    private final boolean full;
+    private final List<ExamSession> sessions;
+
+    public ExamProgress(int examId, long version, boolean full, List<ExamSession> sessions) {
+        this.examId = examId;
+        this.version = version;
+        this.full = full;
+        this.sessions = sessions;
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public List<ExamSession> getSessions() {
+        return sessions;
+    }
+}
@@ -1,8 +1,11 @@
 package main.java.model;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
-public class ExamResult {
+public class ExamResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int resultId;
     private int examId;
     private int userId;
@@ -0,0 +1,85 @@
+package main.java.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 응시 세션 스냅샷 (불변)
+ * - ExamSessionRegistry가 상태가 바뀔 때마다 새 스냅샷으로 교체하며, version은 교체 순번이다.
+ * - 응답 없음(idle) 여부는 시각에 따라 바뀌므로 저장하지 않고 isIdle()로 판단한다.
+ */
+public final class ExamSession implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int examId;
+    private final int userId;
+    private final String studentNumber;
+    private final String name;
+    private final int questionCount;        // 전체 문항 수
+    private final int answeredCount;        // 답을 고른 문항 수
+    private final LocalDateTime startedAt;  // 응시 시작 (DB에서 읽은 제출 기록이면 null)
+    private final LocalDateTime lastSeenAt; // 마지막 하트비트 또는 제출 시각
+    private final boolean submitted;
+    private final long version;
+
+    public ExamSession(int examId, int userId, String studentNumber, String name,
+                       int questionCount, int answeredCount,
+                       LocalDateTime startedAt, LocalDateTime lastSeenAt,
+                       boolean submitted, long version) {
+        this.examId = examId;
+        this.userId = userId;
+        this.studentNumber = studentNumber;
+        this.name = name;
+        this.questionCount = questionCount;
+        this.answeredCount = answeredCount;
+        this.startedAt = startedAt;
+        this.lastSeenAt = lastSeenAt;
+        this.submitted = submitted;
+        this.version = version;
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    public int getAnsweredCount() {
+        return answeredCount;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getLastSeenAt() {
+        return lastSeenAt;
+    }
+
+    public boolean isSubmitted() {
+        return submitted;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** 제출 전인데 timeoutSeconds 넘게 하트비트가 없으면 true */
+    public boolean isIdle(LocalDateTime now, long timeoutSeconds) {
+        return !submitted && lastSeenAt != null && lastSeenAt.plusSeconds(timeoutSeconds).isBefore(now);
+    }
+}
@@ -0,0 +1,110 @@
+package main.java.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 시험 단위 통계 (미리 계산해 exam_stats에 저장)
+ */
+public class ExamStat implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** 점수 분포 구간 수 (10점 단위, 마지막 구간은 90~100) */
+    public static final int SCORE_BUCKETS = 10;
+
+    private int examId;                 // 시험 ID (FK)
+    private int participants;           // 답안을 제출한 학생 수
+    private int questionCount;          // 문항 수
+    private float avgScore;             // 평균 점수 (100점 만점)
+    private int minScore;               // 최저 점수
+    private int maxScore;               // 최고 점수
+    private long scoreSum;              // 점수 합 (증분 병합 시 평균 재계산용)
+    private int[] scoreDistribution = new int[SCORE_BUCKETS]; // 10점 구간별 인원 (0~9, ..., 90~100)
+    private LocalDateTime computedAt;   // 계산 시각
+
+    public ExamStat() {}
+
+    public ExamStat(int examId,
+                    int participants,
+                    int questionCount,
+                    float avgScore,
+                    int minScore,
+                    int maxScore,
+                    LocalDateTime computedAt) {
+        this.examId        = examId;
+        this.participants  = participants;
+        this.questionCount = questionCount;
+        this.avgScore      = avgScore;
+        this.minScore      = minScore;
+        this.maxScore      = maxScore;
+        this.computedAt    = computedAt;
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+    public void setExamId(int examId) {
+        this.examId = examId;
+    }
+
+    public int getParticipants() {
+        return participants;
+    }
+    public void setParticipants(int participants) {
+        this.participants = participants;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+    public void setQuestionCount(int questionCount) {
+        this.questionCount = questionCount;
+    }
+
+    public float getAvgScore() {
+        return avgScore;
+    }
+    public void setAvgScore(float avgScore) {
+        this.avgScore = avgScore;
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+    public void setMinScore(int minScore) {
+        this.minScore = minScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+    public void setMaxScore(int maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+    public void setScoreSum(long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public int[] getScoreDistribution() {
+        return scoreDistribution;
+    }
+    public void setScoreDistribution(int[] scoreDistribution) {
+        this.scoreDistribution = scoreDistribution;
+    }
+
+    /** 점수가 속하는 분포 구간 */
+    public static int bucketOf(int score) {
+        return Math.max(0, Math.min(score / 10, SCORE_BUCKETS - 1));
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+    public void setComputedAt(LocalDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+}
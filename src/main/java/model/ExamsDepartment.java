@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class ExamsDepartment {
+import java.io.Serializable;
+
+public class ExamsDepartment implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int examId;
     private int dpmtId;
     private int grade;
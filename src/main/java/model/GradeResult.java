@@ -0,0 +1,76 @@
+package main.java.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 채점 결과 DTO
+ * - 100점 만점 환산 점수, 정답 수, 문제별 정답 여부를 담는다.
+ */
+public class GradeResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int examId;
+    private final int score;            // 100점 만점 환산 점수 (반올림)
+    private final double earnedPoints;  // 획득 배점 합
+    private final double maxPoints;     // 전체 배점 합
+    private final int correctCount;     // 완전 정답 문제 수
+    private final int[] questionIds;    // 오름차순 문제 ID
+    private final double[] credits;     // questionIds와 같은 순서의 문제별 득점 비율(0~1)
+
+    public GradeResult(int examId, double earnedPoints, double maxPoints, int correctCount,
+                       int[] questionIds, double[] credits) {
+        this.examId = examId;
+        this.earnedPoints = earnedPoints;
+        this.maxPoints = maxPoints;
+        this.correctCount = correctCount;
+        this.questionIds = questionIds;
+        this.credits = credits;
+        this.score = maxPoints > 0 ? (int) Math.round(earnedPoints * 100.0 / maxPoints) : 0;
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public double getEarnedPoints() {
+        return earnedPoints;
+    }
+
+    public double getMaxPoints() {
+        return maxPoints;
+    }
+
+    public int getCorrectCount() {
+        return correctCount;
+    }
+
+    public int getQuestionCount() {
+        return questionIds.length;
+    }
+
+    /** 문제별 득점 비율 (채점 대상이 아닌 문제면 0) */
+    public double getCredit(int questionId) {
+        int idx = Arrays.binarySearch(questionIds, questionId);
+        return idx >= 0 ? credits[idx] : 0;
+    }
+
+    /** 완전 정답 여부 */
+    public boolean isCorrect(int questionId) {
+        return getCredit(questionId) >= 1.0;
+    }
+
+    @Override
+    public String toString() {
+        return "GradeResult{" +
+                "examId=" + examId +
+                ", score=" + score +
+                ", correctCount=" + correctCount +
+                ", questionCount=" + questionIds.length +
+                '}';
+    }
+}
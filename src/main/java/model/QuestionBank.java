@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class QuestionBank {
+import java.io.Serializable;
+
+public class QuestionBank implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int questionId;
     private int examId;
     private String type;         // 'MCQ' or 'OX'
@@ -1,12 +1,15 @@
 package main.java.model;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * QuestionFull 모델 클래스
  * - QuestionBank, QuestionOption 목록, AnswerKey를 통합한 DTO
  */
-public class QuestionFull {
+public class QuestionFull implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private QuestionBank questionBank;
     private List<QuestionOption> options;
     private AnswerKey answerKey;
@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class QuestionOption {
+import java.io.Serializable;
+
+public class QuestionOption implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int optionId;
     private int questionId;
     private char optionLabel;
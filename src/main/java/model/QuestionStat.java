@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class QuestionStat {
+import java.io.Serializable;
+
+public class QuestionStat implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int questionId;          // 문제 ID (FK)
     private Integer examId;          // 시험 ID (FK, 전체 통계면 null 허용)
     private int attempts;            // 응시자 수
@@ -0,0 +1,86 @@
+package main.java.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학생 일괄 가져오기 결과·진행 상황
+ * - 건수는 이어서 가져오기(resume) 이전 실행분까지 합친 누적 값이다.
+ */
+public class StudentImportResult {
+    /** errors에 보관할 최대 건수 */
+    public static final int MAX_ERRORS = 100;
+
+    private int totalRows;          // 읽은 데이터 행 수
+    private int inserted;           // 새로 저장한 학생 수
+    private int duplicates;         // 이미 있거나 파일 안에서 중복된 학번 수
+    private int invalid;            // 검증 실패 행 수
+    private int lastCommittedLine;  // 마지막으로 커밋한 청크의 끝 줄 번호
+    private int resumedFromLine;    // 이어서 가져온 경우 시작 지점 (처음부터면 0)
+    private boolean completed;
+    private final List<String> errors = new ArrayList<>();
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    public int getLastCommittedLine() {
+        return lastCommittedLine;
+    }
+    public void setLastCommittedLine(int lastCommittedLine) {
+        this.lastCommittedLine = lastCommittedLine;
+    }
+
+    public int getResumedFromLine() {
+        return resumedFromLine;
+    }
+    public void setResumedFromLine(int resumedFromLine) {
+        this.resumedFromLine = resumedFromLine;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    /** 행 번호가 붙은 오류 메시지 (앞에서부터 MAX_ERRORS건) */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void addError(int line, String message) {
+        if (errors.size() < MAX_ERRORS) errors.add(line + "행: " + message);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("읽음 %d행, 저장 %d명, 중복 %d건, 오류 %d건%s",
+                totalRows, inserted, duplicates, invalid, completed ? "" : " (진행 중)");
+    }
+}
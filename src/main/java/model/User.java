@@ -1,6 +1,10 @@
 package main.java.model;
 
-public class User {
+import java.io.Serializable;
+
+public class User implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int userId;
     private int level;               // 0=관리자, 1=학생
     private String name;
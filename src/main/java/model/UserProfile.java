@@ -0,0 +1,70 @@
+package main.java.model;
+
+import java.io.Serializable;
+
+/**
+ * 로그인한 사용자 프로필 (불변, 비밀번호 없음)
+ * - 세션 저장소에 토큰과 함께 보관되며, 화면은 DB를 다시 읽지 않고 이 값을 쓴다.
+ */
+public final class UserProfile implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int userId;
+    private final int level;            // 0=관리자, 1=학생
+    private final String name;
+    private final String studentNumber;
+    private final int dpmtId;
+    private final int grade;
+
+    public UserProfile(int userId, int level, String name, String studentNumber, int dpmtId, int grade) {
+        this.userId = userId;
+        this.level = level;
+        this.name = name;
+        this.studentNumber = studentNumber;
+        this.dpmtId = dpmtId;
+        this.grade = grade;
+    }
+
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getUserId(), user.getLevel(), user.getName(), user.getStudentNumber(),
+                user.getDpmtId(), user.getGrade());
+    }
+
+    /** 기존 화면(User를 받는 패널)에 넘길 새 User 복사본 (비밀번호 없음, 활성 상태) */
+    public User toUser() {
+        return new User(userId, level, name, studentNumber, dpmtId, grade, true);
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isAdmin() {
+        return level == 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public int getDpmtId() {
+        return dpmtId;
+    }
+
+    public int getGrade() {
+        return grade;
+    }
+
+    @Override
+    public String toString() {
+        return "UserProfile{" + userId + ", " + studentNumber + ", " + name + "}";
+    }
+}
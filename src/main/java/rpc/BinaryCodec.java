@@ -0,0 +1,584 @@
+package main.java.rpc;
+
+import main.java.model.*;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 바이너리 코덱 (-Dcbt.rpc.codec=binary)
+ * - 값마다 1바이트 태그 + 본문. 정수·id는 지그재그 varint, 시각은 epoch 초 varint로 쓴다.
+ * - 문자열은 호출 단위 문자열 표에 등록해 두 번째부터는 표 번호만 쓴다. (선택지 "O"/"X", 반복 보기 문구, 답안 값)
+ * - 시험 문항(QuestionFull)은 전용 형식으로 쓰고, 선택지·정답키의 question_id와 연속된 option_id는 차이값만 쓴다.
+ * - 답안 맵(Map<Integer, String>)은 문제 ID를 정렬해 차이값으로 쓴다. (복원 시 HashMap)
+ * - 그 밖의 모델(ExamProgress 등)은 자바 직렬화로 감싸 넣는다.
+ * - 인코딩 결과가 cbt.rpc.compressMinBytes(기본 4096) 이상이면 Deflate로 압축하고,
+ *   더 작아질 때만 압축본을 쓴다. (-Dcbt.rpc.compress=false로 끔)
+ * - decode(ByteBuffer)는 받은 버퍼에서 바로 읽는다. (압축본만 한 번 풀어 쓴다)
+ * - 배열·리스트·맵 중첩은 MAX_DEPTH(자바 코덱 필터의 maxdepth와 같은 32)까지만 허용한다.
+ * 복원한 컬렉션은 ArrayList/LinkedHashMap(답안 맵은 HashMap)이다.
+ */
+public final class BinaryCodec implements RpcCodec {
+    private static final byte FORMAT_PLAIN = 1;
+    private static final byte FORMAT_DEFLATE = 2;
+
+    private static final byte T_NULL = 0;
+    private static final byte T_TRUE = 1;
+    private static final byte T_FALSE = 2;
+    private static final byte T_INT = 3;
+    private static final byte T_LONG = 4;
+    private static final byte T_DOUBLE = 5;
+    private static final byte T_STRING = 6;
+    private static final byte T_CHAR = 7;
+    private static final byte T_LIST = 8;
+    private static final byte T_MAP = 9;
+    private static final byte T_ARRAY = 10;
+    private static final byte T_ANSWERS = 11;
+    private static final byte T_DATETIME = 12;
+    private static final byte T_EXAM = 13;
+    private static final byte T_QUESTION = 14;
+    private static final byte T_RESULT = 15;
+    private static final byte T_SERIALIZED = 16;
+
+    /** 컬렉션 중첩 한도 (깊게 중첩된 프레임으로 스택을 넘치게 하지 못하도록) */
+    static final int MAX_DEPTH = 32;
+
+    private final boolean compress;
+    private final int compressMinBytes;
+    private final JavaSerializationCodec fallback = new JavaSerializationCodec();
+
+    /** 시스템 프로퍼티 설정을 따르는 코덱 */
+    public BinaryCodec() {
+        this(Boolean.parseBoolean(System.getProperty("cbt.rpc.compress", "true")),
+                Integer.getInteger("cbt.rpc.compressMinBytes", 4096));
+    }
+
+    public BinaryCodec(boolean compress, int compressMinBytes) {
+        this.compress = compress;
+        this.compressMinBytes = compressMinBytes;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        Writer w = new Writer();
+        w.writeByte(FORMAT_PLAIN);
+        w.writeValue(value);
+        if (!compress || w.size - 1 < compressMinBytes) return w.toByteArray();
+        return deflate(w);
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException {
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /** buffer의 position부터 값 하나를 읽는다. (position은 값의 끝으로 옮겨진다) */
+    @Override
+    public Object decode(ByteBuffer buffer) throws IOException {
+        try {
+            byte format = buffer.get();
+            if (format == FORMAT_DEFLATE) buffer = inflate(buffer);
+            else if (format != FORMAT_PLAIN) throw new IOException("알 수 없는 바이너리 형식입니다: " + format);
+            return new Reader(buffer).readValue();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("바이너리 본문이 잘렸습니다.", e);
+        }
+    }
+
+    private byte[] deflate(Writer w) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(w.buf, 1, w.size - 1);
+            deflater.finish();
+            Writer out = new Writer();
+            out.writeByte(FORMAT_DEFLATE);
+            out.writeVarint(w.size - 1);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.writeBytes(chunk, 0, n);
+            }
+            return out.size < w.size ? out.toByteArray() : w.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ByteBuffer inflate(ByteBuffer buffer) throws IOException {
+        int rawLength = readVarint(buffer);
+        if (rawLength < 0 || rawLength > RpcProtocol.MAX_FRAME_BYTES) {
+            throw new IOException("압축 해제 크기가 허용 범위를 벗어났습니다: " + rawLength);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer);
+            byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, n, rawLength - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                n += read;
+            }
+            if (n != rawLength) throw new IOException("압축 본문이 손상되었습니다.");
+            return ByteBuffer.wrap(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("압축 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int readVarint(ByteBuffer in) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            v |= (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+        throw new IOException("varint가 너무 깁니다.");
+    }
+
+    /** 인코더 (호출 하나에서만 쓴다) */
+    private final class Writer {
+        byte[] buf = new byte[256];
+        int size;
+        final Map<String, Integer> strings = new HashMap<>();
+        int depth;
+
+        void enter() throws IOException {
+            if (++depth > MAX_DEPTH) throw new IOException("컬렉션 중첩이 " + MAX_DEPTH + "단계를 넘습니다.");
+        }
+
+        void ensure(int extra) {
+            if (size + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void writeBytes(byte[] b, int off, int len) {
+            ensure(len);
+            System.arraycopy(b, off, buf, size, len);
+            size += len;
+        }
+
+        void writeVarint(int v) {
+            ensure(5);
+            while ((v & ~0x7F) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void writeVarlong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void writeSigned(int v) {
+            writeVarint((v << 1) ^ (v >> 31));
+        }
+
+        void writeSignedLong(long v) {
+            writeVarlong((v << 1) ^ (v >> 63));
+        }
+
+        /** 0 = null, 홀수 = 문자열 표 번호((v-1)/2), 짝수 = 새 문자열(바이트 길이 v/2 - 1)이 뒤따르고 표에 등록 */
+        void writeString(String s) {
+            if (s == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer ref = strings.get(s);
+            if (ref != null) {
+                writeVarint((ref << 1) | 1);
+                return;
+            }
+            strings.put(s, strings.size());
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint((utf8.length + 1) << 1);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        void writeDateTime(LocalDateTime t) {
+            if (t == null) {
+                writeVarint(0);
+                return;
+            }
+            writeVarint(t.getNano() + 1);
+            writeSignedLong(t.toEpochSecond(ZoneOffset.UTC));
+        }
+
+        void writeValue(Object v) throws IOException {
+            if (v == null) {
+                writeByte(T_NULL);
+            } else if (v instanceof Integer) {
+                writeByte(T_INT);
+                writeSigned((Integer) v);
+            } else if (v instanceof String) {
+                writeByte(T_STRING);
+                writeString((String) v);
+            } else if (v instanceof Boolean) {
+                writeByte((Boolean) v ? T_TRUE : T_FALSE);
+            } else if (v instanceof Long) {
+                writeByte(T_LONG);
+                writeSignedLong((Long) v);
+            } else if (v instanceof Double) {
+                writeByte(T_DOUBLE);
+                // 점수·배점처럼 가수 하위 비트가 0인 값이 짧아지도록 바이트 순서를 뒤집어 varint로 쓴다.
+                writeVarlong(Long.reverseBytes(Double.doubleToLongBits((Double) v)));
+            } else if (v instanceof Character) {
+                writeByte(T_CHAR);
+                writeVarint((Character) v);
+            } else if (v instanceof LocalDateTime) {
+                writeByte(T_DATETIME);
+                writeDateTime((LocalDateTime) v);
+            } else if (v instanceof Object[]) {
+                Object[] array = (Object[]) v;
+                if (array.getClass() != Object[].class) {
+                    writeSerialized(v);
+                    return;
+                }
+                enter();
+                writeByte(T_ARRAY);
+                writeVarint(array.length);
+                for (Object o : array) writeValue(o);
+                depth--;
+            } else if (v instanceof List) {
+                enter();
+                writeByte(T_LIST);
+                List<?> list = (List<?>) v;
+                writeVarint(list.size());
+                for (Object o : list) writeValue(o);
+                depth--;
+            } else if (v instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) v;
+                if (isAnswerMap(map)) {
+                    writeAnswers(map);
+                    return;
+                }
+                enter();
+                writeByte(T_MAP);
+                writeVarint(map.size());
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    writeValue(e.getKey());
+                    writeValue(e.getValue());
+                }
+                depth--;
+            } else if (v.getClass() == QuestionFull.class) {
+                writeByte(T_QUESTION);
+                writeQuestion((QuestionFull) v);
+            } else if (v.getClass() == Exam.class) {
+                writeByte(T_EXAM);
+                writeExam((Exam) v);
+            } else if (v.getClass() == ExamResult.class) {
+                writeByte(T_RESULT);
+                ExamResult r = (ExamResult) v;
+                writeSigned(r.getResultId());
+                writeSigned(r.getExamId());
+                writeSigned(r.getUserId());
+                writeSigned(r.getScore());
+                writeDateTime(r.getCompletedAt());
+            } else {
+                writeSerialized(v);
+            }
+        }
+
+        void writeSerialized(Object v) throws IOException {
+            byte[] bytes = fallback.encode(v);
+            writeByte(T_SERIALIZED);
+            writeVarint(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        /** 키가 모두 Integer, 값이 모두 String(또는 null)인 비어 있지 않은 맵 (LinkedHashMap은 순서 보존을 위해 제외) */
+        boolean isAnswerMap(Map<?, ?> map) {
+            if (map.isEmpty() || map instanceof LinkedHashMap) return false;
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                if (!(e.getKey() instanceof Integer)) return false;
+                if (e.getValue() != null && !(e.getValue() instanceof String)) return false;
+            }
+            return true;
+        }
+
+        void writeAnswers(Map<?, ?> map) {
+            writeByte(T_ANSWERS);
+            int[] keys = new int[map.size()];
+            int i = 0;
+            for (Object k : map.keySet()) keys[i++] = (Integer) k;
+            Arrays.sort(keys);
+            writeVarint(keys.length);
+            int prev = 0;
+            for (int k : keys) {
+                writeSigned(k - prev);
+                writeString((String) map.get(k));
+                prev = k;
+            }
+        }
+
+        void writeExam(Exam e) {
+            writeSigned(e.getExamId());
+            writeString(e.getSubject());
+            writeDateTime(e.getCreatedAt());
+            writeDateTime(e.getStartDate());
+            writeDateTime(e.getEndDate());
+            writeSigned(e.getDurationMinutes());
+            writeSigned(e.getQuestionCnt());
+        }
+
+        /** 문제 → 선택지(question_id는 문제 기준 차이, option_id는 직전 기준 차이) → 정답키 */
+        void writeQuestion(QuestionFull q) {
+            QuestionBank qb = q.getQuestionBank();
+            int qId = 0;
+            if (qb == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                qId = qb.getQuestionId();
+                writeSigned(qId);
+                writeSigned(qb.getExamId());
+                writeString(qb.getType());
+                writeString(qb.getQuestionText());
+            }
+            List<QuestionOption> options = q.getOptions();
+            if (options == null) {
+                writeVarint(0);
+            } else {
+                writeVarint(options.size() + 1);
+                int prevOptionId = 0;
+                for (QuestionOption o : options) {
+                    writeSigned(o.getOptionId() - prevOptionId);
+                    writeSigned(o.getQuestionId() - qId);
+                    writeVarint(o.getOptionLabel());
+                    writeString(o.getContent());
+                    prevOptionId = o.getOptionId();
+                }
+            }
+            AnswerKey key = q.getAnswerKey();
+            if (key == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeSigned(key.getQuestionId() - qId);
+                writeVarint(key.getCorrectLabel() == null ? 0 : key.getCorrectLabel() + 1);
+                writeString(key.getCorrectText());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+    }
+
+    /** 디코더 (ByteBuffer에서 바로 읽는다) */
+    private final class Reader {
+        final ByteBuffer in;
+        final List<String> strings = new ArrayList<>();
+        int depth;
+
+        Reader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        void enter() throws IOException {
+            if (++depth > MAX_DEPTH) throw new IOException("컬렉션 중첩이 " + MAX_DEPTH + "단계를 넘습니다.");
+        }
+
+        int readVarint() throws IOException {
+            return BinaryCodec.readVarint(in);
+        }
+
+        long readVarlong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = in.get();
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return v;
+            }
+            throw new IOException("varint가 너무 깁니다.");
+        }
+
+        int readSigned() throws IOException {
+            int v = readVarint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long readSignedLong() throws IOException {
+            long v = readVarlong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        /** 원소 수가 남은 바이트보다 많으면 손상된 본문이다. (원소마다 최소 1바이트) */
+        int readCount() throws IOException {
+            int n = readVarint();
+            if (n < 0 || n > in.remaining()) throw new IOException("원소 수가 본문 크기를 넘습니다: " + n);
+            return n;
+        }
+
+        String readString() throws IOException {
+            int v = readVarint();
+            if (v == 0) return null;
+            if ((v & 1) == 1) {
+                int ref = v >>> 1;
+                if (ref >= strings.size()) throw new IOException("잘못된 문자열 표 번호입니다: " + ref);
+                return strings.get(ref);
+            }
+            int length = (v >>> 1) - 1;
+            if (length < 0 || length > in.remaining()) throw new IOException("문자열 길이가 본문 크기를 넘습니다: " + length);
+            String s;
+            if (in.hasArray()) {
+                s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                s = new String(bytes, StandardCharsets.UTF_8);
+            }
+            strings.add(s);
+            return s;
+        }
+
+        LocalDateTime readDateTime() throws IOException {
+            int nano = readVarint();
+            if (nano == 0) return null;
+            return LocalDateTime.ofEpochSecond(readSignedLong(), nano - 1, ZoneOffset.UTC);
+        }
+
+        Object readValue() throws IOException {
+            byte tag = in.get();
+            switch (tag) {
+                case T_NULL:
+                    return null;
+                case T_TRUE:
+                    return Boolean.TRUE;
+                case T_FALSE:
+                    return Boolean.FALSE;
+                case T_INT:
+                    return readSigned();
+                case T_LONG:
+                    return readSignedLong();
+                case T_DOUBLE:
+                    return Double.longBitsToDouble(Long.reverseBytes(readVarlong()));
+                case T_STRING:
+                    return readString();
+                case T_CHAR:
+                    return (char) readVarint();
+                case T_DATETIME:
+                    return readDateTime();
+                case T_ARRAY: {
+                    enter();
+                    Object[] array = new Object[readCount()];
+                    for (int i = 0; i < array.length; i++) array[i] = readValue();
+                    depth--;
+                    return array;
+                }
+                case T_LIST: {
+                    enter();
+                    int n = readCount();
+                    List<Object> list = new ArrayList<>(n);
+                    for (int i = 0; i < n; i++) list.add(readValue());
+                    depth--;
+                    return list;
+                }
+                case T_MAP: {
+                    enter();
+                    int n = readCount();
+                    Map<Object, Object> map = new LinkedHashMap<>(n * 4 / 3 + 1);
+                    for (int i = 0; i < n; i++) map.put(readValue(), readValue());
+                    depth--;
+                    return map;
+                }
+                case T_ANSWERS: {
+                    int n = readCount();
+                    Map<Integer, String> map = new HashMap<>(n * 4 / 3 + 1);
+                    int key = 0;
+                    for (int i = 0; i < n; i++) {
+                        key += readSigned();
+                        map.put(key, readString());
+                    }
+                    return map;
+                }
+                case T_EXAM:
+                    return readExam();
+                case T_QUESTION:
+                    return readQuestion();
+                case T_RESULT: {
+                    ExamResult r = new ExamResult();
+                    r.setResultId(readSigned());
+                    r.setExamId(readSigned());
+                    r.setUserId(readSigned());
+                    r.setScore(readSigned());
+                    r.setCompletedAt(readDateTime());
+                    return r;
+                }
+                case T_SERIALIZED: {
+                    int length = readCount();
+                    ByteBuffer slice = in.slice();
+                    slice.limit(length);
+                    in.position(in.position() + length);
+                    return fallback.decode(slice);
+                }
+                default:
+                    throw new IOException("알 수 없는 값 태그입니다: " + tag);
+            }
+        }
+
+        Exam readExam() throws IOException {
+            Exam e = new Exam();
+            e.setExamId(readSigned());
+            e.setSubject(readString());
+            e.setCreatedAt(readDateTime());
+            e.setStartDate(readDateTime());
+            e.setEndDate(readDateTime());
+            e.setDurationMinutes(readSigned());
+            e.setQuestionCnt(readSigned());
+            return e;
+        }
+
+        QuestionFull readQuestion() throws IOException {
+            QuestionFull q = new QuestionFull();
+            int qId = 0;
+            if (in.get() != 0) {
+                qId = readSigned();
+                q.setQuestionBank(new QuestionBank(qId, readSigned(), readString(), readString()));
+            }
+            int optionCount = readVarint() - 1;
+            if (optionCount > in.remaining()) throw new IOException("선택지 수가 본문 크기를 넘습니다: " + optionCount);
+            if (optionCount >= 0) {
+                List<QuestionOption> options = new ArrayList<>(optionCount);
+                int optionId = 0;
+                for (int i = 0; i < optionCount; i++) {
+                    optionId += readSigned();
+                    options.add(new QuestionOption(optionId, qId + readSigned(), (char) readVarint(), readString()));
+                }
+                q.setOptions(options);
+            }
+            if (in.get() != 0) {
+                int keyQuestionId = qId + readSigned();
+                int label = readVarint();
+                q.setAnswerKey(new AnswerKey(keyQuestionId, label == 0 ? null : (char) (label - 1), readString()));
+            }
+            return q;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package main.java.rpc;
+
+import main.java.metrics.MetricsExporter;
+import main.java.model.UserProfile;
+import main.java.service.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 화면 없는 CBT 서버 프로세스
+ * - 서비스 인터페이스를 RPC로 내보내므로 학생 클라이언트(-Dcbt.rpc.server=host:port)는 DB에 직접 붙지 않는다.
+ *   커넥션 풀·문항 캐시·정답키 색인·통계 병합이 이 프로세스 하나에 모인다.
+ * - 인증 서비스 외의 호출은 유효한 세션 토큰이 있어야 하며, 이를 끄는 설정은 없다.
+ * - 시험·문항·배정 관리, 정답 조회, 채점, 진행 현황 조회는 관리자 세션만 호출할 수 있다.
+ * - 학생 호출의 userId는 세션 사용자와 대조하고, 학생에게 보내는 문항에는 정답키가 없다. (Server*Service 래퍼)
+ * - 주소: -Dcbt.rpc.host(기본 127.0.0.1) / -Dcbt.rpc.port(기본 7070)
+ *   작업 스레드 수(cbt.rpc.workers)는 DB 풀 크기(cbt.db.pool.maxSize)에 맞춰 잡는다.
+ */
+public final class CbtServer {
+    /** 관리자만 호출할 수 있는 서비스 (전체) */
+    private static final Set<String> ADMIN_SERVICES =
+            Set.of(GradingService.class.getSimpleName(), StatisticsService.class.getSimpleName());
+    /** 관리자만 호출할 수 있는 메서드 ("서비스.메서드") */
+    private static final Set<String> ADMIN_METHODS = new HashSet<>();
+
+    static {
+        adminOnly(ExamService.class, "createFullExam", "saveExamResult",
+                "assignExamToUsers", "assignExamByTargets", "replaceExamTargets");
+        adminOnly(QuestionService.class, "getCorrectAnswer", "addQuestions", "importQuestions",
+                "updateAnswerKey", "deleteAnswerKey");
+        adminOnly(ExamProgressService.class, "getProgress", "getMonitoredExams");
+    }
+
+    private CbtServer() {
+    }
+
+    /** 서비스를 모두 등록한 서버를 만든다. (시작은 호출자가 한다) */
+    public static RpcServer create(RpcCodec codec) {
+        RpcServer server = new RpcServer(codec, CbtServer::authorize);
+        server.register(AuthenticationService.class, new ServerAuthenticationService(new AuthenticationServiceImpl()));
+        ExamService exams = new ExamServiceImpl();
+        server.register(ExamService.class, new ServerExamService(exams));
+        server.register(QuestionService.class, new ServerQuestionService(new QuestionServiceImpl(), exams));
+        server.register(SubmissionService.class, new ServerSubmissionService(new SubmissionServiceImpl(), exams));
+        server.register(ResultService.class, new ServerResultService(new ResultServiceImpl()));
+        server.register(GradingService.class, new GradingServiceImpl());
+        server.register(ExamProgressService.class, new ServerExamProgressService(new ExamProgressServiceImpl()));
+        // 통계 증분 집계기(StatsAggregator)는 제출을 받는 이 프로세스에 있으므로 재계산·stale 조회도 여기서 한다.
+        server.register(StatisticsService.class, new StatisticsServiceImpl());
+        return server;
+    }
+
+    private static void authorize(String service, String method, String token) throws ServiceException {
+        if (service.equals(AuthenticationService.class.getSimpleName())) return;
+        UserProfile profile = UserSessionStore.shared().get(token);
+        if (profile == null) throw new ServiceException("세션이 없거나 만료되었습니다. 다시 로그인하세요.");
+        if (!profile.isAdmin()
+                && (ADMIN_SERVICES.contains(service) || ADMIN_METHODS.contains(service + "." + method))) {
+            throw new ServiceException("관리자만 사용할 수 있는 기능입니다.");
+        }
+    }
+
+    /** 메서드 이름 오타로 검사가 조용히 빠지지 않도록 인터페이스에 있는 이름인지 확인하며 등록한다. */
+    private static void adminOnly(Class<?> iface, String... methods) {
+        Set<String> declared = new HashSet<>();
+        for (Method m : iface.getMethods()) declared.add(m.getName());
+        for (String method : methods) {
+            if (!declared.contains(method)) {
+                throw new IllegalStateException(iface.getSimpleName() + "에 " + method + " 메서드가 없습니다.");
+            }
+            ADMIN_METHODS.add(iface.getSimpleName() + "." + method);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = System.getProperty("cbt.rpc.host", "127.0.0.1");
+        int port = Integer.getInteger("cbt.rpc.port", 7070);
+
+        MetricsExporter.startFromSystemProperties();
+        ExamWarmup warmup = new ExamWarmup();
+        warmup.start();
+
+        RpcServer server = create(RpcCodec.configured());
+        server.start(host, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            warmup.stop();
+            StatsAggregator.shared().flush();
+            StatsAggregator.shared().stop();
+            MetricsExporter.stop();
+        }, "cbt-server-shutdown"));
+        System.out.println("[CbtServer] " + host + ":" + server.getPort() + " 에서 대기 중");
+        // 서버 스레드는 모두 데몬이므로 종료 신호가 올 때까지 main을 붙잡아 둔다.
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,38 @@
+package main.java.rpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * 자바 기본 직렬화 코덱
+ * - 모델(main.java.model)과 JDK 컬렉션·시간 타입만 역직렬화하도록 필터를 건다.
+ *   (소켓으로 받은 임의 클래스를 만들지 않도록)
+ */
+final class JavaSerializationCodec implements RpcCodec {
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=32;maxarray=1000000;"
+                    + "main.java.model.*;java.lang.*;java.util.*;java.time.*;java.sql.Timestamp;java.sql.Date;!*");
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            in.setObjectInputFilter(FILTER);
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("역직렬화할 수 없는 클래스입니다: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package main.java.rpc;
+
+import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.service.AuthenticationService;
+import main.java.service.ServiceException;
+
+/**
+ * 클라이언트 쪽 인증 스텁
+ * - openSession()이 돌려준 토큰을 RpcClient에 기억시켜 이후 모든 호출에 싣고, closeSession()에서 지운다.
+ */
+final class RemoteAuthenticationService implements AuthenticationService {
+    private final RpcClient client;
+    private final AuthenticationService remote;
+
+    RemoteAuthenticationService(RpcClient client, AuthenticationService remote) {
+        this.client = client;
+        this.remote = remote;
+    }
+
+    @Override
+    public User login(String studentNumber, String password) throws ServiceException {
+        return remote.login(studentNumber, password);
+    }
+
+    @Override
+    public void invalidate(String studentNumber) {
+        remote.invalidate(studentNumber);
+    }
+
+    @Override
+    public String openSession(User user) {
+        String token = remote.openSession(user);
+        client.setToken(token);
+        return token;
+    }
+
+    @Override
+    public UserProfile getProfile(String token) throws ServiceException {
+        return remote.getProfile(token);
+    }
+
+    @Override
+    public void closeSession(String token) {
+        try {
+            remote.closeSession(token);
+        } finally {
+            if (token != null && token.equals(client.getToken())) client.setToken(null);
+        }
+    }
+}
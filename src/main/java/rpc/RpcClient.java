@@ -0,0 +1,238 @@
+package main.java.rpc;
+
+import main.java.service.AuthenticationService;
+import main.java.service.ServiceException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RPC 클라이언트 (서비스 인터페이스 스텁 생성)
+ * - 소켓 하나로 여러 스레드의 호출을 동시에 보내고 callId로 응답을 짝짓는다. (화면 스레드·자동 저장·하트비트가 공유)
+ * - 첫 호출 때 연결하며, 끊기면 대기 중인 호출을 실패시키고 다음 호출에서 다시 연결한다.
+ * - 서버 오류는 메서드가 ServiceException을 선언했으면 ServiceException(원인 없음)으로,
+ *   아니면 IllegalStateException으로 던진다. 통신 실패는 IOException을 원인으로 담는다.
+ * (-Dcbt.rpc.connectTimeoutMs 기본 3000 / -Dcbt.rpc.timeoutMs 기본 30000)
+ */
+public final class RpcClient implements Closeable {
+    private static final int CONNECT_TIMEOUT_MS = Integer.getInteger("cbt.rpc.connectTimeoutMs", 3_000);
+    private static final long CALL_TIMEOUT_MS = Long.getLong("cbt.rpc.timeoutMs", 30_000L);
+
+    private final String host;
+    private final int port;
+    private final RpcCodec codec;
+    private final AtomicInteger callSeq = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<Response>> pending = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> stubs = new ConcurrentHashMap<>();
+    private volatile String token;
+    private Socket socket;
+    private DataOutputStream out;
+
+    /** 서버 응답 (ok가 아니면 message에 오류 메시지) */
+    private static final class Response {
+        final boolean ok;
+        final ByteBuffer body;
+        final String message;
+
+        Response(boolean ok, ByteBuffer body, String message) {
+            this.ok = ok;
+            this.body = body;
+            this.message = message;
+        }
+    }
+
+    /** 서버가 돌려준 오류 */
+    private static final class RemoteFailure extends Exception {
+        RemoteFailure(String message) {
+            super(message);
+        }
+    }
+
+    public RpcClient(String host, int port, RpcCodec codec) {
+        this.host = host;
+        this.port = port;
+        this.codec = codec;
+    }
+
+    /** "host:port" 형식의 주소로 클라이언트를 만든다. (연결은 첫 호출 때) */
+    public static RpcClient forAddress(String address, RpcCodec codec) {
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0) throw new IllegalArgumentException("RPC 서버 주소는 host:port 형식이어야 합니다: " + address);
+        return new RpcClient(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)), codec);
+    }
+
+    /** 서비스 인터페이스의 원격 스텁 (인터페이스별로 하나만 만든다) */
+    public <T> T stub(Class<T> iface) {
+        return iface.cast(stubs.computeIfAbsent(iface, k -> Proxy.newProxyInstance(
+                iface.getClassLoader(), new Class<?>[]{iface}, handler(iface.getSimpleName()))));
+    }
+
+    /** 세션을 열면 토큰을 기억해 이후 호출에 싣는 인증 서비스 스텁 */
+    public AuthenticationService authenticationService() {
+        return new RemoteAuthenticationService(this, stub(AuthenticationService.class));
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    void setToken(String token) {
+        this.token = token;
+    }
+
+    @Override
+    public synchronized void close() {
+        disconnect(new IOException("RPC 클라이언트가 닫혔습니다."));
+    }
+
+    private InvocationHandler handler(String service) {
+        return (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "RpcStub[" + service + "@" + host + ":" + port + "]";
+                }
+            }
+            try {
+                return call(service, method.getName(), outbound(args));
+            } catch (RemoteFailure e) {
+                if (declaresServiceException(method)) throw new ServiceException(e.getMessage());
+                throw new IllegalStateException(e.getMessage());
+            } catch (IOException e) {
+                String message = "서버와 통신할 수 없습니다: " + host + ":" + port;
+                if (declaresServiceException(method)) throw new ServiceException(message, e);
+                throw new IllegalStateException(message, e);
+            }
+        };
+    }
+
+    /** 원격 메서드를 호출하고 반환값을 돌려준다. */
+    private Object call(String service, String method, Object[] args) throws IOException, RemoteFailure {
+        int callId = callSeq.incrementAndGet();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        pending.put(callId, future);
+        try {
+            byte[] frame = RpcProtocol.request(callId, service, method, token, codec.encode(args));
+            synchronized (this) {
+                ensureConnected();
+                try {
+                    RpcProtocol.writeFrame(out, frame);
+                } catch (IOException e) {
+                    disconnect(e);
+                    throw e;
+                }
+            }
+            Response response = future.get(CALL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (!response.ok) throw new RemoteFailure(response.message);
+            return codec.decode(response.body);
+        } catch (TimeoutException e) {
+            throw new IOException(service + "." + method + " 응답 시간(" + CALL_TIMEOUT_MS + "ms)을 넘었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("RPC 호출 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            pending.remove(callId);
+        }
+    }
+
+    private void ensureConnected() throws IOException {
+        if (socket != null) return;
+        Socket s = new Socket();
+        try {
+            s.setTcpNoDelay(true);
+            s.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+        } catch (IOException e) {
+            s.close();
+            throw e;
+        }
+        socket = s;
+        out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+        Thread reader = new Thread(() -> readLoop(s, in), "rpc-client-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /** 응답을 읽어 대기 중인 호출에 넘긴다. */
+    private void readLoop(Socket s, DataInputStream in) {
+        IOException failure = new IOException("서버가 연결을 닫았습니다.");
+        try {
+            byte[] frame;
+            while ((frame = RpcProtocol.readFrame(in)) != null) {
+                DataInputStream body = new DataInputStream(new ByteArrayInputStream(frame));
+                int callId = body.readInt();
+                boolean ok = body.readByte() == RpcProtocol.STATUS_OK;
+                Response response = ok
+                        ? new Response(true, ByteBuffer.wrap(frame, 5, frame.length - 5), null)
+                        : new Response(false, null, body.readUTF());
+                CompletableFuture<Response> future = pending.get(callId);
+                if (future != null) future.complete(response);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        synchronized (this) {
+            if (socket == s) disconnect(failure);
+        }
+    }
+
+    /** 연결을 닫고 대기 중인 호출을 모두 실패시킨다. (this 잠금 안에서 호출) */
+    private void disconnect(IOException cause) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            socket = null;
+            out = null;
+        }
+        for (CompletableFuture<Response> future : pending.values()) future.completeExceptionally(cause);
+    }
+
+    /** 직렬화할 수 없는 인자를 바꾼다. (Path → 경로 문자열, 서버가 같은 호스트라고 가정) */
+    private static Object[] outbound(Object[] args) {
+        if (args == null) return new Object[0];
+        Object[] copy = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Path) {
+                if (copy == null) copy = Arrays.copyOf(args, args.length);
+                copy[i] = ((Path) args[i]).toAbsolutePath().toString();
+            }
+        }
+        return copy != null ? copy : args;
+    }
+
+    private static boolean declaresServiceException(Method method) {
+        for (Class<?> type : method.getExceptionTypes()) {
+            if (type.isAssignableFrom(ServiceException.class)) return true;
+        }
+        return false;
+    }
+}
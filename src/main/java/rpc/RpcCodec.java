@@ -0,0 +1,40 @@
+package main.java.rpc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * RPC 본문(인자 배열·반환값) 직렬화 방식
+ * - 서버와 클라이언트는 같은 코덱을 써야 한다. (-Dcbt.rpc.codec, 기본 java)
+ */
+public interface RpcCodec {
+    /** 값을 바이트로 만든다. (null 포함) */
+    byte[] encode(Object value) throws IOException;
+
+    /** encode()가 만든 바이트를 값으로 되돌린다. */
+    Object decode(byte[] data) throws IOException;
+
+    /** buffer의 position부터 limit까지를 값으로 되돌린다. (기본 구현은 바이트 배열로 복사한다) */
+    default Object decode(ByteBuffer buffer) throws IOException {
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return decode(data);
+    }
+
+    /** 시스템 프로퍼티 cbt.rpc.codec에 지정된 코덱 */
+    static RpcCodec configured() {
+        return named(System.getProperty("cbt.rpc.codec", "java"));
+    }
+
+    /** 이름으로 코덱을 고른다. (java: 자바 직렬화, binary: BinaryCodec) */
+    static RpcCodec named(String name) {
+        switch (name) {
+            case "java":
+                return new JavaSerializationCodec();
+            case "binary":
+                return new BinaryCodec();
+            default:
+                throw new IllegalArgumentException("알 수 없는 RPC 코덱입니다: " + name);
+        }
+    }
+}
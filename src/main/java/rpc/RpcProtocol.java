@@ -0,0 +1,80 @@
+package main.java.rpc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * RPC 프레임 형식 (길이 접두 프레임, 한 소켓에서 여러 호출을 섞어 보낸다)
+ *   프레임:  [int 길이][본문]
+ *   요청 본문: [int callId][UTF 서비스][UTF 메서드][UTF 토큰("" = 없음)][코덱 인코딩 Object[] 인자]
+ *   응답 본문: [int callId][byte 상태][OK: 코덱 인코딩 반환값 | ERROR: UTF 메시지]
+ * 응답은 callId로 요청과 짝지으므로 도착 순서가 요청 순서와 달라도 된다.
+ */
+final class RpcProtocol {
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    /** 프레임 최대 크기 (-Dcbt.rpc.maxFrameBytes, 기본 16MB) */
+    static final int MAX_FRAME_BYTES = Integer.getInteger("cbt.rpc.maxFrameBytes", 16 * 1024 * 1024);
+
+    private RpcProtocol() {
+    }
+
+    /** 프레임 하나를 읽는다. 상대가 연결을 정상 종료했으면 null */
+    static byte[] readFrame(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("프레임 크기가 허용 범위를 벗어났습니다: " + length);
+        }
+        byte[] frame = new byte[length];
+        in.readFully(frame);
+        return frame;
+    }
+
+    /** 프레임 하나를 쓴다. (호출자가 스트림 단위로 동기화해야 한다) */
+    static void writeFrame(DataOutputStream out, byte[] frame) throws IOException {
+        if (frame.length > MAX_FRAME_BYTES) {
+            throw new IOException("프레임 크기가 허용 범위를 벗어났습니다: " + frame.length);
+        }
+        out.writeInt(frame.length);
+        out.write(frame);
+        out.flush();
+    }
+
+    static byte[] request(int callId, String service, String method, String token, byte[] args) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + args.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(callId);
+        out.writeUTF(service);
+        out.writeUTF(method);
+        out.writeUTF(token == null ? "" : token);
+        out.write(args);
+        return bytes.toByteArray();
+    }
+
+    static byte[] ok(int callId, byte[] result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 + result.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(callId);
+        out.writeByte(STATUS_OK);
+        out.write(result);
+        return bytes.toByteArray();
+    }
+
+    static byte[] error(int callId, String message) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(callId);
+        out.writeByte(STATUS_ERROR);
+        out.writeUTF(message == null ? "" : message);
+        return bytes.toByteArray();
+    }
+}
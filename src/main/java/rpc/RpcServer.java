@@ -0,0 +1,314 @@
+package main.java.rpc;
+
+import main.java.service.ServiceException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 인터페이스를 소켓으로 내보내는 RPC 서버
+ * - register(ExamService.class, impl)로 등록한 서비스를 "인터페이스 단순 이름 + 메서드 이름 + 인자 수"로 찾아 호출한다.
+ *   인자 수만으로 구분할 수 없는 오버로드는 등록 시 거부한다.
+ * - 연결마다 읽기 스레드 하나가 요청을 받아 공용 작업 풀(-Dcbt.rpc.workers, 기본 32 / 대기열 cbt.rpc.queue, 기본 1024)에
+ *   넘기므로 한 클라이언트의 느린 호출이 다른 호출을 막지 않는다. 대기열이 차면 즉시 "혼잡" 오류를 돌려준다.
+ * - 서비스가 던진 ServiceException은 메시지만 돌려주고 원인(DAO·SQL 예외)은 서버 로그에만 남긴다.
+ * - Authorizer로 세션·권한이 필요한 호출을 걸러낸다. (CbtServer 참고)
+ */
+public final class RpcServer implements Closeable {
+    private static final int WORKERS = Integer.getInteger("cbt.rpc.workers", 32);
+    private static final int QUEUE = Integer.getInteger("cbt.rpc.queue", 1024);
+
+    /** 호출 허용 여부 판단 (서비스·메서드·요청 토큰) */
+    @FunctionalInterface
+    public interface Authorizer {
+        /** 허용하지 않는 호출이면 클라이언트에 보여 줄 이유를 담아 던진다. */
+        void authorize(String service, String method, String token) throws ServiceException;
+    }
+
+    /** 처리 중인 호출의 요청자 정보 (서비스 구현이 current()로 읽는다) */
+    public static final class Caller {
+        private final Map<String, Object> attributes;
+        private final String token;
+
+        Caller(Map<String, Object> attributes, String token) {
+            this.attributes = attributes;
+            this.token = token;
+        }
+
+        /** 요청에 실린 세션 토큰 (없으면 null) */
+        public String getToken() {
+            return token;
+        }
+
+        /** 같은 연결에서 보낸 호출끼리 공유하는 값 */
+        public Object get(String key) {
+            return attributes.get(key);
+        }
+
+        public void put(String key, Object value) {
+            attributes.put(key, value);
+        }
+    }
+
+    private static final ThreadLocal<Caller> CURRENT = new ThreadLocal<>();
+
+    private final RpcCodec codec;
+    private final Authorizer authorizer;
+    /** "ExamService" → ("getOpenExams/2" → 호출 대상) */
+    private final Map<String, Map<String, Target>> services = new ConcurrentHashMap<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionSeq = new AtomicInteger();
+    private ThreadPoolExecutor workers;
+    private ServerSocket serverSocket;
+
+    private static final class Target {
+        final Object impl;
+        final Method method;
+
+        Target(Object impl, Method method) {
+            this.impl = impl;
+            this.method = method;
+        }
+    }
+
+    public RpcServer(RpcCodec codec, Authorizer authorizer) {
+        this.codec = codec;
+        this.authorizer = authorizer;
+    }
+
+    /** 현재 스레드가 처리 중인 호출의 요청자 (RPC 호출이 아니면 null) */
+    public static Caller current() {
+        return CURRENT.get();
+    }
+
+    /** 서비스 인터페이스를 등록한다. (start() 전에 호출) */
+    public <T> void register(Class<T> iface, T impl) {
+        Map<String, Target> methods = new HashMap<>();
+        for (Method m : iface.getMethods()) {
+            if (m.isDefault() || Modifier.isStatic(m.getModifiers())) continue;
+            String key = m.getName() + "/" + m.getParameterCount();
+            if (methods.put(key, new Target(impl, m)) != null) {
+                throw new IllegalArgumentException(
+                        iface.getSimpleName() + "." + m.getName() + " 오버로드를 인자 수로 구분할 수 없습니다.");
+            }
+        }
+        services.put(iface.getSimpleName(), methods);
+    }
+
+    /** host:port에서 연결을 받기 시작한다. (port 0이면 임의 포트) */
+    public synchronized void start(String host, int port) throws IOException {
+        if (serverSocket != null) return;
+        workers = new ThreadPoolExecutor(WORKERS, WORKERS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE), daemonFactory("rpc-worker"), new ThreadPoolExecutor.AbortPolicy());
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(host), port));
+        ServerSocket listening = serverSocket;
+        Thread acceptor = new Thread(() -> acceptLoop(listening), "rpc-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /** 실제로 바인딩된 포트 */
+    public synchronized int getPort() {
+        return serverSocket == null ? -1 : serverSocket.getLocalPort();
+    }
+
+    /** 열린 연결 수 */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /** 연결을 모두 끊고 처리 중인 호출이 끝나기를 잠시 기다린다. */
+    @Override
+    public synchronized void close() {
+        if (serverSocket == null) return;
+        closeQuietly(serverSocket);
+        serverSocket = null;
+        for (Socket s : connections) closeQuietly(s);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptLoop(ServerSocket listening) {
+        while (!listening.isClosed()) {
+            Socket socket;
+            try {
+                socket = listening.accept();
+            } catch (IOException e) {
+                if (!listening.isClosed()) System.err.println("[RpcServer] 연결 수락 실패: " + e.getMessage());
+                continue;
+            }
+            connections.add(socket);
+            Thread reader = new Thread(() -> serve(socket), "rpc-conn-" + connectionSeq.incrementAndGet());
+            reader.setDaemon(true);
+            reader.start();
+        }
+    }
+
+    /** 연결 하나의 요청을 읽어 작업 풀에 넘긴다. */
+    private void serve(Socket socket) {
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            byte[] frame;
+            while ((frame = RpcProtocol.readFrame(in)) != null) {
+                byte[] request = frame;
+                try {
+                    workers.execute(() -> reply(out, handle(request, attributes)));
+                } catch (RejectedExecutionException e) {
+                    reply(out, RpcProtocol.error(callIdOf(request), "서버가 혼잡합니다. 잠시 후 다시 시도하세요."));
+                }
+            }
+        } catch (IOException e) {
+            if (!socket.isClosed()) System.err.println("[RpcServer] 연결 오류: " + e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /** 요청 하나를 처리해 응답 본문을 만든다. */
+    private byte[] handle(byte[] request, Map<String, Object> attributes) {
+        int callId = callIdOf(request);
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(request));
+            in.readInt();
+            String service = in.readUTF();
+            String method = in.readUTF();
+            String token = in.readUTF();
+            if (token.isEmpty()) token = null;
+            // 인자 본문은 복사하지 않고 프레임 배열 위에서 바로 디코딩한다.
+            int remaining = in.available();
+            ByteBuffer body = ByteBuffer.wrap(request, request.length - remaining, remaining);
+            try {
+                return RpcProtocol.ok(callId, codec.encode(invoke(service, method, token, body, attributes)));
+            } catch (ServiceException e) {
+                if (e.getCause() != null) {
+                    System.err.println("[RpcServer] " + service + "." + method + " 실패: " + e.getCause());
+                }
+                return RpcProtocol.error(callId, e.getMessage());
+            } catch (RuntimeException e) {
+                System.err.println("[RpcServer] " + service + "." + method + " 실패: " + e);
+                return RpcProtocol.error(callId, e.getMessage() != null ? e.getMessage() : e.toString());
+            } catch (Exception e) {
+                System.err.println("[RpcServer] " + service + "." + method + " 실패: " + e);
+                return RpcProtocol.error(callId, "서버 처리 중 오류가 발생했습니다.");
+            } catch (Error e) {
+                // 작업 스레드가 죽어 클라이언트가 응답을 영영 못 받는 일이 없도록 오류 프레임으로 돌려준다.
+                System.err.println("[RpcServer] " + service + "." + method + " 처리 중 심각한 오류: " + e);
+                return RpcProtocol.error(callId, "서버가 요청을 처리하지 못했습니다.");
+            }
+        } catch (IOException e) {
+            return errorFrame(callId, "요청을 해석할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private Object invoke(String service, String method, String token, ByteBuffer body,
+                          Map<String, Object> attributes) throws Exception {
+        Map<String, Target> methods = services.get(service);
+        if (methods == null) throw new ServiceException("등록되지 않은 서비스입니다: " + service);
+        // 인자를 역직렬화하기 전에 토큰부터 확인한다.
+        authorizer.authorize(service, method, token);
+        Object[] args;
+        try {
+            args = (Object[]) codec.decode(body);
+        } catch (IOException | ClassCastException e) {
+            throw new ServiceException("요청 인자를 해석할 수 없습니다: " + e.getMessage());
+        }
+        int argc = args == null ? 0 : args.length;
+        Target target = methods.get(method + "/" + argc);
+        if (target == null) {
+            throw new ServiceException("지원하지 않는 호출입니다: " + service + "." + method + "/" + argc);
+        }
+        coerce(target.method, args);
+        CURRENT.set(new Caller(attributes, token));
+        try {
+            return target.method.invoke(target.impl, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception) cause;
+            throw (Error) cause;
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /** 직렬화할 수 없는 인자 타입을 보정한다. (Path는 같은 호스트의 경로 문자열로 받는다) */
+    private static void coerce(Method method, Object[] args) {
+        if (args == null) return;
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < args.length; i++) {
+            if (types[i] == Path.class && args[i] instanceof String) args[i] = Paths.get((String) args[i]);
+        }
+    }
+
+    private void reply(DataOutputStream out, byte[] response) {
+        try {
+            synchronized (out) {
+                RpcProtocol.writeFrame(out, response);
+            }
+        } catch (IOException e) {
+            // 연결이 끊겼다. 읽기 스레드가 정리한다.
+        }
+    }
+
+    private static byte[] errorFrame(int callId, String message) {
+        try {
+            return RpcProtocol.error(callId, message);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int callIdOf(byte[] request) {
+        if (request.length < 4) return -1;
+        return ((request[0] & 0xff) << 24) | ((request[1] & 0xff) << 16) | ((request[2] & 0xff) << 8) | (request[3] & 0xff);
+    }
+
+    private static ThreadFactory daemonFactory(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static void closeQuietly(Closeable c) {
+        try {
+            c.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
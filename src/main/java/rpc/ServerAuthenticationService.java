@@ -0,0 +1,55 @@
+package main.java.rpc;
+
+import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.service.AuthenticationService;
+import main.java.service.ServiceException;
+
+/**
+ * 서버 쪽 인증 서비스 래퍼
+ * - 원격 클라이언트가 보낸 User를 믿지 않는다. openSession()은 같은 연결에서 login()에 성공한
+ *   사용자에 대해서만, 서버가 login() 때 받은 User로 세션을 연다. (권한 필드 위조 방지)
+ * - invalidate()는 관리 기능이므로 원격에서 막는다.
+ */
+final class ServerAuthenticationService implements AuthenticationService {
+    private static final String LOGGED_IN = "auth.loggedInUser";
+
+    private final AuthenticationService delegate;
+
+    ServerAuthenticationService(AuthenticationService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public User login(String studentNumber, String password) throws ServiceException {
+        User user = delegate.login(studentNumber, password);
+        RpcServer.Caller caller = RpcServer.current();
+        if (caller != null) caller.put(LOGGED_IN, user);
+        return user;
+    }
+
+    @Override
+    public void invalidate(String studentNumber) {
+        throw new IllegalStateException("원격에서는 인증 캐시를 비울 수 없습니다.");
+    }
+
+    @Override
+    public String openSession(User user) {
+        RpcServer.Caller caller = RpcServer.current();
+        User loggedIn = caller == null ? null : (User) caller.get(LOGGED_IN);
+        if (loggedIn == null || user == null || loggedIn.getUserId() != user.getUserId()) {
+            throw new IllegalStateException("로그인한 사용자만 세션을 열 수 있습니다.");
+        }
+        return delegate.openSession(loggedIn);
+    }
+
+    @Override
+    public UserProfile getProfile(String token) throws ServiceException {
+        return delegate.getProfile(token);
+    }
+
+    @Override
+    public void closeSession(String token) {
+        delegate.closeSession(token);
+    }
+}
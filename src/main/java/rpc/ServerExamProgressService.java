@@ -0,0 +1,47 @@
+package main.java.rpc;
+
+import main.java.model.Exam;
+import main.java.model.ExamProgress;
+import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.service.ExamProgressService;
+import main.java.service.ServiceException;
+
+import java.util.List;
+
+/**
+ * 서버 쪽 진행 현황 서비스 래퍼
+ * - 응시 알림은 클라이언트가 보낸 User 대신 세션 프로필로 기록한다. (다른 학생 이름으로 기록 방지)
+ * - 진행 현황 조회는 CbtServer가 관리자에게만 허용한다.
+ */
+final class ServerExamProgressService implements ExamProgressService {
+    private final ExamProgressService delegate;
+
+    ServerExamProgressService(ExamProgressService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void startSession(User user, int examId, int questionCount, int answeredCount) {
+        UserProfile profile = SessionUser.current();
+        if (user == null || user.getUserId() != profile.getUserId()) {
+            throw new IllegalStateException("다른 사용자의 응시를 기록할 수 없습니다.");
+        }
+        delegate.startSession(profile.toUser(), examId, questionCount, answeredCount);
+    }
+
+    @Override
+    public void heartbeat(int userId, int examId, int answeredCount) {
+        delegate.heartbeat(SessionUser.check(userId), examId, answeredCount);
+    }
+
+    @Override
+    public ExamProgress getProgress(int examId, long sinceVersion) throws ServiceException {
+        return delegate.getProgress(examId, sinceVersion);
+    }
+
+    @Override
+    public List<Exam> getMonitoredExams() throws ServiceException {
+        return delegate.getMonitoredExams();
+    }
+}
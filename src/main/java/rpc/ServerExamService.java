@@ -0,0 +1,119 @@
+package main.java.rpc;
+
+import main.java.dao.DaoException;
+import main.java.model.AssignmentChange;
+import main.java.model.Exam;
+import main.java.model.ExamResult;
+import main.java.model.ExamsDepartment;
+import main.java.model.QuestionFull;
+import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.service.ExamService;
+import main.java.service.ServiceException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 쪽 시험 서비스 래퍼
+ * - userId를 받는 호출은 세션 사용자와 대조한다. (학생은 자기 것만)
+ * - 답안 저장은 응시 가능한 시험에만 받는다. 최종 제출은 ExamServiceImpl.submitExam이 같은 검사와 중복 제출 잠금을 한다.
+ * - getAllExamsForUser()는 클라이언트가 보낸 User 대신 세션 프로필로 조회한다. (학과·학년 위조 방지)
+ * - 시험 생성·배정·결과 직접 저장은 CbtServer가 관리자에게만 허용한다.
+ */
+final class ServerExamService implements ExamService {
+    private final ExamService delegate;
+
+    ServerExamService(ExamService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<Exam> getOpenExams() throws ServiceException {
+        return delegate.getOpenExams();
+    }
+
+    @Override
+    public List<Exam> getOpenExams(int dpmtId, int grade) throws ServiceException {
+        return delegate.getOpenExams(dpmtId, grade);
+    }
+
+    @Override
+    public Exam getExamById(int examId) throws ServiceException {
+        return delegate.getExamById(examId);
+    }
+
+    @Override
+    public void createFullExam(Exam exam, List<QuestionFull> questions, List<ExamsDepartment> targets)
+            throws ServiceException {
+        delegate.createFullExam(exam, questions, targets);
+    }
+
+    @Override
+    public void submitAllAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
+        SessionUser.checkExam(delegate, userId, examId);
+        delegate.submitAllAnswers(userId, examId, answers);
+    }
+
+    @Override
+    public int submitExam(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
+        return delegate.submitExam(SessionUser.check(userId), examId, answers);
+    }
+
+    @Override
+    public void saveExamResult(int userId, int examId, int score) throws ServiceException {
+        delegate.saveExamResult(userId, examId, score);
+    }
+
+    @Override
+    public boolean hasUserTakenExam(int userId, int examId) throws ServiceException {
+        return delegate.hasUserTakenExam(SessionUser.check(userId), examId);
+    }
+
+    @Override
+    public boolean canTakeExam(int userId, int examId) throws ServiceException {
+        return delegate.canTakeExam(SessionUser.check(userId), examId);
+    }
+
+    @Override
+    public Map<Integer, ExamResult> getExamResultsByUser(int userId) throws ServiceException, DaoException {
+        return delegate.getExamResultsByUser(SessionUser.check(userId));
+    }
+
+    @Override
+    public List<Exam> getAllExams(int dpmtId, int grade) throws ServiceException {
+        return delegate.getAllExams(dpmtId, grade);
+    }
+
+    @Override
+    public List<Exam> getAllExamsForUser(User user) throws ServiceException {
+        UserProfile profile = SessionUser.current();
+        if (profile.isAdmin() && user != null) return delegate.getAllExamsForUser(user);
+        return delegate.getAllExamsForUser(profile.toUser());
+    }
+
+    @Override
+    public List<Exam> getAssignedOpenExams(int userId) throws ServiceException {
+        return delegate.getAssignedOpenExams(SessionUser.check(userId));
+    }
+
+    @Override
+    public List<Exam> getAssignedExams(int userId) throws ServiceException {
+        return delegate.getAssignedExams(SessionUser.check(userId));
+    }
+
+    @Override
+    public void assignExamToUsers(int examId, List<Integer> userIds) throws ServiceException {
+        delegate.assignExamToUsers(examId, userIds);
+    }
+
+    @Override
+    public AssignmentChange assignExamByTargets(int examId) throws ServiceException {
+        return delegate.assignExamByTargets(examId);
+    }
+
+    @Override
+    public AssignmentChange replaceExamTargets(int examId, List<ExamsDepartment> targets) throws ServiceException {
+        return delegate.replaceExamTargets(examId, targets);
+    }
+}
@@ -0,0 +1,66 @@
+package main.java.rpc;
+
+import main.java.model.AnswerKey;
+import main.java.model.QuestionFull;
+import main.java.model.UserProfile;
+import main.java.service.ExamService;
+import main.java.service.QuestionService;
+import main.java.service.ServiceException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서버 쪽 문항 서비스 래퍼
+ * - 학생에게는 응시 가능한 시험의 문항만 보내고, 정답키는 뺀다. (채점은 ExamService.submitExam이 서버에서 한다)
+ * - 정답 조회·문항 추가·가져오기·정답 수정은 CbtServer가 관리자에게만 허용한다.
+ *   importQuestions의 경로는 서버 파일 시스템 경로이므로 특히 학생에게 열어 두면 안 된다.
+ */
+final class ServerQuestionService implements QuestionService {
+    private final QuestionService delegate;
+    private final ExamService exams;
+
+    ServerQuestionService(QuestionService delegate, ExamService exams) {
+        this.delegate = delegate;
+        this.exams = exams;
+    }
+
+    @Override
+    public List<QuestionFull> getQuestionsByExam(int examId) throws ServiceException {
+        UserProfile profile = SessionUser.current();
+        if (profile.isAdmin()) return delegate.getQuestionsByExam(examId);
+        SessionUser.checkExam(exams, profile.getUserId(), examId);
+        List<QuestionFull> questions = delegate.getQuestionsByExam(examId);
+        List<QuestionFull> stripped = new ArrayList<>(questions.size());
+        for (QuestionFull q : questions) {
+            stripped.add(new QuestionFull(q.getQuestionBank(), q.getOptions(), null));
+        }
+        return stripped;
+    }
+
+    @Override
+    public String getCorrectAnswer(int questionId) throws ServiceException {
+        return delegate.getCorrectAnswer(questionId);
+    }
+
+    @Override
+    public int addQuestions(int examId, List<QuestionFull> questions) throws ServiceException {
+        return delegate.addQuestions(examId, questions);
+    }
+
+    @Override
+    public int importQuestions(int examId, Path csv) throws ServiceException {
+        return delegate.importQuestions(examId, csv);
+    }
+
+    @Override
+    public void updateAnswerKey(AnswerKey key) throws ServiceException {
+        delegate.updateAnswerKey(key);
+    }
+
+    @Override
+    public void deleteAnswerKey(int questionId) throws ServiceException {
+        delegate.deleteAnswerKey(questionId);
+    }
+}
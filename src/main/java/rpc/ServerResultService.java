@@ -0,0 +1,24 @@
+package main.java.rpc;
+
+import main.java.model.ExamResult;
+import main.java.service.ResultService;
+import main.java.service.ServiceException;
+
+import java.util.Map;
+
+/**
+ * 서버 쪽 결과 조회 서비스 래퍼
+ * - 학생은 자기 결과만 조회할 수 있다.
+ */
+final class ServerResultService implements ResultService {
+    private final ResultService delegate;
+
+    ServerResultService(ResultService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Map<Integer, ExamResult> getResultsByUser(int userId) throws ServiceException {
+        return delegate.getResultsByUser(SessionUser.check(userId));
+    }
+}
@@ -0,0 +1,39 @@
+package main.java.rpc;
+
+import main.java.service.ExamService;
+import main.java.service.ServiceException;
+import main.java.service.SubmissionService;
+
+import java.util.Map;
+
+/**
+ * 서버 쪽 답안 저장 서비스 래퍼
+ * - 학생은 자기 답안만, 응시 가능한 시험(배정·기간 중·미제출)에서만 저장·조회할 수 있다.
+ */
+final class ServerSubmissionService implements SubmissionService {
+    private final SubmissionService delegate;
+    private final ExamService exams;
+
+    ServerSubmissionService(SubmissionService delegate, ExamService exams) {
+        this.delegate = delegate;
+        this.exams = exams;
+    }
+
+    @Override
+    public void submitAnswer(int userId, int examId, int questionId, String answer) throws ServiceException {
+        SessionUser.checkExam(exams, userId, examId);
+        delegate.submitAnswer(userId, examId, questionId, answer);
+    }
+
+    @Override
+    public void submitAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
+        SessionUser.checkExam(exams, userId, examId);
+        delegate.submitAnswers(userId, examId, answers);
+    }
+
+    @Override
+    public Map<Integer, String> getSavedAnswers(int userId, int examId) throws ServiceException {
+        SessionUser.checkExam(exams, userId, examId);
+        return delegate.getSavedAnswers(userId, examId);
+    }
+}
@@ -0,0 +1,48 @@
+package main.java.rpc;
+
+import main.java.model.UserProfile;
+import main.java.service.ExamService;
+import main.java.service.ServiceException;
+import main.java.service.UserSessionStore;
+
+/**
+ * 처리 중인 RPC 호출의 세션 사용자
+ * - 원격 클라이언트가 인자로 보낸 userId·User는 믿지 않고, 요청 토큰의 세션 프로필과 대조한다.
+ * - 관리자는 다른 사용자의 userId로도 호출할 수 있다.
+ * - 학생의 문항 조회·답안 저장은 배정되어 있고 응시 기간 중이며 아직 제출하지 않은 시험에만 허용한다.
+ */
+final class SessionUser {
+    private SessionUser() {
+    }
+
+    /** 현재 호출의 세션 프로필 (세션이 없으면 예외) */
+    static UserProfile current() {
+        RpcServer.Caller caller = RpcServer.current();
+        UserProfile profile = caller == null ? null : UserSessionStore.shared().get(caller.getToken());
+        if (profile == null) throw new IllegalStateException("세션이 없거나 만료되었습니다. 다시 로그인하세요.");
+        return profile;
+    }
+
+    /** 학생은 자기 userId로만 호출할 수 있다. 허용되면 그대로 돌려준다. */
+    static int check(int userId) {
+        UserProfile profile = current();
+        if (!profile.isAdmin() && profile.getUserId() != userId) {
+            throw new IllegalStateException("다른 사용자의 정보에는 접근할 수 없습니다.");
+        }
+        return userId;
+    }
+
+    /** 학생은 응시 가능한 시험(ExamService.canTakeExam)에만 접근할 수 있다. 관리자는 검사하지 않는다. */
+    static void checkExam(ExamService exams, int userId, int examId) throws ServiceException {
+        UserProfile profile = current();
+        if (profile.isAdmin()) return;
+        check(userId);
+        if (!exams.canTakeExam(userId, examId)) {
+            throw new ServiceException("응시할 수 없는 시험입니다. (미배정, 응시 기간 아님 또는 이미 제출)");
+        }
+    }
+
+    static boolean isAdmin() {
+        return current().isAdmin();
+    }
+}
@@ -5,10 +5,11 @@ import main.java.dao.AnnouncementDao;
 import main.java.dao.AnnouncementDaoImpl;
 import main.java.dao.DaoException;
 import main.java.model.Announcement;
+import main.java.metrics.DaoMetrics;
 import java.util.List;
 
 public class AnnouncementServiceImpl implements AnnouncementService {
-    private final AnnouncementDao dao = new AnnouncementDaoImpl();
+    private final AnnouncementDao dao = DaoMetrics.instrument(AnnouncementDao.class, new AnnouncementDaoImpl());
 
     @Override
     public List<Announcement> getAllAnnouncements() throws DaoException {
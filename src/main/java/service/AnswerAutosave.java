@@ -0,0 +1,131 @@
+package main.java.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응시 중 답안 자동 저장 (write-behind)
+ * - record()는 메모리에만 기록하고 즉시 반환한다. 같은 문제는 마지막 답만 남는다.
+ * - 주기적으로(cbt.autosave.intervalSeconds, 기본 10초) 쌓인 답안을
+ *   SubmissionService.submitAnswers로 한 번에 upsert한다.
+ * - 저장에 실패한 답은 그 사이 새 답이 없을 때만 되돌려 놓고 다음 주기에 다시 시도한다.
+ * - 응시자 한 명 · 시험 하나당 인스턴스 하나를 사용한다.
+ */
+public class AnswerAutosave {
+    private static final long INTERVAL_SECONDS = Long.getLong("cbt.autosave.intervalSeconds", 10L);
+
+    /** 모든 응시 세션이 공유하는 저장 스레드 */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "answer-autosave");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int userId;
+    private final int examId;
+    private final SubmissionService submissionService;
+    private final ConcurrentHashMap<Integer, String> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private ScheduledFuture<?> task;
+    /** flushLock 안에서만 바꾸고 읽는다. true면 예약된 저장이 아무 것도 쓰지 않는다. */
+    private boolean stopped = true;
+    private volatile Exception lastError;
+
+    public AnswerAutosave(int userId, int examId) {
+        this(userId, examId, new SubmissionServiceImpl());
+    }
+
+    public AnswerAutosave(int userId, int examId, SubmissionService submissionService) {
+        this.userId = userId;
+        this.examId = examId;
+        this.submissionService = submissionService;
+    }
+
+    /** 주기적 저장을 시작한다. (이미 실행 중이면 무시) */
+    public synchronized void start() {
+        if (task != null) return;
+        synchronized (flushLock) {
+            stopped = false;
+        }
+        task = SCHEDULER.scheduleWithFixedDelay(() -> {
+            try {
+                scheduledFlush();
+            } catch (ServiceException | RuntimeException e) {
+                // 예외가 예약 작업 밖으로 나가면 이후 주기가 모두 취소되므로 여기서 끝낸다.
+                System.err.println("[AnswerAutosave] 저장 실패 (다음 주기에 재시도): " + e);
+            }
+        }, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주기적 저장을 멈춘다. 진행 중인 저장이 있으면 끝날 때까지 기다린다.
+     * 반환 후에는 이미 시작됐지만 아직 잠금을 얻지 못한 예약 실행도 아무 것도 쓰지 않는다.
+     * (최종 제출과 자동 저장이 같은 답안을 동시에 쓰지 않도록 제출 전에 호출)
+     */
+    public void stop() {
+        synchronized (this) {
+            if (task != null) {
+                task.cancel(false);
+                task = null;
+            }
+        }
+        synchronized (flushLock) {
+            stopped = true;
+        }
+    }
+
+    /** 답안 변경을 기록한다. (DB 접근 없음) */
+    public void record(int questionId, String answer) {
+        pending.put(questionId, answer);
+    }
+
+    /** 아직 저장되지 않은 답안 수 */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /** 마지막 저장 실패 원인 (성공하면 null) */
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    /** 예약 실행: stop() 이후에 도착한 실행은 건너뛴다. */
+    private void scheduledFlush() throws ServiceException {
+        synchronized (flushLock) {
+            if (stopped) return;
+            flush();
+        }
+    }
+
+    /** 쌓인 답안을 지금 저장한다. */
+    public void flush() throws ServiceException {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) return;
+            Map<Integer, String> batch = new HashMap<>();
+            for (Integer qid : pending.keySet()) {
+                String answer = pending.remove(qid);
+                if (answer != null) batch.put(qid, answer);
+            }
+            try {
+                submissionService.submitAnswers(userId, examId, batch);
+                lastError = null;
+            } catch (ServiceException | RuntimeException e) {
+                // 그 사이 새로 기록된 답이 있으면 그것이 우선
+                batch.forEach(pending::putIfAbsent);
+                lastError = e;
+                throw e;
+            }
+        }
+    }
+
+    /** 쌓인 답안을 버리고 저장을 멈춘다. (최종 제출이 모든 답안을 저장한 뒤 호출) */
+    public void discard() {
+        stop();
+        pending.clear();
+    }
+}
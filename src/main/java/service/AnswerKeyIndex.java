@@ -0,0 +1,108 @@
+package main.java.service;
+
+import main.java.model.AnswerKey;
+import main.java.model.GradeResult;
+import main.java.model.QuestionFull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시험 한 개의 정답키 색인 (불변)
+ * - 문제 ID 오름차순 int[]와 정답 문자열 String[]을 나란히 보관한다.
+ * - 객관식은 정답 레이블("1"~"5"), OX는 정답 텍스트("O"/"X")를 정답 문자열로 쓴다.
+ * - 만든 뒤에는 DB 접근 없이 답안 맵 전체를 채점할 수 있다.
+ */
+public final class AnswerKeyIndex {
+    private final int examId;
+    private final int[] questionIds;
+    private final String[] expected;
+
+    private AnswerKeyIndex(int examId, int[] questionIds, String[] expected) {
+        this.examId = examId;
+        this.questionIds = questionIds;
+        this.expected = expected;
+    }
+
+    /**
+     * DB에서 읽은 정답키 목록으로 색인을 만든다.
+     * 정답이 없는 문제도 항목으로 넣어야 배점(분모)에 포함된다. (정답 null이면 0점 처리)
+     */
+    public static AnswerKeyIndex of(int examId, List<AnswerKey> keys) {
+        List<AnswerKey> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparingInt(AnswerKey::getQuestionId));
+        int[] ids = new int[sorted.size()];
+        String[] answers = new String[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            AnswerKey k = sorted.get(i);
+            ids[i] = k.getQuestionId();
+            answers[i] = expectedOf(k);
+        }
+        return new AnswerKeyIndex(examId, ids, answers);
+    }
+
+    /** 이미 로드한 문제 목록(정답키 포함)으로 색인을 만든다. */
+    public static AnswerKeyIndex fromQuestions(int examId, List<QuestionFull> questions) {
+        List<AnswerKey> keys = new ArrayList<>(questions.size());
+        for (QuestionFull qf : questions) {
+            keys.add(qf.getAnswerKey() != null ? qf.getAnswerKey() : new AnswerKey(qf.getQuestionId(), null, null));
+        }
+        return of(examId, keys);
+    }
+
+    private static String expectedOf(AnswerKey k) {
+        if (k.getCorrectLabel() != null) return k.getCorrectLabel().toString();
+        return k.getCorrectText();
+    }
+
+    public int getExamId() {
+        return examId;
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    /** 문제의 정답 문자열 (없으면 null) */
+    public String expectedAnswer(int questionId) {
+        int idx = Arrays.binarySearch(questionIds, questionId);
+        return idx >= 0 ? expected[idx] : null;
+    }
+
+    /** 문제의 색인 위치 (색인에 없으면 음수) – 문항별 배열 집계용 */
+    public int indexOf(int questionId) {
+        return Arrays.binarySearch(questionIds, questionId);
+    }
+
+    /** index 위치의 문제 ID */
+    public int questionIdAt(int index) {
+        return questionIds[index];
+    }
+
+    /** index 위치의 정답 문자열 (없으면 null) */
+    public String expectedAt(int index) {
+        return expected[index];
+    }
+
+    /**
+     * 답안 맵(문제ID → 선택한 답)을 채점한다. 색인에 없는 문제의 답은 무시한다.
+     */
+    public GradeResult grade(Map<Integer, String> answers, GradingPolicy policy) {
+        double earned = 0, max = 0;
+        int correct = 0;
+        double[] credits = new double[questionIds.length];
+        for (int i = 0; i < questionIds.length; i++) {
+            int qId = questionIds[i];
+            double weight = policy.weight(qId);
+            double credit = expected[i] == null ? 0.0 : policy.credit(expected[i], answers.get(qId));
+            credits[i] = credit;
+            max += weight;
+            earned += weight * credit;
+            if (credit >= 1.0) correct++;
+        }
+        return new GradeResult(examId, earned, max, correct, questionIds, credits);
+    }
+}
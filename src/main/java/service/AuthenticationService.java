@@ -1,6 +1,7 @@
 package main.java.service;
 
 import main.java.model.User;
+import main.java.model.UserProfile;
 
 /**
  * 로그인 관련 비즈니스 로직을 처리하는 인터페이스
@@ -11,8 +12,26 @@ public interface AuthenticationService {
      * 학번과 비밀번호로 사용자 인증
      * @param studentNumber 학번
      * @param password      비밀번호
-     * @return 인증된 User 객체 (없으면 null)
-     * @throws ServiceException 인증 중 오류 발생 시
+     * @return 인증된 User 객체 (비밀번호 필드는 비워서 반환)
+     * @throws ServiceException 인증 실패·비활성 계정·처리 중 오류 발생 시
      */
     User login(String studentNumber, String password) throws ServiceException;
-}
\ No newline at end of file
+
+    /**
+     * 최근 인증 캐시에서 해당 학번을 지운다.
+     * 비밀번호 변경·계정 비활성화 직후 호출하면 다음 로그인부터 DB를 다시 확인한다.
+     */
+    void invalidate(String studentNumber);
+
+    /** 인증된 사용자로 세션을 열고 토큰을 반환한다. (login 직후 호출) */
+    String openSession(User user);
+
+    /**
+     * 토큰의 프로필을 메모리에서 꺼낸다. (DB 조회 없음, 유휴 시간 갱신)
+     * @throws ServiceException 세션이 없거나 만료된 경우
+     */
+    UserProfile getProfile(String token) throws ServiceException;
+
+    /** 세션을 닫는다. (로그아웃) */
+    void closeSession(String token);
+}
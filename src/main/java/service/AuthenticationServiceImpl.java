@@ -4,23 +4,175 @@ import main.java.dao.DaoException;
 import main.java.dao.UserDao;
 import main.java.dao.UserDaoImpl;
 import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.metrics.DaoMetrics;
+import main.java.util.PasswordHasher;
+import main.java.util.TtlCache;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.*;
 
 /**
  * AuthenticationService 구현체
+ * - 학번으로 한 번 조회한 뒤 비밀번호는 Java에서 PBKDF2 해시로 검증한다. (SQL에 비밀번호를 넣지 않음)
+ * - 해시 계산은 크기가 제한된 전용 풀(cbt.auth.workers, 대기열 cbt.auth.queue)에서만 하므로
+ *   로그인이 몰려도 다른 요청의 스레드를 빼앗지 않는다. 대기열이 차면 즉시 "잠시 후 재시도"로 거절한다.
+ * - 최근 인증된 사용자는 cbt.auth.cacheSeconds(기본 300초) 동안 캐시한다. 캐시에는 비밀번호 대신
+ *   프로세스별 비밀 키로 만든 HMAC만 두어, 같은 비밀번호로 다시 로그인하면 DB·해시 없이 통과한다.
+ * - 세션은 UserSessionStore에 토큰 → 불변 프로필로 보관한다. 화면은 토큰으로 프로필을 꺼내 쓴다.
+ * - 평문이거나 약한 해시로 저장된 비밀번호는 로그인 성공 시 현재 설정의 해시로 바꾼다.
  */
 public class AuthenticationServiceImpl implements AuthenticationService {
-    private final UserDao userDao = new UserDaoImpl();
+    private static final int WORKERS = Integer.getInteger("cbt.auth.workers",
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int QUEUE = Integer.getInteger("cbt.auth.queue", 256);
+    private static final long TIMEOUT_MS = Long.getLong("cbt.auth.timeoutMs", 10_000L);
+
+    /** 모든 AuthenticationServiceImpl이 함께 쓰는 검증 풀과 인증 캐시 */
+    private static final ExecutorService VERIFIER = new ThreadPoolExecutor(WORKERS, WORKERS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE), r -> {
+                Thread t = new Thread(r, "auth-verify");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    private static final TtlCache<String, Principal> PRINCIPALS = new TtlCache<>("principals",
+            Integer.getInteger("cbt.auth.cacheSize", 5_000),
+            Long.getLong("cbt.auth.cacheSeconds", 300L), TimeUnit.SECONDS);
+    private static final byte[] CACHE_KEY = new byte[32];
+    /** 없는 학번도 같은 시간이 걸리도록 검증에 쓰는 더미 해시 */
+    private static final String DUMMY_HASH;
+
+    static {
+        new SecureRandom().nextBytes(CACHE_KEY);
+        DUMMY_HASH = PasswordHasher.hash("dummy-password");
+    }
+
+    /** 캐시 항목: 사용자 정보 + 비밀번호 HMAC */
+    private static final class Principal {
+        final User user;
+        final byte[] fingerprint;
+
+        Principal(User user, byte[] fingerprint) {
+            this.user = user;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private final UserDao userDao = DaoMetrics.instrument(UserDao.class, new UserDaoImpl());
 
     @Override
     public User login(String studentNumber, String password) throws ServiceException {
+        if (studentNumber == null || password == null) {
+            throw new ServiceException("학번과 비밀번호를 모두 입력해주세요.");
+        }
+        byte[] fingerprint = fingerprint(studentNumber, password);
+        Principal cached = PRINCIPALS.getIfPresent(studentNumber);
+        if (cached != null && MessageDigest.isEqual(cached.fingerprint, fingerprint)) {
+            return copyOf(cached.user);
+        }
+
+        User user;
         try {
-            User user = userDao.findByStudentNumberAndPassword(studentNumber, password);
-            if (user == null) {
-                throw new ServiceException("학번 또는 비밀번호가 올바르지 않습니다.");
-            }
-            return user;
+            user = userDao.findByStudentNumber(studentNumber);
         } catch (DaoException e) {
             throw new ServiceException("로그인 처리 중 오류가 발생했습니다.", e);
         }
+        String stored = user != null ? user.getPassword() : DUMMY_HASH;
+        Verification result = verify(password, stored);
+        if (user == null || !result.matched || !user.isActive()) {
+            throw new ServiceException("학번 또는 비밀번호가 올바르지 않거나, 계정이 비활성화되었습니다.");
+        }
+        if (result.rehashed != null) {
+            try {
+                userDao.replacePassword(user.getUserId(), stored, result.rehashed);
+            } catch (DaoException e) {
+                // 이전은 다음 로그인 때 다시 시도하면 되므로 로그인 자체는 성공시킨다.
+                System.err.println("[Auth] 비밀번호 해시 이전 실패: " + e.getMessage());
+            }
+        }
+        user.setPassword(null);
+        PRINCIPALS.put(studentNumber, new Principal(user, fingerprint));
+        return copyOf(user);
+    }
+
+    @Override
+    public void invalidate(String studentNumber) {
+        PRINCIPALS.invalidate(studentNumber);
+    }
+
+    @Override
+    public String openSession(User user) {
+        return UserSessionStore.shared().open(UserProfile.of(user));
+    }
+
+    @Override
+    public UserProfile getProfile(String token) throws ServiceException {
+        UserProfile profile = UserSessionStore.shared().get(token);
+        if (profile == null) throw new ServiceException("세션이 만료되었습니다. 다시 로그인해 주세요.");
+        return profile;
+    }
+
+    @Override
+    public void closeSession(String token) {
+        UserSessionStore.shared().close(token);
+    }
+
+    /** 검증 결과 (rehashed는 이전이 필요할 때만 새 해시) */
+    private static final class Verification {
+        final boolean matched;
+        final String rehashed;
+
+        Verification(boolean matched, String rehashed) {
+            this.matched = matched;
+            this.rehashed = rehashed;
+        }
+    }
+
+    /** 검증 풀에서 해시를 비교하고, 필요하면 새 해시까지 만든다. */
+    private static Verification verify(String password, String stored) throws ServiceException {
+        Future<Verification> future;
+        try {
+            future = VERIFIER.submit(() -> {
+                boolean matched = PasswordHasher.verify(password, stored);
+                String rehashed = matched && PasswordHasher.needsRehash(stored) ? PasswordHasher.hash(password) : null;
+                return new Verification(matched, rehashed);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+        try {
+            return future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("로그인이 취소되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new ServiceException("로그인 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static byte[] fingerprint(String studentNumber, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(CACHE_KEY, "HmacSHA256"));
+            mac.update(studentNumber.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /** 캐시된 사용자를 호출자가 바꾸지 못하도록 복사본을 돌려준다. */
+    private static User copyOf(User user) {
+        return new User(user.getUserId(), user.getLevel(), user.getName(), user.getStudentNumber(),
+                user.getDpmtId(), user.getGrade(), user.isActive());
     }
 }
@@ -0,0 +1,119 @@
+package main.java.service;
+
+import main.java.model.AnswerKey;
+import main.java.model.Exam;
+import main.java.model.QuestionBank;
+import main.java.model.QuestionFull;
+import main.java.model.QuestionOption;
+import main.java.util.TtlCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시험 내용 공유 캐시
+ * - 시험 정보(Exam), 문항 목록(QuestionFull), 정답키 색인(AnswerKeyIndex)을 시험 ID 단위로 보관한다.
+ * - 서비스 구현체는 화면마다 새로 생성되므로 캐시는 정적으로 공유한다.
+ * - Exam·QuestionFull은 변경 가능한 객체이므로 캐시에는 아무와도 공유하지 않는 객체(로더가 새로 읽은 것
+ *   또는 putExam 시 만든 복사본)만 두고, 꺼낼 때는 복사본을 돌려준다.
+ * - 문항·정답키는 항상 TtlCache의 get/reload로 적재한다. 로딩 도중 invalidate되면 캐시에 넣지 않으므로
+ *   정답 수정 직전에 시작한 읽기가 옛 정답키를 되살리지 않는다.
+ *   (호출자가 받은 객체를 고쳐도 다른 학생에게 나가는 캐시 내용은 바뀌지 않는다)
+ * - 문항·정답키 추가/수정/삭제가 커밋되면 invalidate(examId)를 호출해야 한다.
+ * - 크기와 TTL은 시스템 프로퍼티 cbt.cache.maxExams / cbt.cache.ttlSeconds로 조정한다.
+ */
+public final class ExamContentCache {
+    private static final int MAX_EXAMS = Integer.getInteger("cbt.cache.maxExams", 256);
+    private static final long TTL_SECONDS = Long.getLong("cbt.cache.ttlSeconds", 300L);
+
+    private static final TtlCache<Integer, Exam> EXAMS =
+            new TtlCache<>("exam", MAX_EXAMS, TTL_SECONDS, TimeUnit.SECONDS);
+    private static final TtlCache<Integer, List<QuestionFull>> QUESTIONS =
+            new TtlCache<>("questions", MAX_EXAMS, TTL_SECONDS, TimeUnit.SECONDS);
+    /** AnswerKeyIndex는 불변이므로 그대로 공유한다. */
+    static final TtlCache<Integer, AnswerKeyIndex> ANSWER_KEYS =
+            new TtlCache<>("answerKeys", MAX_EXAMS, TTL_SECONDS, TimeUnit.SECONDS);
+
+    private ExamContentCache() {
+    }
+
+    /** 시험 정보의 복사본. 캐시에 없으면 loader로 읽어 넣는다. (없는 시험이면 null) */
+    static <E extends Exception> Exam exam(int examId, TtlCache.Loader<Integer, Exam, E> loader) throws E {
+        Exam exam = EXAMS.get(examId, loader);
+        return exam != null ? copyOf(exam) : null;
+    }
+
+    /** 문항 목록의 복사본. 캐시에 없으면 loader로 읽어 넣는다. */
+    static <E extends Exception> List<QuestionFull> questions(
+            int examId, TtlCache.Loader<Integer, List<QuestionFull>, E> loader) throws E {
+        List<QuestionFull> questions = QUESTIONS.get(examId, loader);
+        return questions != null ? copyOf(questions) : null;
+    }
+
+    /** 캐시에 있어도 loader로 새로 읽어 바꾼 문항 목록의 복사본 (로딩 도중 invalidate되면 캐시에 넣지 않는다) */
+    static <E extends Exception> List<QuestionFull> reloadQuestions(
+            int examId, TtlCache.Loader<Integer, List<QuestionFull>, E> loader) throws E {
+        List<QuestionFull> questions = QUESTIONS.reload(examId, loader);
+        return questions != null ? copyOf(questions) : null;
+    }
+
+    /** 호출자가 계속 쓰는 객체와 공유하지 않도록 복사해서 넣는다. */
+    static void putExam(Exam exam) {
+        EXAMS.put(exam.getExamId(), copyOf(exam));
+    }
+
+    /** 시험 한 개에 대한 모든 캐시 항목을 버린다. */
+    public static void invalidate(int examId) {
+        EXAMS.invalidate(examId);
+        QUESTIONS.invalidate(examId);
+        ANSWER_KEYS.invalidate(examId);
+    }
+
+    public static void invalidateAll() {
+        EXAMS.invalidateAll();
+        QUESTIONS.invalidateAll();
+        ANSWER_KEYS.invalidateAll();
+    }
+
+    /** 캐시별 적중/실패/축출 지표 */
+    public static List<TtlCache.Stats> stats() {
+        return List.of(EXAMS.stats(), QUESTIONS.stats(), ANSWER_KEYS.stats());
+    }
+
+    static Exam copyOf(Exam exam) {
+        Exam copy = new Exam();
+        copy.setExamId(exam.getExamId());
+        copy.setSubject(exam.getSubject());
+        copy.setCreatedAt(exam.getCreatedAt());
+        copy.setStartDate(exam.getStartDate());
+        copy.setEndDate(exam.getEndDate());
+        copy.setDurationMinutes(exam.getDurationMinutes());
+        copy.setQuestionCnt(exam.getQuestionCnt());
+        return copy;
+    }
+
+    /** 문항·선택지·정답키까지 복사한 수정 불가 목록 */
+    static List<QuestionFull> copyOf(List<QuestionFull> questions) {
+        List<QuestionFull> copy = new ArrayList<>(questions.size());
+        for (QuestionFull q : questions) copy.add(copyOf(q));
+        return Collections.unmodifiableList(copy);
+    }
+
+    static QuestionFull copyOf(QuestionFull q) {
+        QuestionBank qb = q.getQuestionBank();
+        QuestionBank bank = qb == null ? null
+                : new QuestionBank(qb.getQuestionId(), qb.getExamId(), qb.getType(), qb.getQuestionText());
+        List<QuestionOption> options = null;
+        if (q.getOptions() != null) {
+            options = new ArrayList<>(q.getOptions().size());
+            for (QuestionOption o : q.getOptions()) {
+                options.add(new QuestionOption(o.getOptionId(), o.getQuestionId(), o.getOptionLabel(), o.getContent()));
+            }
+        }
+        AnswerKey ak = q.getAnswerKey();
+        AnswerKey key = ak == null ? null : new AnswerKey(ak.getQuestionId(), ak.getCorrectLabel(), ak.getCorrectText());
+        return new QuestionFull(bank, options, key);
+    }
+}
@@ -0,0 +1,29 @@
+package main.java.service;
+
+import main.java.model.Exam;
+import main.java.model.ExamProgress;
+import main.java.model.User;
+
+import java.util.List;
+
+/**
+ * 시험 진행 현황 서비스
+ * - 응시 화면: startSession / heartbeat 로 진행 상태를 알린다. (최종 제출은 ExamService가 기록)
+ * - 관리자 화면: getProgress 로 마지막 version 이후 바뀐 세션만 받아 간다.
+ */
+public interface ExamProgressService {
+    /** 응시 시작(재접속 포함)을 알린다. */
+    void startSession(User user, int examId, int questionCount, int answeredCount);
+
+    /** 하트비트: 현재 답한 문항 수를 알린다. */
+    void heartbeat(int userId, int examId, int answeredCount);
+
+    /**
+     * sinceVersion 이후 바뀐 세션을 돌려준다.
+     * sinceVersion이 0 이하이면 전체를 주며, 이때만 examresults에서 이미 제출한 학생을 보충한다.
+     */
+    ExamProgress getProgress(int examId, long sinceVersion) throws ServiceException;
+
+    /** 진행 현황을 볼 시험 목록 (진행 중인 시험 + 세션이 기록된 시험) */
+    List<Exam> getMonitoredExams() throws ServiceException;
+}
@@ -0,0 +1,93 @@
+package main.java.service;
+
+import main.java.dao.DaoException;
+import main.java.dao.ExamDao;
+import main.java.dao.ExamDaoImpl;
+import main.java.dao.ExamResultDao;
+import main.java.dao.ExamResultDaoImpl;
+import main.java.dao.UserDao;
+import main.java.dao.UserDaoImpl;
+import main.java.metrics.DaoMetrics;
+import main.java.model.Exam;
+import main.java.model.ExamProgress;
+import main.java.model.ExamResult;
+import main.java.model.ExamSession;
+import main.java.model.User;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * ExamProgressService 구현체
+ * - 진행 상태는 ExamSessionRegistry(메모리)에서만 읽고, DB는 전체 조회 때 제출 기록(examresults)과
+ *   이름을 보충할 때만 읽는다.
+ */
+public class ExamProgressServiceImpl implements ExamProgressService {
+    private final ExamDao examDao = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final ExamResultDao examResultDao = DaoMetrics.instrument(ExamResultDao.class, new ExamResultDaoImpl());
+    private final UserDao userDao = DaoMetrics.instrument(UserDao.class, new UserDaoImpl());
+    private final ExamSessionRegistry registry = ExamSessionRegistry.shared();
+
+    @Override
+    public void startSession(User user, int examId, int questionCount, int answeredCount) {
+        registry.start(examId, user.getUserId(), user.getStudentNumber(), user.getName(), questionCount, answeredCount);
+    }
+
+    @Override
+    public void heartbeat(int userId, int examId, int answeredCount) {
+        registry.heartbeat(examId, userId, answeredCount);
+    }
+
+    @Override
+    public ExamProgress getProgress(int examId, long sinceVersion) throws ServiceException {
+        ExamProgress progress = registry.changesSince(examId, sinceVersion);
+        if (!progress.isFull()) return progress;
+
+        // 전체 조회: 레지스트리에 없거나 이름이 없는 제출자를 examresults + users로 채운다.
+        Map<Integer, ExamSession> merged = new LinkedHashMap<>();
+        for (ExamSession s : progress.getSessions()) merged.put(s.getUserId(), s);
+        try {
+            Map<Integer, ExamResult> results = examResultDao.findAllByExam(examId);
+            Set<Integer> needNames = new HashSet<>();
+            for (Integer userId : results.keySet()) {
+                ExamSession s = merged.get(userId);
+                if (s == null || s.getName() == null) needNames.add(userId);
+            }
+            Map<Integer, User> users = new HashMap<>();
+            if (!needNames.isEmpty()) {
+                for (User u : userDao.findByIds(needNames)) users.put(u.getUserId(), u);
+            }
+            for (Integer userId : needNames) {
+                ExamSession s = merged.get(userId);
+                User u = users.get(userId);
+                ExamResult r = results.get(userId);
+                merged.put(userId, new ExamSession(examId, userId,
+                        u != null ? u.getStudentNumber() : null, u != null ? u.getName() : null,
+                        s != null ? s.getQuestionCount() : 0, s != null ? s.getAnsweredCount() : 0,
+                        s != null ? s.getStartedAt() : null,
+                        s != null ? s.getLastSeenAt() : r.getCompletedAt(),
+                        true, s != null ? s.getVersion() : 0));
+            }
+        } catch (DaoException e) {
+            throw new ServiceException("제출 기록 조회 중 오류가 발생했습니다.", e);
+        }
+        return new ExamProgress(examId, progress.getVersion(), true, new ArrayList<>(merged.values()));
+    }
+
+    @Override
+    public List<Exam> getMonitoredExams() throws ServiceException {
+        try {
+            Map<Integer, Exam> exams = new LinkedHashMap<>();
+            for (Exam e : examDao.findStartingBy(LocalDateTime.now())) exams.put(e.getExamId(), e);
+            for (Integer examId : registry.activeExamIds()) {
+                if (!exams.containsKey(examId)) {
+                    Exam e = ExamContentCache.exam(examId, examDao::findById);
+                    if (e != null) exams.put(examId, e);
+                }
+            }
+            return new ArrayList<>(exams.values());
+        } catch (DaoException e) {
+            throw new ServiceException("시험 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -32,9 +32,22 @@ public interface ExamService {
 
     void submitAllAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException;
 
+    /**
+     * 최종 제출: 답안 전체와 시험 결과(examresults)를 하나의 트랜잭션으로 저장한다.
+     * 답안은 다중 행 INSERT로 한 번에 기록된다. 점수는 클라이언트가 아니라 이 메서드가 채점한다.
+     * @return 채점한 점수
+     */
+    int submitExam(int userId, int examId, Map<Integer, String> answers) throws ServiceException;
+
     // 추가된 메서드: 시험 결과 저장
     void saveExamResult(int userId, int examId, int score) throws ServiceException;
     boolean hasUserTakenExam(int userId, int examId) throws ServiceException;
+
+    /**
+     * 학생이 지금 이 시험을 응시할 수 있는지 (배정되어 있고, 응시 기간 중이며, 아직 최종 제출하지 않음)
+     * 마감 뒤 cbt.exam.submitGraceSeconds(기본 60)초까지는 기간 중으로 본다.
+     */
+    boolean canTakeExam(int userId, int examId) throws ServiceException;
     Map<Integer, ExamResult> getExamResultsByUser(int userId) throws ServiceException, DaoException;
     List<Exam> getAllExams(int dpmtId, int grade) throws ServiceException;
     public List<Exam> getAllExamsForUser(User user) throws ServiceException;
@@ -46,4 +59,13 @@ public interface ExamService {
     List<Exam> getAssignedExams(int userId) throws ServiceException;
     /** 시험에 학생 배정 **/
     void assignExamToUsers(int examId, List<Integer> userIds) throws ServiceException;
+
+    /**
+     * 시험의 (학과, 학년) 응시 대상에 맞춰 배정을 동기화한다.
+     * 대상에 새로 들어온 학생은 배정하고, 벗어난 학생(결과가 없는 경우)은 해제한다.
+     */
+    AssignmentChange assignExamByTargets(int examId) throws ServiceException;
+
+    /** 응시 대상을 targets로 교체하고, 같은 트랜잭션에서 배정을 차이만큼 반영한다. */
+    AssignmentChange replaceExamTargets(int examId, List<ExamsDepartment> targets) throws ServiceException;
 }
@@ -3,6 +3,8 @@ package main.java.service;
 import main.java.dao.*;
 import main.java.model.*;
 import main.java.util.DBConnection;
+import main.java.util.UnitOfWork;
+import main.java.metrics.DaoMetrics;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -14,15 +16,17 @@ import java.util.stream.Collectors;
  * ExamServiceImpl – 시험 관련 비즈니스 로직 구현
  */
 public class ExamServiceImpl implements ExamService {
-    private final ExamDao              examDao              = new ExamDaoImpl();
-    private final ExamsDepartmentDao   examsDeptDao   = new ExamsDepartmentDaoImpl(); // 이름 맞춤
+    /** 마감 뒤 답안 저장·최종 제출을 받아 주는 유예 시간(초) */
+    private static final int SUBMIT_GRACE_SECONDS = Integer.getInteger("cbt.exam.submitGraceSeconds", 60);
 
-    private final QuestionBankDao      questionBankDao      = new QuestionBankDaoImpl();
-    private final QuestionOptionDao    questionOptionDao    = new QuestionOptionDaoImpl();
-    private final AnswerKeyDao         answerKeyDao         = new AnswerKeyDaoImpl();
-    private final AnswerSheetDao       answerSheetDao       = new AnswerSheetDaoImpl();
-    private final ExamResultDao        examResultDao        = new ExamResultDaoImpl();
-    private final ExamAssignmentDao    examAssignmentDao    = new ExamAssignmentDaoImpl();
+    private final ExamDao              examDao              = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final ExamsDepartmentDao   examsDeptDao   = DaoMetrics.instrument(ExamsDepartmentDao.class, new ExamsDepartmentDaoImpl()); // 이름 맞춤
+
+    private final AnswerSheetDao       answerSheetDao       = DaoMetrics.instrument(AnswerSheetDao.class, new AnswerSheetDaoImpl());
+    private final ExamResultDao        examResultDao        = DaoMetrics.instrument(ExamResultDao.class, new ExamResultDaoImpl());
+    private final ExamAssignmentDao    examAssignmentDao    = DaoMetrics.instrument(ExamAssignmentDao.class, new ExamAssignmentDaoImpl());
+    private final GradingService       gradingService       = new GradingServiceImpl();
+    private final QuestionIngester     questionIngester     = new QuestionIngester();
     @Override
     public List<Exam> getOpenExams() throws ServiceException {
         try {
@@ -58,7 +62,7 @@ public class ExamServiceImpl implements ExamService {
     @Override
     public Exam getExamById(int examId) throws ServiceException {
         try {
-            return examDao.findById(examId);
+            return ExamContentCache.exam(examId, examDao::findById);
         } catch (DaoException e) {
             throw new ServiceException("시험 정보 조회 중 오류가 발생했습니다.", e);
         }
@@ -69,79 +73,98 @@ public class ExamServiceImpl implements ExamService {
             List<QuestionFull> questions,
             List<ExamsDepartment> targets
     ) throws ServiceException {
-        Connection conn = DBConnection.getConnection();
+        // 모든 DAO 쓰기를 한 커넥션·한 트랜잭션으로 묶고, 문항·선택지·정답키는 종류별 배치 한 번씩 삽입한다.
         try {
-            conn.setAutoCommit(false);
+            UnitOfWork.execute(conn -> {
+                // 1) exams 삽입 (문제 수를 미리 채워 두어 별도 집계·갱신이 필요 없다)
+                exam.setQuestionCnt(questions.size());
+                examDao.insert(exam);
+                int examId = exam.getExamId();
 
-            // 1) exams 삽입
-            examDao.insert(exam);
-            int newExamId = exam.getExamId();
-
-            // 2) 문제 + 옵션 + 정답키 삽입
-            for (QuestionFull qf : questions) {
-                QuestionBank qb = new QuestionBank();
-                qb.setExamId(newExamId);
-                qb.setType(qf.getType().name());
-                qb.setQuestionText(qf.getQuestionText());
-                questionBankDao.insert(qb);             // ← insert(QuestionBank) 호출
-                int qId = qb.getQuestionId();            //  auto-generated 키를 꺼낸다
-
-                // --- options 삽입 (객관식일 때만) ---
-                if (qf.getType() == QuestionType.MCQ) {
-                    for (QuestionOption opt : qf.getOptions()) {
-                        opt.setQuestionId(qId);
-                        questionOptionDao.insert(opt);    // ← insert(QuestionOption) 호출
-                    }
-                    // --- 정답키 삽입 (객관식) ---
-                    answerKeyDao.insert(
-                            new AnswerKey(qId, qf.getCorrectLabel(), null)
-                    );
-                } else {
-                    // --- 정답키 삽입 (OX) ---
-                    answerKeyDao.insert(
-                            new AnswerKey(qId, null, qf.getCorrectText())
-                    );
-                }
-            }
+                // 2) 문제·선택지·정답키를 종류별 배치로 삽입
+                questionIngester.ingest(conn, examId, questions);
 
-            // 3) 응시 대상 매핑 삽입
-            for (ExamsDepartment ed : targets) {
-                ed.setExamId(newExamId);
-                examsDeptDao.save(ed);
-            }
-
-            // 4) 문제 개수 집계 & 업데이트
-            int cnt = questionBankDao.countByExamId(newExamId);
-            examDao.updateQuestionCount(newExamId, cnt);
-
-            conn.commit();
-        } catch (Exception e) {
-            try { conn.rollback(); } catch (SQLException ignored) {}
+                // 3) 응시 대상 매핑
+                examsDeptDao.replaceTargets(conn, examId, targets);
+                return null;
+            });
+        } catch (DaoException | SQLException e) {
             throw new ServiceException("시험 전체 저장 실패", e);
-        } finally {
-            try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
         }
     }
     @Override
     public void submitAllAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
-        try {
-            for (Map.Entry<Integer, String> entry : answers.entrySet()) {
-                AnswerSheet answerSheet = new AnswerSheet();
-                answerSheet.setUserId(userId);
-                answerSheet.setExamId(examId);
-                answerSheet.setQuestionId(entry.getKey());
-                answerSheet.setSelectedAnswer(entry.getValue());
-                answerSheetDao.insert(answerSheet);
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                answerSheetDao.upsertAll(conn, toAnswerSheets(userId, examId, answers));
+                conn.commit();
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
             }
-        } catch (DaoException e) {
+        } catch (DaoException | SQLException e) {
             throw new ServiceException("답안 저장 중 오류가 발생했습니다.", e);
         }
     }
 
+    @Override
+    public int submitExam(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
+        if (!canTakeExam(userId, examId)) {
+            throw new ServiceException("응시할 수 없는 시험입니다. (미배정, 응시 기간 아님 또는 이미 제출)");
+        }
+        // 정답키 색인으로 메모리에서 채점한다. (트랜잭션을 열기 전에)
+        int score = gradingService.grade(examId, answers).getScore();
+        ExamResult result = new ExamResult();
+        result.setUserId(userId);
+        result.setExamId(examId);
+        result.setScore(score);
+        result.setCompletedAt(LocalDateTime.now());
+        boolean rejected;
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // 배정 행을 잠가 같은 학생의 제출을 한 줄로 세운 뒤 결과가 이미 있는지 본다. (재시도·동시 제출은 한 번만 저장)
+                rejected = !examAssignmentDao.lockAssignment(conn, userId, examId)
+                        || examResultDao.existsByUserAndExam(conn, userId, examId);
+                if (rejected) {
+                    conn.rollback();
+                } else {
+                    answerSheetDao.upsertAll(conn, toAnswerSheets(userId, examId, answers));
+                    examResultDao.insert(conn, result);
+                    conn.commit();
+                }
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (DaoException | SQLException e) {
+            throw new ServiceException("최종 제출 중 오류가 발생했습니다.", e);
+        }
+        if (rejected) throw new ServiceException("이미 제출한 시험입니다.");
+        // 커밋된 제출만 진행 현황·통계 증분에 반영한다.
+        ExamSessionRegistry.shared().markSubmitted(examId, userId);
+        StatsAggregator.shared().publish(result, answers);
+        return score;
+    }
+
+    private static List<AnswerSheet> toAnswerSheets(int userId, int examId, Map<Integer, String> answers) {
+        List<AnswerSheet> sheets = new ArrayList<>(answers.size());
+        for (Map.Entry<Integer, String> entry : answers.entrySet()) {
+            AnswerSheet answerSheet = new AnswerSheet();
+            answerSheet.setUserId(userId);
+            answerSheet.setExamId(examId);
+            answerSheet.setQuestionId(entry.getKey());
+            answerSheet.setSelectedAnswer(entry.getValue());
+            sheets.add(answerSheet);
+        }
+        return sheets;
+    }
+
     @Override
     public void saveExamResult(int userId, int examId, int score) throws ServiceException {
+        ExamResult result = new ExamResult();
         try {
-            ExamResult result = new ExamResult();
             result.setUserId(userId);
             result.setExamId(examId);
             result.setScore(score);
@@ -150,6 +173,9 @@ public class ExamServiceImpl implements ExamService {
         } catch (DaoException e) {
             throw new ServiceException("시험 결과 저장 중 오류가 발생했습니다.", e);
         }
+        ExamSessionRegistry.shared().markSubmitted(examId, userId);
+        // 답안은 submitAllAnswers로 이미 저장되어 있으므로 병합 시 DB에서 읽는다.
+        StatsAggregator.shared().publish(result, null);
     }
     @Override
     public Map<Integer, ExamResult> getExamResultsByUser(int userId) throws ServiceException {
@@ -169,6 +195,16 @@ public class ExamServiceImpl implements ExamService {
         }
     }
 
+    @Override
+    public boolean canTakeExam(int userId, int examId) throws ServiceException {
+        try {
+            return examAssignmentDao.isOpenFor(userId, examId, SUBMIT_GRACE_SECONDS)
+                    && !examResultDao.existsByUserAndExam(userId, examId);
+        } catch (DaoException e) {
+            throw new ServiceException("응시 가능 여부 확인 중 오류", e);
+        }
+    }
+
     @Override
     public List<Exam> getAllExams(int dpmtId, int grade) throws ServiceException {
         try {
@@ -197,16 +233,7 @@ public class ExamServiceImpl implements ExamService {
     @Override
     public List<Exam> getAssignedOpenExams(int userId) throws ServiceException {
         try {
-            List<Integer> assignedIds = examAssignmentDao.findExamIdsByUser(userId);
-            List<Exam> exams = new ArrayList<>();
-            LocalDateTime now = LocalDateTime.now();
-            for (Integer id : assignedIds) {
-                Exam exam = examDao.findById(id);
-                if (exam != null && !exam.getStartDate().isAfter(now) && !exam.getEndDate().isBefore(now)) {
-                    exams.add(exam);
-                }
-            }
-            return exams;
+            return examDao.findAssignedOpenByUser(userId);
         } catch (DaoException e) {
             throw new ServiceException("할당된 오픈 시험 조회 실패", e);
         }
@@ -215,16 +242,7 @@ public class ExamServiceImpl implements ExamService {
     @Override
     public List<Exam> getAssignedExams(int userId) throws ServiceException {
         try {
-            List<Integer> assignedIds = examAssignmentDao.findExamIdsByUser(userId);
-            List<Exam> exams = new ArrayList<>();
-            for (Integer id : assignedIds) {
-                Exam exam = examDao.findById(id);
-                if (exam != null) {
-                    exams.add(exam);
-                }
-            }
-            exams.sort(Comparator.comparing(Exam::getStartDate).reversed());
-            return exams;
+            return examDao.findAssignedByUser(userId);
         } catch (DaoException e) {
             throw new ServiceException("할당된 시험 전체 조회 실패", e);
         }
@@ -239,4 +257,35 @@ public class ExamServiceImpl implements ExamService {
         }
     }
 
+    @Override
+    public AssignmentChange assignExamByTargets(int examId) throws ServiceException {
+        return applyTargets(examId, null);
+    }
+
+    @Override
+    public AssignmentChange replaceExamTargets(int examId, List<ExamsDepartment> targets) throws ServiceException {
+        return applyTargets(examId, targets);
+    }
+
+    /** targets가 null이면 현재 대상을 그대로 두고 배정만 동기화한다. */
+    private AssignmentChange applyTargets(int examId, List<ExamsDepartment> targets) throws ServiceException {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                if (targets != null) examsDeptDao.replaceTargets(conn, examId, targets);
+                int removed = examAssignmentDao.removeOutsideTargets(conn, examId);
+                int added = examAssignmentDao.assignByTargets(conn, examId);
+                conn.commit();
+                return new AssignmentChange(examId, added, removed);
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (DaoException | SQLException e) {
+            throw new ServiceException("응시 대상 배정 중 오류가 발생했습니다.", e);
+        }
+    }
+
 }
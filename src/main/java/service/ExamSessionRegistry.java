@@ -0,0 +1,141 @@
+package main.java.service;
+
+import main.java.model.ExamProgress;
+import main.java.model.ExamSession;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 응시 세션 레지스트리 (서버 메모리)
+ * - 응시 화면이 시작·하트비트(답한 문항 수)·제출을 알리면 시험별 세션 스냅샷을 교체한다.
+ * - 시험마다 단조 증가하는 version을 두어, 관리자 화면은 마지막으로 받은 version 이후 바뀐 세션만 가져간다.
+ * - 시험 간에는 ConcurrentHashMap으로 나누고, 한 시험 안의 갱신·조회만 짧게 동기화한다.
+ *   (하트비트 한 번은 HashMap 교체 한 번이라 학생 수가 많아도 비용이 일정하다)
+ * - 마지막 갱신 후 cbt.session.retainMinutes(기본 180)분이 지난 시험은 다음 시작 때 정리한다.
+ * - 프로세스가 재시작되면 비워지므로, 이미 제출한 학생은 ExamProgressService가 examresults로 보충한다.
+ */
+public final class ExamSessionRegistry {
+    private static final long RETAIN_MINUTES = Long.getLong("cbt.session.retainMinutes", 180L);
+
+    private static final ExamSessionRegistry SHARED = new ExamSessionRegistry();
+
+    /** 시험 한 개의 세션 묶음 (this로 동기화) */
+    private static final class ExamSessions {
+        final int examId;
+        final Map<Integer, ExamSession> byUser = new HashMap<>();
+        long version;
+        LocalDateTime lastUpdated = LocalDateTime.now();
+
+        ExamSessions(int examId) {
+            this.examId = examId;
+            // 정리 후 다시 만들어져도 version이 이전 값보다 커지도록 시각에서 시작한다.
+            this.version = System.currentTimeMillis() * 1000;
+        }
+
+        synchronized ExamSession put(ExamSession session) {
+            byUser.put(session.getUserId(), session);
+            lastUpdated = LocalDateTime.now();
+            return session;
+        }
+
+        synchronized ExamProgress since(long sinceVersion) {
+            // 클라이언트가 가진 version이 더 크면 정리 후 새로 만들어진 것이므로 전체를 준다.
+            boolean full = sinceVersion <= 0 || sinceVersion > version;
+            List<ExamSession> changed = new ArrayList<>();
+            for (ExamSession s : byUser.values()) {
+                if (full || s.getVersion() > sinceVersion) changed.add(s);
+            }
+            return new ExamProgress(examId, version, full, changed);
+        }
+    }
+
+    private final Map<Integer, ExamSessions> exams = new ConcurrentHashMap<>();
+
+    private ExamSessionRegistry() {
+    }
+
+    /** 프로세스 공용 레지스트리 */
+    public static ExamSessionRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * 응시 시작(또는 재접속)을 기록한다. 이미 제출한 세션은 바꾸지 않는다.
+     * @return 기록된 세션
+     */
+    public ExamSession start(int examId, int userId, String studentNumber, String name,
+                             int questionCount, int answeredCount) {
+        evictExpired();
+        ExamSessions sessions = exams.computeIfAbsent(examId, ExamSessions::new);
+        synchronized (sessions) {
+            ExamSession old = sessions.byUser.get(userId);
+            if (old != null && old.isSubmitted()) return old;
+            LocalDateTime now = LocalDateTime.now();
+            return sessions.put(new ExamSession(examId, userId, studentNumber, name, questionCount, answeredCount,
+                    old != null ? old.getStartedAt() : now, now, false, ++sessions.version));
+        }
+    }
+
+    /**
+     * 하트비트: 답한 문항 수와 마지막 응답 시각을 갱신한다.
+     * @return 갱신된 세션 (시작 기록이 없거나 이미 제출했으면 null)
+     */
+    public ExamSession heartbeat(int examId, int userId, int answeredCount) {
+        ExamSessions sessions = exams.get(examId);
+        if (sessions == null) return null;
+        synchronized (sessions) {
+            ExamSession old = sessions.byUser.get(userId);
+            if (old == null || old.isSubmitted()) return null;
+            return sessions.put(new ExamSession(examId, userId, old.getStudentNumber(), old.getName(),
+                    old.getQuestionCount(), answeredCount, old.getStartedAt(), LocalDateTime.now(),
+                    false, ++sessions.version));
+        }
+    }
+
+    /** 최종 제출을 기록한다. (시작 기록이 없으면 이름 없이 새로 만든다) */
+    public ExamSession markSubmitted(int examId, int userId) {
+        ExamSessions sessions = exams.computeIfAbsent(examId, ExamSessions::new);
+        synchronized (sessions) {
+            ExamSession old = sessions.byUser.get(userId);
+            LocalDateTime now = LocalDateTime.now();
+            return sessions.put(old != null
+                    ? new ExamSession(examId, userId, old.getStudentNumber(), old.getName(), old.getQuestionCount(),
+                            old.getAnsweredCount(), old.getStartedAt(), now, true, ++sessions.version)
+                    : new ExamSession(examId, userId, null, null, 0, 0, null, now, true, ++sessions.version));
+        }
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 세션 (0 이하이면 전체)
+     * 반환된 getVersion()을 다음 호출에 넘기면 된다.
+     */
+    public ExamProgress changesSince(int examId, long sinceVersion) {
+        ExamSessions sessions = exams.get(examId);
+        if (sessions == null) return new ExamProgress(examId, 0, sinceVersion <= 0, List.of());
+        return sessions.since(sinceVersion);
+    }
+
+    /** 세션이 기록된 시험 ID 목록 */
+    public List<Integer> activeExamIds() {
+        return new ArrayList<>(exams.keySet());
+    }
+
+    /** 시험의 세션 기록을 지운다. */
+    public void clear(int examId) {
+        exams.remove(examId);
+    }
+
+    private void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(RETAIN_MINUTES);
+        exams.values().removeIf(s -> {
+            synchronized (s) {
+                return s.lastUpdated.isBefore(cutoff);
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package main.java.service;
+
+import main.java.dao.DaoException;
+import main.java.dao.ExamDao;
+import main.java.dao.ExamDaoImpl;
+import main.java.dao.QuestionDao;
+import main.java.dao.QuestionDaoImpl;
+import main.java.model.Exam;
+import main.java.metrics.DaoMetrics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시험 시작 전 문항 미리 적재 (exam warm-up)
+ * - 시험 시작 시각에 모든 학생이 동시에 문항을 요청해 DB에 부하가 몰리는 것을 막는다.
+ * - 주기적으로 곧 시작할(또는 진행 중인) 시험을 찾아 문항 목록·정답키 색인·시험 정보를
+ *   ExamContentCache에 미리 채워 둔다. 학생 요청은 DB 대신 이 스냅샷을 읽는다.
+ * - 캐시에서 빠진 경우에도 TtlCache가 동시 요청을 한 번의 로딩으로 합친다.
+ * - 서버 프로세스에서 start()로 시작한다.
+ *   (cbt.warmup.leadMinutes: 시작 몇 분 전부터 적재, 기본 15 / cbt.warmup.intervalSeconds: 점검 주기, 기본 60)
+ */
+public final class ExamWarmup {
+    private static final long LEAD_MINUTES = Long.getLong("cbt.warmup.leadMinutes", 15L);
+    private static final long INTERVAL_SECONDS = Long.getLong("cbt.warmup.intervalSeconds", 60L);
+
+    private final ExamDao examDao = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final QuestionDao questionDao = DaoMetrics.instrument(QuestionDao.class, new QuestionDaoImpl());
+    private ScheduledExecutorService scheduler;
+
+    /** 주기적 적재를 시작한다. (이미 실행 중이면 무시) */
+    public synchronized void start() {
+        if (scheduler != null) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "exam-warmup");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                warmUpUpcoming();
+            } catch (ServiceException | RuntimeException e) {
+                // 예외가 예약 작업 밖으로 나가면 이후 주기가 모두 취소되므로 여기서 끝낸다.
+                System.err.println("[ExamWarmup] 적재 실패: " + e);
+            }
+        }, 0, INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * leadMinutes 안에 시작하거나 진행 중인 시험을 모두 적재한다.
+     * @return 적재한 시험 수
+     */
+    public int warmUpUpcoming() throws ServiceException {
+        LocalDateTime now = LocalDateTime.now();
+        List<Exam> exams;
+        try {
+            exams = examDao.findStartingBy(now.plusMinutes(LEAD_MINUTES));
+        } catch (DaoException e) {
+            throw new ServiceException("예정 시험 조회 중 오류가 발생했습니다.", e);
+        }
+        for (Exam exam : exams) {
+            ExamContentCache.putExam(exam);
+            // 시작 전인 시험은 매번 새로 적재하여 시작 시각에 TTL이 남아 있도록 한다.
+            boolean refresh = exam.getStartDate() != null && exam.getStartDate().isAfter(now);
+            warmUp(exam.getExamId(), refresh);
+        }
+        return exams.size();
+    }
+
+    /**
+     * 시험 한 개의 문항 목록과 정답키 색인을 캐시에 적재한다.
+     * @param refresh true면 캐시에 있어도 새로 읽는다.
+     */
+    public void warmUp(int examId, boolean refresh) throws ServiceException {
+        try {
+            // 정답키 색인은 그 로딩 안에서 읽은 문항으로 만든다. 두 로딩 모두 도중에 invalidate되면
+            // 캐시에 넣지 않으므로, 정답 수정과 겹친 적재가 옛 색인을 되살리지 않는다.
+            if (refresh) {
+                ExamContentCache.ANSWER_KEYS.reload(examId, id -> AnswerKeyIndex.fromQuestions(id,
+                        ExamContentCache.reloadQuestions(id, questionDao::findFullByExamId)));
+            } else {
+                ExamContentCache.ANSWER_KEYS.get(examId, id -> AnswerKeyIndex.fromQuestions(id,
+                        ExamContentCache.questions(id, questionDao::findFullByExamId)));
+                ExamContentCache.questions(examId, questionDao::findFullByExamId);
+            }
+        } catch (DaoException e) {
+            throw new ServiceException("문항 적재 중 오류가 발생했습니다: examId=" + examId, e);
+        }
+    }
+}
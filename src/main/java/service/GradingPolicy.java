@@ -0,0 +1,58 @@
+package main.java.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채점 정책
+ * - weight(): 문제별 배점
+ * - credit(): 정답과 제출 답을 비교한 득점 비율(0~1)
+ */
+public interface GradingPolicy {
+    double weight(int questionId);
+
+    double credit(String expected, String answer);
+
+    /** 모든 문제 동일 배점, 완전히 일치해야 정답 */
+    static GradingPolicy exact() {
+        return Exact.INSTANCE;
+    }
+
+    /** 문제별 배점(weights, 없는 문제는 1.0) 적용, 완전히 일치해야 정답 */
+    static GradingPolicy weighted(Map<Integer, Double> weights) {
+        Map<Integer, Double> copy = new HashMap<>(weights);
+        return new GradingPolicy() {
+            @Override
+            public double weight(int questionId) {
+                return copy.getOrDefault(questionId, 1.0);
+            }
+
+            @Override
+            public double credit(String expected, String answer) {
+                return Exact.INSTANCE.credit(expected, answer);
+            }
+        };
+    }
+
+    /** 답안 비교 시 공백과 대소문자는 무시한다 (OX 문제의 "o"/"O" 등) */
+    static boolean sameAnswer(String expected, String answer) {
+        return expected != null && answer != null && expected.trim().equalsIgnoreCase(answer.trim());
+    }
+
+    final class Exact implements GradingPolicy {
+        static final Exact INSTANCE = new Exact();
+
+        private Exact() {
+        }
+
+        @Override
+        public double weight(int questionId) {
+            return 1.0;
+        }
+
+        @Override
+        public double credit(String expected, String answer) {
+            return sameAnswer(expected, answer) ? 1.0 : 0.0;
+        }
+    }
+}
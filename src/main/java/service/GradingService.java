@@ -0,0 +1,23 @@
+package main.java.service;
+
+import main.java.model.GradeResult;
+
+import java.util.Map;
+
+/**
+ * 채점 관련 비즈니스 로직 인터페이스
+ * - 시험별 정답키를 한 번만 읽어 AnswerKeyIndex로 보관하고, 이후 채점은 메모리에서 처리한다.
+ */
+public interface GradingService {
+    /** 시험의 정답키 색인 (최초 1회만 DB 조회) */
+    AnswerKeyIndex getAnswerKeyIndex(int examId) throws ServiceException;
+
+    /** 동일 배점·완전 일치 정책으로 채점 */
+    GradeResult grade(int examId, Map<Integer, String> answers) throws ServiceException;
+
+    /** 지정한 정책으로 채점 */
+    GradeResult grade(int examId, Map<Integer, String> answers, GradingPolicy policy) throws ServiceException;
+
+    /** 정답키가 바뀐 시험의 색인을 버린다. */
+    void invalidate(int examId);
+}
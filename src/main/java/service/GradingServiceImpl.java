@@ -0,0 +1,42 @@
+package main.java.service;
+
+import main.java.dao.AnswerKeyDao;
+import main.java.dao.AnswerKeyDaoImpl;
+import main.java.dao.DaoException;
+import main.java.model.GradeResult;
+import main.java.metrics.DaoMetrics;
+
+import java.util.Map;
+
+/**
+ * GradingService 구현체
+ * - 정답키 색인은 불변이므로 ExamContentCache를 통해 모든 인스턴스가 공유한다.
+ */
+public class GradingServiceImpl implements GradingService {
+    private final AnswerKeyDao answerKeyDao = DaoMetrics.instrument(AnswerKeyDao.class, new AnswerKeyDaoImpl());
+
+    @Override
+    public AnswerKeyIndex getAnswerKeyIndex(int examId) throws ServiceException {
+        try {
+            return ExamContentCache.ANSWER_KEYS.get(examId,
+                    id -> AnswerKeyIndex.of(id, answerKeyDao.findByExamId(id)));
+        } catch (DaoException e) {
+            throw new ServiceException("정답 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public GradeResult grade(int examId, Map<Integer, String> answers) throws ServiceException {
+        return grade(examId, answers, GradingPolicy.exact());
+    }
+
+    @Override
+    public GradeResult grade(int examId, Map<Integer, String> answers, GradingPolicy policy) throws ServiceException {
+        return getAnswerKeyIndex(examId).grade(answers, policy);
+    }
+
+    @Override
+    public void invalidate(int examId) {
+        ExamContentCache.ANSWER_KEYS.invalidate(examId);
+    }
+}
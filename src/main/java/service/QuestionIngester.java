@@ -0,0 +1,58 @@
+package main.java.service;
+
+import main.java.dao.*;
+import main.java.metrics.DaoMetrics;
+import main.java.model.AnswerKey;
+import main.java.model.QuestionBank;
+import main.java.model.QuestionFull;
+import main.java.model.QuestionOption;
+import main.java.model.QuestionType;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문항 일괄 적재
+ * - 문제 N개를 JDBC 배치 한 번으로 넣고 생성된 question_id를 입력 순서대로 회수한 뒤,
+ *   선택지와 정답키를 각각 배치 한 번으로 넣는다. (문항 수와 무관하게 왕복 3회 + 배치 분할분)
+ * - 트랜잭션은 호출자(conn)가 관리한다. 시험 생성(createFullExam)과 파일 가져오기가 함께 쓴다.
+ */
+final class QuestionIngester {
+    private final QuestionBankDao questionBankDao = DaoMetrics.instrument(QuestionBankDao.class, new QuestionBankDaoImpl());
+    private final QuestionOptionDao questionOptionDao = DaoMetrics.instrument(QuestionOptionDao.class, new QuestionOptionDaoImpl());
+    private final AnswerKeyDao answerKeyDao = DaoMetrics.instrument(AnswerKeyDao.class, new AnswerKeyDaoImpl());
+
+    /**
+     * questions를 examId 시험에 추가한다.
+     * 입력 객체는 고치지 않는다. (캐시나 화면이 같은 객체를 들고 있을 수 있으므로 복사본에 id를 채워 넣는다)
+     * @return 추가한 문항 수
+     */
+    int ingest(Connection conn, int examId, List<QuestionFull> questions) throws DaoException {
+        if (questions.isEmpty()) return 0;
+        List<QuestionBank> banks = new ArrayList<>(questions.size());
+        for (QuestionFull qf : questions) {
+            QuestionBank qb = qf.getQuestionBank();
+            banks.add(new QuestionBank(0, examId, qb.getType(), qb.getQuestionText()));
+        }
+        questionBankDao.insertAll(conn, banks);
+
+        List<QuestionOption> options = new ArrayList<>();
+        List<AnswerKey> keys = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionFull qf = questions.get(i);
+            int qId = banks.get(i).getQuestionId();
+            if (qf.getType() == QuestionType.MCQ && qf.getOptions() != null) {
+                for (QuestionOption opt : qf.getOptions()) {
+                    options.add(new QuestionOption(0, qId, opt.getOptionLabel(), opt.getContent()));
+                }
+            }
+            keys.add(qf.getType() == QuestionType.MCQ
+                    ? new AnswerKey(qId, qf.getCorrectLabel(), null)
+                    : new AnswerKey(qId, null, qf.getCorrectText()));
+        }
+        questionOptionDao.insertAll(conn, options);
+        answerKeyDao.insertAll(conn, keys);
+        return questions.size();
+    }
+}
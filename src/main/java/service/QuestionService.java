@@ -3,11 +3,32 @@ package main.java.service;
 import main.java.dao.QuestionDao;
 import main.java.dao.QuestionDaoImpl;
 import main.java.dao.DaoException;
+import main.java.model.AnswerKey;
 import main.java.model.QuestionFull;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public interface QuestionService {
     List<QuestionFull> getQuestionsByExam(int examId) throws ServiceException;
     String getCorrectAnswer(int questionId) throws ServiceException; // 추가
+
+    /**
+     * 문항 여러 개를 시험에 일괄 추가한다. (문제·선택지·정답키 각각 배치 삽입, 한 트랜잭션)
+     * @return 추가한 문항 수
+     */
+    int addQuestions(int examId, List<QuestionFull> questions) throws ServiceException;
+
+    /**
+     * CSV 파일(UTF-8)의 문항을 시험에 일괄 추가한다. 한 행이라도 잘못되면 아무 것도 저장하지 않는다.
+     * 열: type(MCQ|OX), question_text, answer(MCQ는 1~5, OX는 O|X), option_1 ~ option_5(MCQ만)
+     * @return 추가한 문항 수
+     */
+    int importQuestions(int examId, Path csv) throws ServiceException;
+
+    /** 문제 하나의 정답을 바꾼다. 해당 시험의 문항·정답키 캐시를 비운다. */
+    void updateAnswerKey(AnswerKey key) throws ServiceException;
+
+    /** 문제 하나의 정답키를 지운다. (채점 시 그 문제는 오답 처리) 해당 시험의 캐시를 비운다. */
+    void deleteAnswerKey(int questionId) throws ServiceException;
 }
\ No newline at end of file
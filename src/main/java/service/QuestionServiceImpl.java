@@ -2,19 +2,40 @@ package main.java.service;
 
 import main.java.dao.*;
 import main.java.model.AnswerKey;
+import main.java.model.QuestionBank;
 import main.java.model.QuestionFull;
+import main.java.model.QuestionOption;
+import main.java.model.QuestionType;
+import main.java.metrics.DaoMetrics;
+import main.java.util.CsvReader;
+import main.java.util.UnitOfWork;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
 
 
 public class QuestionServiceImpl implements QuestionService {
-    private final QuestionDao questionDao = new QuestionDaoImpl();
-    private final AnswerKeyDao answerKeyDao = new AnswerKeyDaoImpl(); // 추가
+    /** 파일 가져오기에서 한 번에 적재하는 문항 수 (메모리 상한) */
+    private static final int IMPORT_CHUNK = Integer.getInteger("cbt.import.chunkSize", 1000);
+    private static final int MAX_OPTIONS = 5;
+
+    private final QuestionDao questionDao = DaoMetrics.instrument(QuestionDao.class, new QuestionDaoImpl());
+    private final AnswerKeyDao answerKeyDao = DaoMetrics.instrument(AnswerKeyDao.class, new AnswerKeyDaoImpl()); // 추가
+    private final QuestionBankDao questionBankDao = DaoMetrics.instrument(QuestionBankDao.class, new QuestionBankDaoImpl());
+    private final ExamDao examDao = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final QuestionIngester questionIngester = new QuestionIngester();
 
     @Override
     public List<QuestionFull> getQuestionsByExam(int examId) throws ServiceException {
         try {
-            return questionDao.findFullByExamId(examId);
+            // 시험 시간 동안 모든 학생이 같은 문항을 읽으므로 공유 캐시에서 제공
+            // 공유 캐시 객체가 아니라 복사본을 받으므로 호출자가 고쳐도 다른 학생에게 영향이 없다.
+            return ExamContentCache.questions(examId, questionDao::findFullByExamId);
         } catch (DaoException e) {
             throw new ServiceException("문항 조회 중 오류가 발생했습니다.", e);
         }
@@ -36,4 +57,145 @@ public class QuestionServiceImpl implements QuestionService {
             throw new ServiceException("정답 조회 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public int addQuestions(int examId, List<QuestionFull> questions) throws ServiceException {
+        int added;
+        try {
+            added = UnitOfWork.execute(conn -> {
+                int n = questionIngester.ingest(conn, examId, questions);
+                examDao.updateQuestionCount(examId, questionBankDao.countByExamId(examId));
+                return n;
+            });
+        } catch (DaoException | SQLException e) {
+            throw new ServiceException("문항 일괄 저장 중 오류가 발생했습니다.", e);
+        }
+        ExamContentCache.invalidate(examId);
+        return added;
+    }
+
+    @Override
+    public void updateAnswerKey(AnswerKey key) throws ServiceException {
+        int examId = examIdOf(key.getQuestionId());
+        try {
+            answerKeyDao.update(key);
+        } catch (DaoException e) {
+            throw new ServiceException("정답 수정 중 오류가 발생했습니다.", e);
+        }
+        ExamContentCache.invalidate(examId);
+    }
+
+    @Override
+    public void deleteAnswerKey(int questionId) throws ServiceException {
+        int examId = examIdOf(questionId);
+        try {
+            answerKeyDao.deleteByQuestionId(questionId);
+        } catch (DaoException e) {
+            throw new ServiceException("정답 삭제 중 오류가 발생했습니다.", e);
+        }
+        ExamContentCache.invalidate(examId);
+    }
+
+    /** 문제가 속한 시험 ID (캐시 무효화 대상) */
+    private int examIdOf(int questionId) throws ServiceException {
+        try {
+            QuestionBank qb = questionBankDao.findById(questionId);
+            if (qb == null) throw new ServiceException("존재하지 않는 문제입니다: " + questionId);
+            return qb.getExamId();
+        } catch (DaoException e) {
+            throw new ServiceException("문제 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public int importQuestions(int examId, Path csv) throws ServiceException {
+        int added;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) throw new ServiceException("빈 파일입니다: " + csv);
+            Map<String, Integer> col = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) col.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            for (String name : new String[]{"type", "question_text", "answer"}) {
+                if (!col.containsKey(name)) throw new ServiceException("필수 열이 없습니다: " + name);
+            }
+
+            // 파일 전체를 한 작업 단위로 묶되, 문항은 IMPORT_CHUNK개씩 파싱해 배치로 넣는다.
+            added = UnitOfWork.execute(conn -> importRows(conn, examId, reader, col));
+        } catch (IOException e) {
+            throw new ServiceException("CSV 파일을 읽지 못했습니다: " + e.getMessage(), e);
+        } catch (SQLException e) {
+            throw new ServiceException("문항 가져오기 중 오류가 발생했습니다.", e);
+        }
+        ExamContentCache.invalidate(examId);
+        return added;
+    }
+
+    private int importRows(Connection conn, int examId, CsvReader reader, Map<String, Integer> col)
+            throws ServiceException {
+        try {
+            int total = 0;
+            List<QuestionFull> chunk = new ArrayList<>(IMPORT_CHUNK);
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                if (row.size() == 1 && row.get(0).isBlank()) continue;
+                try {
+                    chunk.add(parseQuestion(row, col));
+                } catch (IllegalArgumentException e) {
+                    throw new ServiceException(reader.getRecordLine() + "행: " + e.getMessage());
+                }
+                if (chunk.size() >= IMPORT_CHUNK) {
+                    total += questionIngester.ingest(conn, examId, chunk);
+                    chunk.clear();
+                }
+            }
+            total += questionIngester.ingest(conn, examId, chunk);
+            examDao.updateQuestionCount(examId, questionBankDao.countByExamId(examId));
+            return total;
+        } catch (IOException e) {
+            throw new ServiceException("CSV 파일을 읽지 못했습니다: " + e.getMessage(), e);
+        } catch (DaoException e) {
+            throw new ServiceException("문항 가져오기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /** CSV 한 행을 검증해 QuestionFull로 만든다. (검증 실패 시 IllegalArgumentException) */
+    private static QuestionFull parseQuestion(List<String> row, Map<String, Integer> col) {
+        QuestionType type;
+        try {
+            type = QuestionType.valueOf(field(row, col, "type").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("type은 MCQ 또는 OX여야 합니다: " + field(row, col, "type"));
+        }
+        String text = field(row, col, "question_text");
+        if (text.isEmpty()) throw new IllegalArgumentException("question_text 값이 비어 있습니다");
+        String answer = field(row, col, "answer").toUpperCase(Locale.ROOT);
+
+        QuestionBank qb = new QuestionBank();
+        qb.setType(type.name());
+        qb.setQuestionText(text);
+        List<QuestionOption> options = new ArrayList<>();
+        AnswerKey key;
+        if (type == QuestionType.MCQ) {
+            for (int i = 1; i <= MAX_OPTIONS; i++) {
+                String content = field(row, col, "option_" + i);
+                if (!content.isEmpty()) options.add(new QuestionOption(0, 0, (char) ('0' + i), content));
+            }
+            if (options.size() < 2) throw new IllegalArgumentException("객관식은 선택지가 2개 이상 필요합니다");
+            if (answer.length() != 1 || options.stream().noneMatch(o -> o.getOptionLabel() == answer.charAt(0))) {
+                throw new IllegalArgumentException("정답이 선택지 번호가 아닙니다: " + answer);
+            }
+            key = new AnswerKey(0, answer.charAt(0), null);
+        } else {
+            if (!answer.equals("O") && !answer.equals("X")) {
+                throw new IllegalArgumentException("OX 정답은 O 또는 X여야 합니다: " + answer);
+            }
+            key = new AnswerKey(0, null, answer);
+        }
+        return new QuestionFull(qb, options, key);
+    }
+
+    private static String field(List<String> row, Map<String, Integer> col, String name) {
+        Integer idx = col.get(name);
+        return idx != null && idx < row.size() ? row.get(idx).trim() : "";
+    }
+}
@@ -0,0 +1,128 @@
+package main.java.service;
+
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시험 한 개의 문항·시험 통계 누적기
+ * - 정답키 색인 위치를 그대로 배열 인덱스로 써서 문항별 응시 수·정답 수를 int[]에 누적한다.
+ * - 답안 행을 user_id 순으로 넘기면 학생 한 명분 점수만 들고 있으면 되므로
+ *   답안이 수십만 건이어도 메모리는 문항 수에 비례한다.
+ * - 채점 기준은 GradingPolicy를 그대로 써서 실제 채점 결과와 같은 정답 판정을 한다.
+ * - 전체 재계산(StatisticsService.recompute)과 제출 증분(StatsAggregator) 모두 이 누적기를 쓴다.
+ *   증분일 때 결과는 "이번 구간에 더해진 양"이며 StatisticsDao.mergeExamStats로 저장 값에 더한다.
+ * - 스레드 안전하지 않다. (한 스레드에서 채운 뒤 결과를 꺼낸다)
+ */
+public final class QuestionStatsAccumulator {
+    private final AnswerKeyIndex key;
+    private final GradingPolicy policy;
+    private final int[] attempts;
+    private final int[] correct;
+    private final double maxPoints;
+
+    private boolean inUser;
+    private int currentUserId;
+    private double userEarned;
+
+    private int participants;
+    private long scoreSum;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private final int[] scoreDistribution = new int[ExamStat.SCORE_BUCKETS];
+
+    public QuestionStatsAccumulator(AnswerKeyIndex key, GradingPolicy policy) {
+        this.key = key;
+        this.policy = policy;
+        this.attempts = new int[key.size()];
+        this.correct = new int[key.size()];
+        double max = 0;
+        for (int i = 0; i < key.size(); i++) max += policy.weight(key.questionIdAt(i));
+        this.maxPoints = max;
+    }
+
+    /**
+     * 답안 한 행을 더한다. userId가 바뀌면 이전 학생의 점수를 확정한다.
+     * 정답키에 없는 문제의 답은 무시한다.
+     */
+    public void accept(int userId, int questionId, String answer) {
+        if (!inUser || userId != currentUserId) {
+            endUser();
+            inUser = true;
+            currentUserId = userId;
+        }
+        int idx = key.indexOf(questionId);
+        if (idx < 0) return;
+        attempts[idx]++;
+        String expected = key.expectedAt(idx);
+        double credit = expected == null ? 0.0 : policy.credit(expected, answer);
+        if (credit >= 1.0) correct[idx]++;
+        userEarned += policy.weight(questionId) * credit;
+    }
+
+    /** 학생 한 명의 답안 전체(문제ID → 답)를 더한다. */
+    public void acceptSubmission(int userId, Map<Integer, String> answers) {
+        endUser();
+        // 빈 답안지도 0점 응시자로 센다.
+        inUser = true;
+        currentUserId = userId;
+        for (Map.Entry<Integer, String> e : answers.entrySet()) {
+            accept(userId, e.getKey(), e.getValue());
+        }
+        endUser();
+    }
+
+    /** 진행 중인 학생의 점수를 확정한다. (마지막 행을 넘긴 뒤 호출) */
+    public void finish() {
+        endUser();
+    }
+
+    private void endUser() {
+        if (!inUser) return;
+        int score = maxPoints > 0 ? (int) Math.round(userEarned * 100.0 / maxPoints) : 0;
+        participants++;
+        scoreSum += score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        scoreDistribution[ExamStat.bucketOf(score)]++;
+        inUser = false;
+        userEarned = 0;
+    }
+
+    public int getParticipants() {
+        return participants;
+    }
+
+    /**
+     * 문항별 통계 (question_id 오름차순)
+     * @param typeByQuestion 문제ID → 문제 유형 (없으면 null로 저장)
+     * @param subSubject     세부 과목
+     */
+    public List<QuestionStat> questionStats(Map<Integer, String> typeByQuestion, String subSubject) {
+        List<QuestionStat> list = new ArrayList<>(key.size());
+        for (int i = 0; i < key.size(); i++) {
+            int qId = key.questionIdAt(i);
+            float rate = attempts[i] == 0 ? 0f : (float) correct[i] / attempts[i];
+            list.add(new QuestionStat(qId, key.getExamId(), attempts[i], correct[i], rate,
+                    typeByQuestion.get(qId), subSubject));
+        }
+        return list;
+    }
+
+    /** 시험 통계 (응시자가 없으면 평균·최저·최고 0) */
+    public ExamStat examStat(LocalDateTime computedAt) {
+        boolean empty = participants == 0;
+        ExamStat stat = new ExamStat(key.getExamId(), participants, key.size(),
+                empty ? 0f : (float) scoreSum / participants,
+                empty ? 0 : minScore,
+                empty ? 0 : maxScore,
+                computedAt);
+        stat.setScoreSum(scoreSum);
+        stat.setScoreDistribution(scoreDistribution.clone());
+        return stat;
+    }
+}
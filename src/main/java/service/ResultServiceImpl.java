@@ -4,12 +4,13 @@ import main.java.dao.ExamResultDao;
 import main.java.dao.ExamResultDaoImpl;
 import main.java.dao.DaoException;
 import main.java.model.ExamResult;
+import main.java.metrics.DaoMetrics;
 
 import java.util.List;
 import java.util.Map;
 
 public class ResultServiceImpl implements ResultService {
-    private final ExamResultDao resultDao = new ExamResultDaoImpl();
+    private final ExamResultDao resultDao = DaoMetrics.instrument(ExamResultDao.class, new ExamResultDaoImpl());
 
     @Override
     public Map<Integer, ExamResult> getResultsByUser(int userId) throws ServiceException {
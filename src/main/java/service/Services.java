@@ -0,0 +1,68 @@
+package main.java.service;
+
+import main.java.rpc.RpcClient;
+import main.java.rpc.RpcCodec;
+
+/**
+ * 화면이 쓸 서비스 구현을 고른다.
+ * - 기본: 이 프로세스에서 DB에 직접 붙는 구현 (기존 동작)
+ * - -Dcbt.rpc.server=host:port 지정 시: CbtServer로 호출을 넘기는 원격 스텁 (연결 하나를 공유)
+ */
+public final class Services {
+    private static final String SERVER = System.getProperty("cbt.rpc.server");
+    private static volatile RpcClient client;
+
+    private Services() {
+    }
+
+    /** 원격 서버를 쓰는지 여부 */
+    public static boolean isRemote() {
+        return SERVER != null && !SERVER.isBlank();
+    }
+
+    public static AuthenticationService auth() {
+        return isRemote() ? client().authenticationService() : new AuthenticationServiceImpl();
+    }
+
+    public static ExamService exam() {
+        return isRemote() ? client().stub(ExamService.class) : new ExamServiceImpl();
+    }
+
+    public static QuestionService question() {
+        return isRemote() ? client().stub(QuestionService.class) : new QuestionServiceImpl();
+    }
+
+    public static SubmissionService submission() {
+        return isRemote() ? client().stub(SubmissionService.class) : new SubmissionServiceImpl();
+    }
+
+    public static ResultService result() {
+        return isRemote() ? client().stub(ResultService.class) : new ResultServiceImpl();
+    }
+
+    public static GradingService grading() {
+        return isRemote() ? client().stub(GradingService.class) : new GradingServiceImpl();
+    }
+
+    public static ExamProgressService progress() {
+        return isRemote() ? client().stub(ExamProgressService.class) : new ExamProgressServiceImpl();
+    }
+
+    public static StatisticsService statistics() {
+        return isRemote() ? client().stub(StatisticsService.class) : new StatisticsServiceImpl();
+    }
+
+    private static RpcClient client() {
+        RpcClient c = client;
+        if (c == null) {
+            synchronized (Services.class) {
+                c = client;
+                if (c == null) {
+                    c = RpcClient.forAddress(SERVER.trim(), RpcCodec.configured());
+                    client = c;
+                }
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,32 @@
+package main.java.service;
+
+import main.java.model.Exam;
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+
+import java.util.List;
+
+/**
+ * 문항·시험 통계 서비스
+ * - 통계는 제출 때마다 StatsAggregator가 증분으로 더하거나 recompute()로 다시 계산해 저장하고,
+ *   조회는 저장된 값만 읽는다.
+ */
+public interface StatisticsService {
+    /** 통계 화면에 보여줄 전체 시험 목록 */
+    List<Exam> getExams() throws ServiceException;
+
+    /**
+     * 시험의 답안 전체를 한 번 스트리밍으로 훑어 문항·시험 통계를 다시 계산하고 저장한다.
+     * @return 저장한 시험 통계
+     */
+    ExamStat recompute(int examId) throws ServiceException;
+
+    /** 증분 누락으로 전체 재계산이 필요한 시험인지 */
+    boolean isStale(int examId);
+
+    /** 저장된 시험 통계 (계산한 적이 없으면 null) */
+    ExamStat getExamStat(int examId) throws ServiceException;
+
+    /** 저장된 문항 통계 (question_id 오름차순) */
+    List<QuestionStat> getQuestionStats(int examId) throws ServiceException;
+}
@@ -0,0 +1,65 @@
+package main.java.service;
+
+import main.java.dao.DaoException;
+import main.java.dao.ExamDao;
+import main.java.dao.ExamDaoImpl;
+import main.java.dao.StatisticsDao;
+import main.java.dao.StatisticsDaoImpl;
+import main.java.metrics.DaoMetrics;
+import main.java.model.Exam;
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+
+import java.util.List;
+
+/**
+ * StatisticsService 구현체
+ * - 최종 제출한(examresults가 있는) 학생의 답안만 user_id 순으로 스트리밍하며 QuestionStatsAccumulator에 누적하므로
+ *   (자동 저장만 된 미제출 답안은 증분 집계와 마찬가지로 세지 않는다)
+ *   답안 행 수와 관계없이 메모리는 문항 수에 비례한다.
+ * - 정답키·문제 유형은 ExamContentCache에 올라간 문항 목록을 재사용한다.
+ * - 계산 결과는 question_stats / exam_stats / exam_score_dist에 한 트랜잭션으로 교체 저장한다.
+ * - 재계산은 증분 병합과 겹치지 않도록 StatsAggregator의 락 안에서 수행한다.
+ * - 평소에는 StatsAggregator가 제출마다 증분을 더하므로 재계산은 누락(stale)이 있거나 정답을 고쳤을 때만 필요하다.
+ */
+public class StatisticsServiceImpl implements StatisticsService {
+    private final ExamDao examDao = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final StatisticsDao statisticsDao = DaoMetrics.instrument(StatisticsDao.class, new StatisticsDaoImpl());
+
+    @Override
+    public List<Exam> getExams() throws ServiceException {
+        try {
+            return examDao.findAll();
+        } catch (DaoException e) {
+            throw new ServiceException("시험 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public ExamStat recompute(int examId) throws ServiceException {
+        return StatsAggregator.shared().recompute(examId);
+    }
+
+    @Override
+    public boolean isStale(int examId) {
+        return StatsAggregator.shared().isStale(examId);
+    }
+
+    @Override
+    public ExamStat getExamStat(int examId) throws ServiceException {
+        try {
+            return statisticsDao.findExamStat(examId);
+        } catch (DaoException e) {
+            throw new ServiceException("시험 통계 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public List<QuestionStat> getQuestionStats(int examId) throws ServiceException {
+        try {
+            return statisticsDao.findQuestionStats(examId);
+        } catch (DaoException e) {
+            throw new ServiceException("문항 통계 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+}
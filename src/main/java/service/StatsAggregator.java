@@ -0,0 +1,264 @@
+package main.java.service;
+
+import main.java.dao.AnswerSheetDao;
+import main.java.dao.AnswerSheetDaoImpl;
+import main.java.dao.DaoException;
+import main.java.dao.ExamDao;
+import main.java.dao.ExamDaoImpl;
+import main.java.dao.ExamResultDao;
+import main.java.dao.ExamResultDaoImpl;
+import main.java.dao.StatisticsDao;
+import main.java.dao.StatisticsDaoImpl;
+import main.java.metrics.DaoMetrics;
+import main.java.model.AnswerSheet;
+import main.java.model.Exam;
+import main.java.model.ExamResult;
+import main.java.model.ExamStat;
+import main.java.model.QuestionFull;
+import main.java.model.QuestionStat;
+import main.java.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 제출 단위 통계 증분 집계기
+ * - 최종 제출이 커밋되면 ExamServiceImpl이 publish()로 (결과, 답안)을 넘긴다.
+ *   제출 스레드는 큐에 넣기만 하므로 제출당 비용은 답안 맵 복사 한 번이다.
+ * - 백그라운드 스레드가 flushSeconds마다 큐를 비우며 시험별 QuestionStatsAccumulator에 채점·누적하고,
+ *   누적된 증분을 StatisticsDao.mergeExamStats로 저장 값에 더한다. 전체 답안을 다시 읽지 않는다.
+ * - 저장에 실패한 증분은 메모리에 남겨 다음 주기에 다시 병합한다.
+ * - 큐가 가득 차 버린 제출이 있는 시험은 stale로 표시한다. (recompute로 바로잡는다)
+ * - recompute는 병합과 같은 락 안에서 큐를 먼저 비운 뒤 기준 result_id까지의 제출을 다시 읽는다.
+ *   그 뒤 큐에 도착한 제출 중 기준 이하인 것은 이미 재계산에 들어 있으므로 건너뛴다.
+ *   (cbt.stats.incremental: 사용 여부, 기본 true / cbt.stats.flushSeconds: 병합 주기, 기본 5 /
+ *    cbt.stats.queueCapacity: 대기 제출 수 상한, 기본 10000)
+ */
+public final class StatsAggregator {
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("cbt.stats.incremental", "true"));
+    private static final long FLUSH_SECONDS = Long.getLong("cbt.stats.flushSeconds", 5L);
+    private static final int QUEUE_CAPACITY = Integer.getInteger("cbt.stats.queueCapacity", 10_000);
+
+    private static final StatsAggregator SHARED = new StatsAggregator();
+
+    /** 최종 제출 한 건 (answers가 null이면 병합 시 DB에서 답안을 읽는다) */
+    private static final class Submission {
+        final int resultId;
+        final int userId;
+        final int examId;
+        final Map<Integer, String> answers;
+
+        Submission(int resultId, int userId, int examId, Map<Integer, String> answers) {
+            this.resultId = resultId;
+            this.userId = userId;
+            this.examId = examId;
+            this.answers = answers;
+        }
+    }
+
+    private final BlockingQueue<Submission> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    /** 시험 ID → 아직 저장하지 못한 증분 (flush 스레드만 접근, this로 동기화) */
+    private final Map<Integer, QuestionStatsAccumulator> pending = new HashMap<>();
+    private final Set<Integer> staleExams = ConcurrentHashMap.newKeySet();
+    /** 시험 ID → 마지막 재계산에 포함된 최대 result_id (this로 동기화) */
+    private final Map<Integer, Integer> recomputedUpTo = new HashMap<>();
+
+    private final ExamDao examDao = DaoMetrics.instrument(ExamDao.class, new ExamDaoImpl());
+    private final AnswerSheetDao answerSheetDao = DaoMetrics.instrument(AnswerSheetDao.class, new AnswerSheetDaoImpl());
+    private final ExamResultDao examResultDao = DaoMetrics.instrument(ExamResultDao.class, new ExamResultDaoImpl());
+    private final StatisticsDao statisticsDao = DaoMetrics.instrument(StatisticsDao.class, new StatisticsDaoImpl());
+    private final QuestionService questionService = new QuestionServiceImpl();
+    private final GradingService gradingService = new GradingServiceImpl();
+    /** 병합 스레드 시작/중지용 락 (flush 중에도 publish가 막히지 않도록 this와 분리) */
+    private final Object lifecycleLock = new Object();
+    private volatile ScheduledExecutorService scheduler;
+
+    private StatsAggregator() {
+    }
+
+    /** 프로세스 공용 집계기 */
+    public static StatsAggregator shared() {
+        return SHARED;
+    }
+
+    /**
+     * 커밋된 최종 제출을 집계 대기열에 넣는다. (처음 호출 시 병합 스레드를 시작한다)
+     * @param result 커밋된 결과 (result_id가 채워져 있어야 재계산과 겹치는 제출을 가려낼 수 있다)
+     * @param answers 제출 답안 (null이면 병합 시 answersheets에서 읽는다)
+     */
+    public void publish(ExamResult result, Map<Integer, String> answers) {
+        if (!ENABLED) return;
+        ensureStarted();
+        Map<Integer, String> copy = answers != null ? new HashMap<>(answers) : null;
+        if (!queue.offer(new Submission(result.getResultId(), result.getUserId(), result.getExamId(), copy))) {
+            staleExams.add(result.getExamId());
+        }
+    }
+
+    private void ensureStarted() {
+        if (scheduler != null) return;
+        synchronized (lifecycleLock) {
+            if (scheduler != null) return;
+            ScheduledExecutorService s = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "stats-aggregator");
+                t.setDaemon(true);
+                return t;
+            });
+            s.scheduleWithFixedDelay(() -> {
+                try {
+                    flush();
+                } catch (RuntimeException e) {
+                    System.err.println("[StatsAggregator] 병합 실패: " + e.getMessage());
+                }
+            }, FLUSH_SECONDS, FLUSH_SECONDS, TimeUnit.SECONDS);
+            scheduler = s;
+        }
+    }
+
+    /** 병합 스레드를 멈춘다. (대기 중인 증분은 남아 있으므로 필요하면 먼저 flush()) */
+    public void stop() {
+        synchronized (lifecycleLock) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 제출을 채점·누적하고 시험별 증분을 저장 통계에 병합한다.
+     * @return 병합에 성공한 시험 수
+     */
+    public synchronized int flush() {
+        List<Submission> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        for (Submission s : batch) {
+            // 재계산 기준점 이하의 제출은 이미 재계산 결과에 들어 있다.
+            if (s.resultId <= recomputedUpTo.getOrDefault(s.examId, 0)) continue;
+            try {
+                QuestionStatsAccumulator acc = pending.get(s.examId);
+                if (acc == null) {
+                    acc = new QuestionStatsAccumulator(gradingService.getAnswerKeyIndex(s.examId), GradingPolicy.exact());
+                    pending.put(s.examId, acc);
+                }
+                acc.acceptSubmission(s.userId, s.answers != null ? s.answers : loadAnswers(s.userId, s.examId));
+            } catch (ServiceException | DaoException e) {
+                staleExams.add(s.examId);
+                System.err.println("[StatsAggregator] 제출 집계 실패: examId=" + s.examId + ", " + e.getMessage());
+            }
+        }
+
+        int merged = 0;
+        for (Iterator<Map.Entry<Integer, QuestionStatsAccumulator>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, QuestionStatsAccumulator> entry = it.next();
+            try {
+                merge(entry.getKey(), entry.getValue());
+                it.remove();
+                merged++;
+            } catch (ServiceException e) {
+                // 증분은 그대로 두고 다음 주기에 다시 시도한다.
+                System.err.println("[StatsAggregator] " + e.getMessage());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 시험 통계를 제출된 답안 전체로 다시 계산해 교체 저장한다.
+     * - 병합과 같은 락을 잡고 먼저 큐를 비워 병합한 뒤, 남은 미병합 증분을 버리고 기준 result_id를 정한다.
+     *   (그 시점의 큐·증분에 있던 제출은 모두 이미 커밋되었으므로 기준 이하다)
+     * - 기준 이하의 제출만 스트리밍하고, 이후 큐에 도착하는 기준 이하 제출은 flush()가 건너뛴다.
+     *   기준보다 나중에 커밋된 제출은 재계산에 없고 평소처럼 증분으로 더해진다.
+     */
+    public synchronized ExamStat recompute(int examId) throws ServiceException {
+        flush();
+        // 남은 증분은 아래 기준 result_id 안에 들어 있다. (실패하면 stale로 돌려 놓는다)
+        pending.remove(examId);
+        staleExams.remove(examId);
+
+        List<QuestionFull> questions = questionService.getQuestionsByExam(examId);
+        Map<Integer, String> types = new HashMap<>();
+        for (QuestionFull q : questions) types.put(q.getQuestionId(), q.getQuestionBank().getType());
+        QuestionStatsAccumulator acc =
+                new QuestionStatsAccumulator(AnswerKeyIndex.fromQuestions(examId, questions), GradingPolicy.exact());
+        Exam exam;
+        int cutoff;
+        try {
+            exam = examDao.findById(examId);
+            cutoff = examResultDao.maxResultId(examId);
+            answerSheetDao.streamByExam(examId, cutoff, 0,
+                    sheet -> acc.accept(sheet.getUserId(), sheet.getQuestionId(), sheet.getSelectedAnswer()));
+        } catch (DaoException e) {
+            staleExams.add(examId);
+            throw new ServiceException("답안 집계 중 오류가 발생했습니다: examId=" + examId, e);
+        }
+        acc.finish();
+
+        ExamStat examStat = acc.examStat(LocalDateTime.now());
+        List<QuestionStat> questionStats = acc.questionStats(types, exam != null ? exam.getSubject() : null);
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                statisticsDao.replaceExamStats(conn, examStat, questionStats);
+                conn.commit();
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (DaoException | SQLException e) {
+            staleExams.add(examId);
+            throw new ServiceException("통계 저장 중 오류가 발생했습니다: examId=" + examId, e);
+        }
+        recomputedUpTo.merge(examId, cutoff, Math::max);
+        return examStat;
+    }
+
+    /** 제출이 누락되어 전체 재계산이 필요한 시험인지 */
+    public boolean isStale(int examId) {
+        return staleExams.contains(examId);
+    }
+
+    /** 큐에 쌓인 제출 수 (모니터링용) */
+    public int backlog() {
+        return queue.size();
+    }
+
+    private Map<Integer, String> loadAnswers(int userId, int examId) throws DaoException {
+        Map<Integer, String> answers = new HashMap<>();
+        for (AnswerSheet sheet : answerSheetDao.findByUserAndExam(userId, examId)) {
+            answers.put(sheet.getQuestionId(), sheet.getSelectedAnswer());
+        }
+        return answers;
+    }
+
+    private void merge(int examId, QuestionStatsAccumulator acc) throws ServiceException {
+        if (acc.getParticipants() == 0) return;
+        Map<Integer, String> types = new HashMap<>();
+        String subject;
+        try {
+            for (QuestionFull q : questionService.getQuestionsByExam(examId)) {
+                types.put(q.getQuestionId(), q.getQuestionBank().getType());
+            }
+            Exam exam = ExamContentCache.exam(examId, examDao::findById);
+            subject = exam != null ? exam.getSubject() : null;
+        } catch (DaoException e) {
+            throw new ServiceException("시험 정보 조회 실패: examId=" + examId, e);
+        }
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                statisticsDao.mergeExamStats(conn, acc.examStat(LocalDateTime.now()), acc.questionStats(types, subject));
+                conn.commit();
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (DaoException | SQLException e) {
+            throw new ServiceException("통계 증분 병합 실패: examId=" + examId, e);
+        }
+    }
+}
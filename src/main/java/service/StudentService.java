@@ -0,0 +1,38 @@
+package main.java.service;
+
+import main.java.model.StudentImportResult;
+import main.java.model.User;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 학생 계정 관리 서비스 (관리자)
+ */
+public interface StudentService {
+    /** user_id 오름차순 페이지 조회 (첫 페이지는 afterUserId = 0) */
+    List<User> getStudentPage(int afterUserId, int limit) throws ServiceException;
+
+    /**
+     * CSV 파일에서 학생을 일괄 등록한다.
+     * - 헤더: student_number,name,password,dpmt_id,grade[,level][,is_active]
+     * - 한 줄씩 읽어 검증하고, 청크 단위 트랜잭션으로 다중 행 INSERT 한다.
+     * - 청크를 커밋할 때마다 "파일명.progress" 체크포인트를 남기며, 끝까지 성공하면 지운다.
+     * - 이미 있는 학번은 건너뛴다.
+     * @param resume     true면 체크포인트 다음 줄부터 이어서 가져온다.
+     * @param onProgress 청크를 커밋할 때마다 호출 (null 가능, 호출 스레드에서 실행)
+     * @throws ServiceException 파일 형식 오류 또는 저장 실패 (실패 전에 커밋한 청크는 유지된다)
+     */
+    StudentImportResult importStudents(Path csv, boolean resume, Consumer<StudentImportResult> onProgress)
+            throws ServiceException;
+
+    /** 이어서 가져올 체크포인트가 있는지 */
+    boolean hasImportCheckpoint(Path csv);
+
+    /**
+     * 전체 사용자를 커서(fetchSize) 단위로 읽으며 CSV로 내보낸다. (비밀번호 제외)
+     * @return 내보낸 행 수
+     */
+    int exportStudents(Path out) throws ServiceException;
+}
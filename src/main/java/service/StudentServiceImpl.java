@@ -0,0 +1,247 @@
+package main.java.service;
+
+import main.java.dao.DaoException;
+import main.java.dao.UserDao;
+import main.java.dao.UserDaoImpl;
+import main.java.metrics.DaoMetrics;
+import main.java.model.StudentImportResult;
+import main.java.model.User;
+import main.java.util.CsvReader;
+import main.java.util.CsvWriter;
+import main.java.util.DBConnection;
+import main.java.util.PasswordHasher;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * StudentService 구현체
+ * - 가져오기: CsvReader로 한 레코드씩 읽어 검증(비밀번호는 PasswordHasher로 해시) → 청크(cbt.import.chunkSize, 기본 1000행)마다
+ *   기존 학번 IN 조회 + 다중 행 INSERT를 한 트랜잭션으로 커밋한다.
+ *   커밋 후 체크포인트(마지막 줄 번호·누적 건수)를 기록하므로 실패 시 그 다음 줄부터 이어서 가져올 수 있다.
+ *   체크포인트 기록 전에 중단되더라도 기존 학번 조회로 같은 학생이 두 번 들어가지 않는다.
+ * - 내보내기: UserDao.streamAll로 커서 단위로 읽으며 바로 파일에 쓴다. (전체 목록을 메모리에 올리지 않음)
+ */
+public class StudentServiceImpl implements StudentService {
+    private static final int CHUNK_SIZE = Integer.getInteger("cbt.import.chunkSize", 1000);
+    private static final String CHECKPOINT_SUFFIX = ".progress";
+
+    private static final String[] REQUIRED = {"student_number", "name", "password", "dpmt_id", "grade"};
+
+    private final UserDao userDao = DaoMetrics.instrument(UserDao.class, new UserDaoImpl());
+
+    @Override
+    public List<User> getStudentPage(int afterUserId, int limit) throws ServiceException {
+        try {
+            return userDao.findPage(afterUserId, limit);
+        } catch (DaoException e) {
+            throw new ServiceException("학생 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean hasImportCheckpoint(Path csv) {
+        return Files.exists(checkpointOf(csv));
+    }
+
+    @Override
+    public StudentImportResult importStudents(Path csv, boolean resume, Consumer<StudentImportResult> onProgress)
+            throws ServiceException {
+        Path checkpoint = checkpointOf(csv);
+        StudentImportResult result = new StudentImportResult();
+        if (resume) loadCheckpoint(checkpoint, result);
+        int skipThrough = result.getLastCommittedLine();
+        result.setResumedFromLine(skipThrough);
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) throw new ServiceException("빈 파일입니다: " + csv);
+            Map<String, Integer> col = columnIndex(header);
+
+            Set<String> seen = new HashSet<>();
+            List<User> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                int line = reader.getRecordLine();
+                if (line <= skipThrough) continue;
+                if (row.size() == 1 && row.get(0).isBlank()) continue;
+                result.setTotalRows(result.getTotalRows() + 1);
+
+                User user;
+                try {
+                    user = parseUser(row, col);
+                } catch (IllegalArgumentException e) {
+                    result.setInvalid(result.getInvalid() + 1);
+                    result.addError(line, e.getMessage());
+                    continue;
+                }
+                if (!seen.add(user.getStudentNumber())) {
+                    result.setDuplicates(result.getDuplicates() + 1);
+                    result.addError(line, "파일 안에서 중복된 학번: " + user.getStudentNumber());
+                    continue;
+                }
+                chunk.add(user);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    commitChunk(chunk, line, result, checkpoint, onProgress);
+                    chunk.clear();
+                }
+            }
+            // 마지막 청크: 뒤쪽의 오류 행까지 처리한 줄 번호로 기록
+            commitChunk(chunk, Math.max(reader.getRecordLine(), result.getLastCommittedLine()),
+                    result, checkpoint, onProgress);
+        } catch (IOException e) {
+            throw new ServiceException("CSV 파일을 읽지 못했습니다: " + e.getMessage(), e);
+        }
+
+        result.setCompleted(true);
+        try {
+            Files.deleteIfExists(checkpoint);
+        } catch (IOException ignored) {
+        }
+        return result;
+    }
+
+    /** 청크 하나를 한 트랜잭션으로 저장하고 체크포인트를 남긴다. */
+    private void commitChunk(List<User> chunk, int throughLine, StudentImportResult result, Path checkpoint,
+                             Consumer<StudentImportResult> onProgress) throws ServiceException {
+        int inserted = 0;
+        if (!chunk.isEmpty()) {
+            // 해시는 CPU 작업이므로 트랜잭션(커넥션)을 잡기 전에 병렬로 끝낸다. (이미 해시된 값은 그대로)
+            chunk.parallelStream()
+                    .filter(u -> !PasswordHasher.isHashed(u.getPassword()))
+                    .forEach(u -> u.setPassword(PasswordHasher.hash(u.getPassword())));
+            try (Connection conn = DBConnection.getConnection()) {
+                conn.setAutoCommit(false);
+                try {
+                    List<String> numbers = new ArrayList<>(chunk.size());
+                    for (User u : chunk) numbers.add(u.getStudentNumber());
+                    Set<String> existing = userDao.findExistingStudentNumbers(conn, numbers);
+                    List<User> fresh = new ArrayList<>(chunk.size());
+                    for (User u : chunk) {
+                        if (!existing.contains(u.getStudentNumber())) fresh.add(u);
+                    }
+                    userDao.insertAll(conn, fresh);
+                    conn.commit();
+                    inserted = fresh.size();
+                    result.setDuplicates(result.getDuplicates() + existing.size());
+                } catch (DaoException | SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (DaoException | SQLException e) {
+                throw new ServiceException("학생 저장 중 오류가 발생했습니다. (" + result.getLastCommittedLine()
+                        + "행까지 저장됨, 이어서 가져오기로 재시도할 수 있습니다)", e);
+            }
+        }
+        result.setInserted(result.getInserted() + inserted);
+        result.setLastCommittedLine(throughLine);
+        saveCheckpoint(checkpoint, result);
+        if (onProgress != null) onProgress.accept(result);
+    }
+
+    @Override
+    public int exportStudents(Path out) throws ServiceException {
+        int[] count = {0};
+        try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8);
+             CsvWriter csv = new CsvWriter(writer)) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다.
+            writer.write('\uFEFF');
+            csv.write("student_number", "name", "dpmt_id", "grade", "level", "is_active");
+            userDao.streamAll(0, u -> {
+                csv.write(u.getStudentNumber(), u.getName(), u.getDpmtId(), u.getGrade(), u.getLevel(), u.isActive());
+                count[0]++;
+            });
+        } catch (IOException | DaoException e) {
+            throw new ServiceException("학생 목록 내보내기 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        return count[0];
+    }
+
+    private static Map<String, Integer> columnIndex(List<String> header) throws ServiceException {
+        Map<String, Integer> col = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) col.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        for (String name : REQUIRED) {
+            if (!col.containsKey(name)) throw new ServiceException("필수 열이 없습니다: " + name);
+        }
+        return col;
+    }
+
+    /** 한 행을 검증해 User로 만든다. (검증 실패 시 IllegalArgumentException) */
+    private static User parseUser(List<String> row, Map<String, Integer> col) {
+        User user = new User();
+        user.setStudentNumber(required(row, col, "student_number"));
+        if (user.getStudentNumber().length() > 20) throw new IllegalArgumentException("학번이 너무 깁니다");
+        user.setName(required(row, col, "name"));
+        user.setPassword(required(row, col, "password"));
+        user.setDpmtId(intField(row, col, "dpmt_id", 1, Integer.MAX_VALUE));
+        user.setGrade(intField(row, col, "grade", 1, 6));
+        user.setLevel(col.containsKey("level") && !field(row, col, "level").isEmpty()
+                ? intField(row, col, "level", 0, 1) : 1);
+        String active = col.containsKey("is_active") ? field(row, col, "is_active") : "";
+        user.setActive(active.isEmpty() || active.equalsIgnoreCase("true") || active.equals("1"));
+        return user;
+    }
+
+    private static String field(List<String> row, Map<String, Integer> col, String name) {
+        int idx = col.get(name);
+        return idx < row.size() ? row.get(idx).trim() : "";
+    }
+
+    private static String required(List<String> row, Map<String, Integer> col, String name) {
+        String v = field(row, col, name);
+        if (v.isEmpty()) throw new IllegalArgumentException(name + " 값이 비어 있습니다");
+        return v;
+    }
+
+    private static int intField(List<String> row, Map<String, Integer> col, String name, int min, int max) {
+        String v = required(row, col, name);
+        try {
+            int n = Integer.parseInt(v);
+            if (n < min || n > max) throw new IllegalArgumentException(name + " 범위 오류: " + v);
+            return n;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 숫자가 아닙니다: " + v);
+        }
+    }
+
+    private static Path checkpointOf(Path csv) {
+        return csv.resolveSibling(csv.getFileName() + CHECKPOINT_SUFFIX);
+    }
+
+    private static void loadCheckpoint(Path checkpoint, StudentImportResult result) throws ServiceException {
+        if (!Files.exists(checkpoint)) return;
+        Properties p = new Properties();
+        try (Reader r = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            p.load(r);
+            result.setLastCommittedLine(Integer.parseInt(p.getProperty("line", "0")));
+            result.setTotalRows(Integer.parseInt(p.getProperty("total", "0")));
+            result.setInserted(Integer.parseInt(p.getProperty("inserted", "0")));
+            result.setDuplicates(Integer.parseInt(p.getProperty("duplicates", "0")));
+            result.setInvalid(Integer.parseInt(p.getProperty("invalid", "0")));
+        } catch (IOException | NumberFormatException e) {
+            throw new ServiceException("체크포인트를 읽지 못했습니다: " + checkpoint, e);
+        }
+    }
+
+    private static void saveCheckpoint(Path checkpoint, StudentImportResult result) throws ServiceException {
+        Properties p = new Properties();
+        p.setProperty("line", String.valueOf(result.getLastCommittedLine()));
+        p.setProperty("total", String.valueOf(result.getTotalRows()));
+        p.setProperty("inserted", String.valueOf(result.getInserted()));
+        p.setProperty("duplicates", String.valueOf(result.getDuplicates()));
+        p.setProperty("invalid", String.valueOf(result.getInvalid()));
+        try (Writer w = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8)) {
+            p.store(w, "student import checkpoint");
+        } catch (IOException e) {
+            throw new ServiceException("체크포인트를 기록하지 못했습니다: " + checkpoint, e);
+        }
+    }
+}
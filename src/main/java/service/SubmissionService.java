@@ -3,9 +3,18 @@ package main.java.service;
 
 import main.java.service.ServiceException;
 
+import java.util.Map;
+
 /**
  * 사용자의 시험 응시(답안 제출) 관련 비즈니스 로직 인터페이스
  */
 public interface SubmissionService {
+    /** 답안 하나를 저장한다. 같은 문제에 이미 저장된 답안이 있으면 덮어쓴다. (upsert) */
     void submitAnswer(int userId, int examId, int questionId, String answer) throws ServiceException;
+
+    /** 여러 문제의 답안을 한 트랜잭션으로 저장한다. (문제별 upsert, 자동 저장용) */
+    void submitAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException;
+
+    /** 지금까지 저장된 답안 <문제ID, 답> (응시 재개 시 복원용) */
+    Map<Integer, String> getSavedAnswers(int userId, int examId) throws ServiceException;
 }
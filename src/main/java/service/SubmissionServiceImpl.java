@@ -5,24 +5,63 @@ import main.java.dao.AnswerSheetDao;
 import main.java.dao.AnswerSheetDaoImpl;
 import main.java.dao.DaoException;
 import main.java.model.AnswerSheet;
+import main.java.util.DBConnection;
+import main.java.metrics.DaoMetrics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * SubmissionService 구현체
  */
 public class SubmissionServiceImpl implements SubmissionService {
-    private final AnswerSheetDao dao = new AnswerSheetDaoImpl();
+    private final AnswerSheetDao dao = DaoMetrics.instrument(AnswerSheetDao.class, new AnswerSheetDaoImpl());
 
     @Override
     public void submitAnswer(int userId, int examId, int questionId, String answer) throws ServiceException {
-        try {
+        submitAnswers(userId, examId, Map.of(questionId, answer));
+    }
+
+    @Override
+    public void submitAnswers(int userId, int examId, Map<Integer, String> answers) throws ServiceException {
+        if (answers.isEmpty()) return;
+        List<AnswerSheet> sheets = new ArrayList<>(answers.size());
+        for (Map.Entry<Integer, String> entry : answers.entrySet()) {
             AnswerSheet sheet = new AnswerSheet();
             sheet.setUserId(userId);
             sheet.setExamId(examId);
-            sheet.setQuestionId(questionId);
-            sheet.setSelectedAnswer(answer);
-            dao.insert(sheet);
-        } catch (DaoException e) {
+            sheet.setQuestionId(entry.getKey());
+            sheet.setSelectedAnswer(entry.getValue());
+            sheets.add(sheet);
+        }
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                dao.upsertAll(conn, sheets);
+                conn.commit();
+            } catch (DaoException | SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (DaoException | SQLException e) {
             throw new ServiceException("답안 제출 실패", e);
         }
     }
+
+    @Override
+    public Map<Integer, String> getSavedAnswers(int userId, int examId) throws ServiceException {
+        try {
+            Map<Integer, String> answers = new HashMap<>();
+            for (AnswerSheet sheet : dao.findByUserAndExam(userId, examId)) {
+                answers.put(sheet.getQuestionId(), sheet.getSelectedAnswer());
+            }
+            return answers;
+        } catch (DaoException e) {
+            throw new ServiceException("저장된 답안 조회 실패", e);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package main.java.service;
+
+import main.java.model.UserProfile;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 세션 저장소 (서버 메모리)
+ * - 로그인 성공 시 추측할 수 없는 토큰(256비트 난수, URL-safe Base64)을 발급하고 불변 프로필을 함께 보관한다.
+ * - 마지막 사용 후 cbt.session.idleMinutes(기본 120)분이 지나거나,
+ *   발급 후 cbt.session.maxHours(기본 12)시간이 지나면 만료된다. 조회할 때마다 유휴 시간이 갱신된다.
+ * - 만료된 세션은 조회 시 지우고, 발급 PURGE_EVERY회마다 전체를 한 번 훑어 정리한다.
+ */
+public final class UserSessionStore {
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(Long.getLong("cbt.session.idleMinutes", 120L));
+    private static final long MAX_NANOS = TimeUnit.HOURS.toNanos(Long.getLong("cbt.session.maxHours", 12L));
+    private static final int PURGE_EVERY = 256;
+
+    private static final UserSessionStore SHARED = new UserSessionStore();
+
+    /** 세션 한 개 (lastSeen만 바뀐다) */
+    private static final class Session {
+        final UserProfile profile;
+        final long createdAt = System.nanoTime();
+        volatile long lastSeen = createdAt;
+
+        Session(UserProfile profile) {
+            this.profile = profile;
+        }
+
+        boolean isExpired(long now) {
+            return now - lastSeen > IDLE_NANOS || now - createdAt > MAX_NANOS;
+        }
+    }
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicInteger issued = new AtomicInteger();
+
+    private UserSessionStore() {
+    }
+
+    public static UserSessionStore shared() {
+        return SHARED;
+    }
+
+    /** 새 세션을 열고 토큰을 반환한다. */
+    public String open(UserProfile profile) {
+        if (issued.incrementAndGet() % PURGE_EVERY == 0) purgeExpired();
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(profile));
+        return token;
+    }
+
+    /** 유효한 세션의 프로필 (만료·없는 토큰이면 null). 조회하면 유휴 시간이 갱신된다. */
+    public UserProfile get(String token) {
+        if (token == null) return null;
+        Session session = sessions.get(token);
+        if (session == null) return null;
+        long now = System.nanoTime();
+        if (session.isExpired(now)) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.lastSeen = now;
+        return session.profile;
+    }
+
+    /** 세션을 닫는다. (로그아웃) */
+    public void close(String token) {
+        if (token != null) sessions.remove(token);
+    }
+
+    /** 해당 사용자의 세션을 모두 닫는다. (비밀번호 변경·계정 비활성화 시) */
+    public void closeAll(int userId) {
+        sessions.values().removeIf(s -> s.profile.getUserId() == userId);
+    }
+
+    /** 만료된 세션을 정리한다. */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        for (Iterator<Session> it = sessions.values().iterator(); it.hasNext(); ) {
+            if (it.next().isExpired(now)) it.remove();
+        }
+    }
+
+    /** 현재 보관 중인 세션 수 (만료 전 정리되지 않은 것 포함) */
+    public int size() {
+        return sessions.size();
+    }
+}
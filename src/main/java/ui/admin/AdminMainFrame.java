@@ -30,10 +30,10 @@ public class AdminMainFrame extends BaseFrame {
      */
     private void initScreens() {
         addScreen("Profile", new ProfilePanel(user));
-//        addScreen("StudentMgmt", new StudentMgmtPanel(user));
+        addScreen("StudentMgmt", new StudentMgmtPanel(user));
 //        addScreen("ExamMgmt", new ExamMgmtPanel(user));
-//        addScreen("ExamProgress", new ExamProgressPanel(user));
-//        addScreen("Stats", new ExamStatsPanel(user));
+        addScreen("ExamProgress", new ExamProgressPanel(user));
+        addScreen("Stats", new ExamStatsPanel(user));
 //        addScreen("SurveyMgmt", new SurveyMgmtPanel(user));
 //        addScreen("NoticeMgmt", new NoticeMgmtPanel(user));
     }
@@ -1,4 +1,220 @@
 package main.java.ui.admin;
 
-public class ExamProgressPanel {
+import main.java.model.Exam;
+import main.java.model.ExamProgress;
+import main.java.model.ExamSession;
+import main.java.model.User;
+import main.java.service.ExamProgressService;
+import main.java.service.Services;
+import main.java.ui.common.BackgroundLoader;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자용 시험 진행 현황 화면
+ * - 선택한 시험의 응시 세션(시작 여부, 답한 문항 수, 마지막 응답, 제출 여부)을 보여줍니다.
+ * - 화면이 보이는 동안 주기적으로 마지막 version 이후 바뀐 세션만 받아 표에 반영합니다.
+ *   (cbt.progress.pollSeconds, 기본 3 / 응답 없음 판정: cbt.session.timeoutSeconds, 기본 60)
+ * - 조회는 BackgroundLoader로 EDT 밖에서 실행합니다.
+ * - 원격 모드(cbt.rpc.server)에서는 응시 세션을 가진 서버 프로세스에 조회합니다.
+ */
+public class ExamProgressPanel extends JPanel {
+    private static final int POLL_SECONDS = Integer.getInteger("cbt.progress.pollSeconds", 3);
+    private static final long TIMEOUT_SECONDS = Long.getLong("cbt.session.timeoutSeconds", 60L);
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private static final int COL_STATUS = 2;
+    private static final int COL_LAST_SEEN = 5;
+
+    private final User user;
+    private final ExamProgressService progressService = Services.progress();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private JComboBox<ExamItem> examCombo;
+    private JLabel summaryLabel;
+    private DefaultTableModel model;
+
+    /** 현재 표에 보이는 시험의 세션 (userId → 세션, 행 번호) */
+    private final Map<Integer, ExamSession> sessions = new HashMap<>();
+    private final Map<Integer, Integer> rowOf = new HashMap<>();
+    private int shownExamId = -1;
+    private long version;
+
+    /** 콤보박스 항목 (시험 ID + 과목명 표시) */
+    private static final class ExamItem {
+        final Exam exam;
+
+        ExamItem(Exam exam) {
+            this.exam = exam;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + exam.getExamId() + "] " + exam.getSubject();
+        }
+    }
+
+    public ExamProgressPanel(User user) {
+        this.user = user;
+        initComponents();
+        reloadExams();
+
+        // 화면이 보일 때만 증분 조회 (진행 중인 조회가 있으면 합쳐짐)
+        Timer pollTimer = new Timer(POLL_SECONDS * 1000, e -> {
+            if (isShowing()) poll();
+        });
+        pollTimer.start();
+    }
+
+    private void initComponents() {
+        setLayout(new BorderLayout());
+
+        JPanel top = new JPanel(new BorderLayout());
+        JLabel header = new JLabel("시험 진행 현황");
+        header.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+        header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        top.add(header, BorderLayout.WEST);
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 8));
+        examCombo = new JComboBox<>();
+        examCombo.addActionListener(e -> switchExam());
+        JButton refreshBtn = new JButton("시험 목록 새로고침");
+        refreshBtn.addActionListener(e -> reloadExams());
+        controls.add(examCombo);
+        controls.add(refreshBtn);
+        top.add(controls, BorderLayout.EAST);
+
+        summaryLabel = new JLabel(" ");
+        summaryLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 8, 10));
+        top.add(summaryLabel, BorderLayout.SOUTH);
+        add(top, BorderLayout.NORTH);
+
+        String[] columns = {"학번", "이름", "상태", "진행", "시작", "마지막 응답"};
+        model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setRowHeight(26);
+        table.setAutoCreateRowSorter(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(loader.getStatusBar(), BorderLayout.SOUTH);
+    }
+
+    private void reloadExams() {
+        loader.run("exams", "시험 목록을 불러오는 중...",
+                progressService::getMonitoredExams,
+                exams -> {
+                    int selected = shownExamId;
+                    examCombo.removeAllItems();
+                    for (Exam exam : exams) {
+                        ExamItem item = new ExamItem(exam);
+                        examCombo.addItem(item);
+                        if (exam.getExamId() == selected) examCombo.setSelectedItem(item);
+                    }
+                },
+                this::showError);
+    }
+
+    /** 시험을 바꾸면 표를 비우고 전체를 다시 받는다. */
+    private void switchExam() {
+        ExamItem item = (ExamItem) examCombo.getSelectedItem();
+        int examId = item != null ? item.exam.getExamId() : -1;
+        if (examId == shownExamId) return;
+        loader.cancel("progress");
+        shownExamId = examId;
+        version = 0;
+        sessions.clear();
+        rowOf.clear();
+        model.setRowCount(0);
+        summaryLabel.setText(" ");
+        poll();
+    }
+
+    private void poll() {
+        if (shownExamId < 0) return;
+        int examId = shownExamId;
+        long since = version;
+        loader.run("progress", "진행 현황을 갱신하는 중...",
+                () -> progressService.getProgress(examId, since),
+                progress -> {
+                    if (progress.getExamId() == shownExamId) apply(progress);
+                },
+                this::showError);
+    }
+
+    /** 받은 세션만 행을 추가·갱신하고, 응답 없음 표시는 시각에 따라 전체 행을 다시 판정한다. */
+    private void apply(ExamProgress progress) {
+        if (progress.isFull()) {
+            sessions.clear();
+            rowOf.clear();
+            model.setRowCount(0);
+        }
+        version = progress.getVersion();
+        for (ExamSession s : progress.getSessions()) {
+            sessions.put(s.getUserId(), s);
+            Object[] row = toRow(s);
+            Integer r = rowOf.get(s.getUserId());
+            if (r == null) {
+                rowOf.put(s.getUserId(), model.getRowCount());
+                model.addRow(row);
+            } else {
+                for (int c = 0; c < row.length; c++) model.setValueAt(row[c], r, c);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int inProgress = 0, idle = 0, submitted = 0;
+        for (ExamSession s : sessions.values()) {
+            String status = statusOf(s, now);
+            int r = rowOf.get(s.getUserId());
+            if (!status.equals(model.getValueAt(r, COL_STATUS))) model.setValueAt(status, r, COL_STATUS);
+            model.setValueAt(ago(s.getLastSeenAt(), now), r, COL_LAST_SEEN);
+            if (s.isSubmitted()) submitted++;
+            else if (s.isIdle(now, TIMEOUT_SECONDS)) idle++;
+            else inProgress++;
+        }
+        summaryLabel.setText(String.format("응시 중 %d명 · 응답 없음 %d명 · 제출 %d명 (갱신: %s)",
+                inProgress, idle, submitted, now.format(FMT)));
+    }
+
+    private Object[] toRow(ExamSession s) {
+        LocalDateTime now = LocalDateTime.now();
+        String progress = s.getQuestionCount() > 0
+                ? s.getAnsweredCount() + " / " + s.getQuestionCount()
+                : "-";
+        return new Object[]{
+                s.getStudentNumber() != null ? s.getStudentNumber() : "#" + s.getUserId(),
+                s.getName() != null ? s.getName() : "-",
+                statusOf(s, now),
+                progress,
+                s.getStartedAt() != null ? s.getStartedAt().format(FMT) : "-",
+                ago(s.getLastSeenAt(), now)
+        };
+    }
+
+    private static String statusOf(ExamSession s, LocalDateTime now) {
+        if (s.isSubmitted()) return "제출 완료";
+        return s.isIdle(now, TIMEOUT_SECONDS) ? "응답 없음" : "응시 중";
+    }
+
+    private static String ago(LocalDateTime t, LocalDateTime now) {
+        if (t == null) return "-";
+        long secs = Math.max(0, Duration.between(t, now).getSeconds());
+        return secs < 60 ? secs + "초 전" : (secs / 60) + "분 전";
+    }
+
+    private void showError(Exception e) {
+        summaryLabel.setText("진행 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
+    }
 }
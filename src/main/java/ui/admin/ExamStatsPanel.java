@@ -1,4 +1,217 @@
 package main.java.ui.admin;
 
-public class ExamStatsPanel {
+import main.java.model.Exam;
+import main.java.model.ExamStat;
+import main.java.model.QuestionStat;
+import main.java.model.User;
+import main.java.service.Services;
+import main.java.service.StatisticsService;
+import main.java.ui.common.BackgroundLoader;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 관리자용 시험 결과 통계 화면
+ * - 시험을 고르면 미리 계산해 둔 시험·문항 통계(exam_stats, question_stats)를 읽어 보여줍니다.
+ * - "통계 재계산"은 답안 전체를 다시 집계해 저장한 뒤 화면을 갱신합니다.
+ * - 제출 통계는 StatsAggregator가 주기적으로 증분 병합하므로, 화면이 보이는 동안 일정 간격으로 다시 읽습니다.
+ *   (cbt.stats.refreshSeconds, 기본 10)
+ * - 조회와 재계산은 BackgroundLoader로 EDT 밖에서 실행합니다.
+ * - 원격 모드(cbt.rpc.server)에서는 재계산·stale 확인을 증분 집계기가 있는 서버 프로세스에서 합니다.
+ */
+public class ExamStatsPanel extends JPanel {
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int REFRESH_SECONDS = Integer.getInteger("cbt.stats.refreshSeconds", 10);
+
+    private final User user;
+    private final StatisticsService statisticsService = Services.statistics();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private JComboBox<ExamItem> examCombo;
+    private JLabel summaryLabel;
+    private JLabel distributionLabel;
+    private DefaultTableModel model;
+
+    /** 콤보박스 항목 (시험 ID + 과목명 표시) */
+    private static final class ExamItem {
+        final Exam exam;
+
+        ExamItem(Exam exam) {
+            this.exam = exam;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + exam.getExamId() + "] " + exam.getSubject();
+        }
+    }
+
+    /** 백그라운드 조회 결과 묶음 */
+    private static final class Loaded {
+        final ExamStat examStat;
+        final List<QuestionStat> questionStats;
+        final boolean stale;
+
+        Loaded(ExamStat examStat, List<QuestionStat> questionStats, boolean stale) {
+            this.examStat = examStat;
+            this.questionStats = questionStats;
+            this.stale = stale;
+        }
+    }
+
+    public ExamStatsPanel(User user) {
+        this.user = user;
+        initComponents();
+        reloadExams();
+
+        // 화면이 보일 때만 주기적으로 다시 읽는다. (진행 중인 조회가 있으면 합쳐짐)
+        Timer refreshTimer = new Timer(REFRESH_SECONDS * 1000, e -> {
+            if (isShowing()) loadStats(false);
+        });
+        refreshTimer.start();
+    }
+
+    private void initComponents() {
+        setLayout(new BorderLayout());
+
+        // 상단: 제목 + 시험 선택 + 버튼
+        JPanel top = new JPanel(new BorderLayout());
+        JLabel header = new JLabel("시험 결과 통계");
+        header.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+        header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        top.add(header, BorderLayout.WEST);
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 8));
+        examCombo = new JComboBox<>();
+        examCombo.addActionListener(e -> loadStats(true));
+        JButton refreshBtn = new JButton("새로고침");
+        refreshBtn.addActionListener(e -> reloadExams());
+        JButton recomputeBtn = new JButton("통계 재계산");
+        recomputeBtn.addActionListener(e -> recompute());
+        controls.add(examCombo);
+        controls.add(refreshBtn);
+        controls.add(recomputeBtn);
+        top.add(controls, BorderLayout.EAST);
+
+        summaryLabel = new JLabel(" ");
+        summaryLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 8, 10));
+        distributionLabel = new JLabel(" ");
+        distributionLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+        distributionLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 8, 10));
+        JPanel summary = new JPanel(new GridLayout(2, 1));
+        summary.add(summaryLabel);
+        summary.add(distributionLabel);
+        top.add(summary, BorderLayout.SOUTH);
+        add(top, BorderLayout.NORTH);
+
+        // 문항별 통계 테이블
+        String[] columns = {"문제 ID", "유형", "세부 과목", "응시 수", "정답 수", "정답률(%)"};
+        model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setRowHeight(26);
+        table.setAutoCreateRowSorter(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(loader.getStatusBar(), BorderLayout.SOUTH);
+    }
+
+    /** 시험 목록을 다시 조회한다. */
+    private void reloadExams() {
+        loader.run("exams", "시험 목록을 불러오는 중...",
+                statisticsService::getExams,
+                exams -> {
+                    Integer selected = selectedExamId();
+                    examCombo.removeAllItems();
+                    for (Exam exam : exams) {
+                        ExamItem item = new ExamItem(exam);
+                        examCombo.addItem(item);
+                        if (selected != null && selected == exam.getExamId()) examCombo.setSelectedItem(item);
+                    }
+                },
+                this::showError);
+    }
+
+    /**
+     * 선택한 시험의 저장된 통계를 읽는다.
+     * @param examChanged 시험을 바꿨으면 true (이전 조회는 버린다)
+     */
+    private void loadStats(boolean examChanged) {
+        Integer examId = selectedExamId();
+        if (examId == null) {
+            showStats(new Loaded(null, List.of(), false));
+            return;
+        }
+        if (examChanged) loader.cancel("stats");
+        loader.run("stats", "통계를 불러오는 중...",
+                () -> load(examId),
+                this::showStats,
+                this::showError);
+    }
+
+    private Loaded load(int examId) throws Exception {
+        return new Loaded(statisticsService.getExamStat(examId), statisticsService.getQuestionStats(examId),
+                statisticsService.isStale(examId));
+    }
+
+    /** 선택한 시험의 통계를 다시 계산해 저장한다. */
+    private void recompute() {
+        Integer examId = selectedExamId();
+        if (examId == null) return;
+        loader.run("recompute", "답안을 집계하는 중...",
+                () -> {
+                    statisticsService.recompute(examId);
+                    return load(examId);
+                },
+                loaded -> {
+                    if (examId.equals(selectedExamId())) showStats(loaded);
+                },
+                this::showError);
+    }
+
+    private Integer selectedExamId() {
+        ExamItem item = (ExamItem) examCombo.getSelectedItem();
+        return item != null ? item.exam.getExamId() : null;
+    }
+
+    private void showStats(Loaded loaded) {
+        model.setRowCount(0);
+        ExamStat stat = loaded.examStat;
+        if (stat == null) {
+            summaryLabel.setText("저장된 통계가 없습니다. \"통계 재계산\"을 눌러 주세요.");
+            distributionLabel.setText(" ");
+            return;
+        }
+        summaryLabel.setText(String.format("응시자 %d명 · 문항 %d개 · 평균 %.1f점 · 최저 %d점 · 최고 %d점 (갱신: %s)%s",
+                stat.getParticipants(), stat.getQuestionCount(), stat.getAvgScore(),
+                stat.getMinScore(), stat.getMaxScore(),
+                stat.getComputedAt() != null ? stat.getComputedAt().format(FMT) : "-",
+                loaded.stale ? "  ※ 누락된 제출이 있어 재계산이 필요합니다" : ""));
+        StringBuilder dist = new StringBuilder("점수 분포: ");
+        int[] buckets = stat.getScoreDistribution();
+        for (int b = 0; b < buckets.length; b++) {
+            if (b > 0) dist.append(" | ");
+            dist.append(b * 10).append(b == buckets.length - 1 ? "~100" : "~" + (b * 10 + 9)).append(": ").append(buckets[b]);
+        }
+        distributionLabel.setText(dist.toString());
+        for (QuestionStat q : loaded.questionStats) {
+            model.addRow(new Object[]{
+                    q.getQuestionId(), q.getQuestionType(), q.getSubSubject(),
+                    q.getAttempts(), q.getCorrectCount(),
+                    String.format("%.1f", q.getCorrectRate() * 100)
+            });
+        }
+    }
+
+    private void showError(Exception e) {
+        JOptionPane.showMessageDialog(this, "통계 처리 중 오류가 발생했습니다:\n" + e.getMessage(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+    }
 }
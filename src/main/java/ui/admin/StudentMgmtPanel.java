@@ -1,4 +1,168 @@
 package main.java.ui.admin;
 
-public class StudentMgmtPanel {
+import main.java.model.StudentImportResult;
+import main.java.model.User;
+import main.java.service.StudentService;
+import main.java.service.StudentServiceImpl;
+import main.java.ui.common.BackgroundLoader;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 관리자용 학생 계정 관리 화면
+ * - 학생 목록을 PAGE_SIZE명씩 user_id 순으로 읽어 "더 보기"로 이어 붙입니다.
+ * - CSV 가져오기: 청크 단위로 저장하며 진행 상황을 표시하고, 중단된 파일은 이어서 가져올 수 있습니다.
+ * - CSV 내보내기: 전체 학생을 커서 단위로 읽어 바로 파일에 씁니다.
+ * - 조회·가져오기·내보내기는 BackgroundLoader로 EDT 밖에서 실행합니다.
+ */
+public class StudentMgmtPanel extends JPanel {
+    private static final int PAGE_SIZE = 200;
+
+    private final User user;
+    private final StudentService studentService = new StudentServiceImpl();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private DefaultTableModel model;
+    private JLabel statusLabel;
+    private JButton moreBtn;
+    private int lastUserId;
+
+    public StudentMgmtPanel(User user) {
+        this.user = user;
+        initComponents();
+        reload();
+    }
+
+    private void initComponents() {
+        setLayout(new BorderLayout());
+
+        JPanel top = new JPanel(new BorderLayout());
+        JLabel header = new JLabel("학생 계정 관리");
+        header.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+        header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        top.add(header, BorderLayout.WEST);
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 8));
+        JButton importBtn = new JButton("CSV 가져오기");
+        importBtn.addActionListener(e -> importCsv());
+        JButton exportBtn = new JButton("CSV 내보내기");
+        exportBtn.addActionListener(e -> exportCsv());
+        JButton refreshBtn = new JButton("새로고침");
+        refreshBtn.addActionListener(e -> reload());
+        controls.add(importBtn);
+        controls.add(exportBtn);
+        controls.add(refreshBtn);
+        top.add(controls, BorderLayout.EAST);
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 8, 10));
+        top.add(statusLabel, BorderLayout.SOUTH);
+        add(top, BorderLayout.NORTH);
+
+        String[] columns = {"ID", "학번", "이름", "학과", "학년", "구분", "활성"};
+        model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setRowHeight(24);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel bottom = new JPanel(new BorderLayout());
+        moreBtn = new JButton("더 보기");
+        moreBtn.addActionListener(e -> loadNextPage());
+        bottom.add(moreBtn, BorderLayout.NORTH);
+        bottom.add(loader.getStatusBar(), BorderLayout.SOUTH);
+        add(bottom, BorderLayout.SOUTH);
+    }
+
+    /** 목록을 처음부터 다시 읽는다. */
+    private void reload() {
+        loader.cancel("page");
+        model.setRowCount(0);
+        lastUserId = 0;
+        loadNextPage();
+    }
+
+    private void loadNextPage() {
+        int after = lastUserId;
+        loader.run("page", "학생 목록을 불러오는 중...",
+                () -> studentService.getStudentPage(after, PAGE_SIZE),
+                this::appendPage,
+                ex -> showError("학생 목록 조회 중 오류가 발생했습니다", ex));
+    }
+
+    private void appendPage(List<User> page) {
+        for (User u : page) {
+            model.addRow(new Object[]{
+                    u.getUserId(), u.getStudentNumber(), u.getName(), u.getDpmtId(), u.getGrade(),
+                    u.getLevel() == 0 ? "관리자" : "학생", u.isActive() ? "Y" : "N"
+            });
+            lastUserId = u.getUserId();
+        }
+        moreBtn.setEnabled(page.size() == PAGE_SIZE);
+        statusLabel.setText(model.getRowCount() + "명 표시 중");
+    }
+
+    private void importCsv() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV 파일", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path csv = chooser.getSelectedFile().toPath();
+
+        boolean resume = false;
+        if (studentService.hasImportCheckpoint(csv)) {
+            int c = JOptionPane.showConfirmDialog(this,
+                    "이전에 중단된 가져오기 기록이 있습니다.\n중단된 위치부터 이어서 가져올까요? (아니오: 처음부터)",
+                    "이어서 가져오기", JOptionPane.YES_NO_CANCEL_OPTION);
+            if (c == JOptionPane.CANCEL_OPTION || c == JOptionPane.CLOSED_OPTION) return;
+            resume = c == JOptionPane.YES_OPTION;
+        }
+        boolean fromCheckpoint = resume;
+        loader.run("import", "학생을 가져오는 중...",
+                () -> studentService.importStudents(csv, fromCheckpoint,
+                        progress -> {
+                            String text = "가져오는 중: " + progress;
+                            SwingUtilities.invokeLater(() -> statusLabel.setText(text));
+                        }),
+                result -> {
+                    statusLabel.setText("가져오기 완료: " + result);
+                    showImportResult(result);
+                    reload();
+                },
+                ex -> showError("가져오기 중 오류가 발생했습니다", ex));
+    }
+
+    private void showImportResult(StudentImportResult result) {
+        StringBuilder msg = new StringBuilder(result.toString());
+        if (result.getResumedFromLine() > 0) msg.append("\n(").append(result.getResumedFromLine()).append("행 이후부터 이어서 가져옴)");
+        if (!result.getErrors().isEmpty()) {
+            msg.append("\n\n오류 행 (최대 ").append(StudentImportResult.MAX_ERRORS).append("건):\n");
+            msg.append(String.join("\n", result.getErrors()));
+        }
+        JTextArea area = new JTextArea(msg.toString(), 15, 50);
+        area.setEditable(false);
+        JOptionPane.showMessageDialog(this, new JScrollPane(area), "가져오기 결과", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    private void exportCsv() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new java.io.File("students.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path out = chooser.getSelectedFile().toPath();
+        loader.run("export", "학생 목록을 내보내는 중...",
+                () -> studentService.exportStudents(out),
+                count -> statusLabel.setText(count + "명을 내보냈습니다: " + out),
+                ex -> showError("내보내기 중 오류가 발생했습니다", ex));
+    }
+
+    private void showError(String title, Exception e) {
+        JOptionPane.showMessageDialog(this, title + ":\n" + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+    }
 }
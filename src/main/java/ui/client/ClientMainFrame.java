@@ -1,26 +1,39 @@
 package main.java.ui.client;
 
-import main.java.model.User;
+import main.java.model.ExamResult;
+import main.java.model.UserProfile;
+import main.java.service.AuthenticationService;
+import main.java.service.AuthenticationServiceImpl;
+import main.java.service.ServiceException;
+import main.java.service.Services;
+import main.java.ui.common.BackgroundLoader;
 import main.java.ui.common.BaseFrame;
-import main.java.ui.client.NoticePanel;
-import main.java.ui.client.SurveyPanel;
-import main.java.ui.client.ExamListPanel;
-import main.java.ui.client.ResultListPanel;
-import javax.swing.SwingUtilities;
+import main.java.ui.login.LoginFrame;
+import javax.swing.*;
 import java.awt.*;
 
 /**
  * 클라이언트(학생) 메인 프레임
  * - BaseFrame 상속
  * - 공지, 설문, 시험 응시, 결과 조회 화면을 CardLayout으로 전환
+ * - 로그인 세션 토큰을 들고 있으며, 사용자 정보는 세션의 불변 프로필에서 가져온다. (DB 재조회 없음)
+ * - 시험 응시 화면은 콘텐츠를 잠시 바꿔 끼우고, 제출 후에는 프레임을 새로 만들지 않고
+ *   시험 목록·결과 패널만 제출 결과로 갱신한다.
  */
 public class ClientMainFrame extends BaseFrame {
     private static final String[] MENU_LABELS = { "공지 사항", "설문 조사", "시험 응시", "시험 결과" };
     private static final String[] MENU_KEYS   = { "Notice",   "Survey",   "Exam",     "Result" };
 
+    private final AuthenticationService authService = Services.auth();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private final String sessionToken;
+    private ExamListPanel examListPanel;
+    private ResultListPanel resultListPanel;
+    private Container mainContent;
 
-    public ClientMainFrame(User user) {
-        super(user, "학생", MENU_LABELS, MENU_KEYS);
+    public ClientMainFrame(String sessionToken, UserProfile profile) {
+        super(profile.toUser(), "학생", MENU_LABELS, MENU_KEYS);
+        this.sessionToken = sessionToken;
         initScreens();
     }
 
@@ -30,15 +43,69 @@ public class ClientMainFrame extends BaseFrame {
     private void initScreens() {
 //        addScreen("Notice", new NoticePanel(user));
 //        addScreen("Survey", new SurveyPanel(user));
-        addScreen("Exam", new ExamListPanel(user));
-        addScreen("Result", new ResultListPanel(user));
+        examListPanel = new ExamListPanel(user);
+        resultListPanel = new ResultListPanel(user);
+        addScreen("Exam", examListPanel);
+        addScreen("Result", resultListPanel);
+    }
+
+    /** 응시 화면으로 전환한다. (메뉴·목록 화면은 그대로 보관) */
+    public void enterExam(ExamTakingPanel takingPanel) {
+        if (mainContent == null) mainContent = getContentPane();
+        setContentPane(takingPanel);
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * 제출이 끝난 뒤 목록 화면으로 돌아온다.
+     * 세션이 만료되었으면 로그인 화면으로, 아니면 제출 결과만 목록·결과 패널에 반영한다.
+     */
+    public void examSubmitted(ExamResult result) {
+        // 세션 확인은 원격 모드에서 네트워크 호출이므로 EDT 밖에서 한다.
+        loader.run("session", "세션을 확인하는 중...",
+                () -> authService.getProfile(sessionToken),
+                profile -> showSubmitted(result),
+                ex -> {
+                    if (!(ex instanceof ServiceException) || ex.getCause() != null) {
+                        // 통신 오류는 세션 만료로 보지 않고 결과만 반영한다.
+                        showSubmitted(result);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(this, ex.getMessage(), "세션 만료", JOptionPane.WARNING_MESSAGE);
+                    dispose();
+                    new LoginFrame().setVisible(true);
+                });
+    }
+
+    private void showSubmitted(ExamResult result) {
+        if (mainContent != null) {
+            setContentPane(mainContent);
+            mainContent = null;
+        }
+        examListPanel.markSubmitted(result.getExamId());
+        resultListPanel.recordResult(result);
+        cardLayout.show(contentPanel, "Exam");
+        revalidate();
+        repaint();
+    }
+
+    @Override
+    public void dispose() {
+        // 로그아웃 통지는 기다리지 않는다. (실패해도 세션은 유휴 시간이 지나면 만료된다)
+        loader.run("logout", "로그아웃 중...", () -> {
+            authService.closeSession(sessionToken);
+            return null;
+        }, ignored -> { }, ex -> { });
+        super.dispose();
     }
 
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             // 테스트용 더미 사용자
-            User dummy = new User(1, 1, "홍길동", "2023001", 101, 3, true);
-            new ClientMainFrame(dummy).setVisible(true);
+            UserProfile dummy = new UserProfile(1, 1, "홍길동", "2023001", 101, 3);
+            AuthenticationService auth = new AuthenticationServiceImpl();
+            new ClientMainFrame(auth.openSession(dummy.toUser()), dummy).setVisible(true);
         });
     }
 }
@@ -3,8 +3,8 @@ package main.java.ui.client;
 import main.java.model.Exam;
 import main.java.model.User;
 import main.java.service.ExamService;
-import main.java.service.ExamServiceImpl;
-import main.java.service.ServiceException;
+import main.java.service.Services;
+import main.java.ui.common.BackgroundLoader;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -16,48 +16,87 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 클라이언트용 시험 목록 패널
  * - 응시 가능한 시험을 테이블로 보여주고, 각 행의 "응시" 버튼으로 시험 응시를 시작합니다.
+ * - 목록 조회와 응시 가능 여부 확인은 BackgroundLoader로 EDT 밖에서 실행합니다.
+ * - 이 화면에서 제출한 시험은 markSubmitted()로 표시만 바꾸며, 다시 누르면 DB 확인 없이 안내합니다.
  */
 public class ExamListPanel extends JPanel {
+    private static final String SUBMITTED_LABEL = "응시 완료";
+
     private final User user;
-    private final ExamService examService = new ExamServiceImpl();
+    private final ExamService examService = Services.exam();
+    private final BackgroundLoader loader = new BackgroundLoader();
     private JTable table;
-    private List<Exam> examList;
+    private DefaultTableModel model;
+    private List<Exam> examList = new ArrayList<>();
+    /** 이 세션에서 제출을 마친 시험 ID */
+    private final Set<Integer> submittedExamIds = new HashSet<>();
 
     public ExamListPanel(User user) {
         this.user = user;
         initComponents();
+        reload();
     }
 
     private void initComponents() {
         setLayout(new BorderLayout());
 
-        // 헤더
+        // 헤더 + 새로고침
+        JPanel top = new JPanel(new BorderLayout());
         JLabel header = new JLabel("응시 가능한 시험 목록");
         header.setFont(new Font("맑은 고딕", Font.BOLD, 16));
         header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        add(header, BorderLayout.NORTH);
-
-        // 데이터 로드
-        try {
-            examList = examService.getAssignedOpenExams(user.getUserId());
-        } catch (ServiceException e) {
-            throw new RuntimeException(e);
-        }
-
-        // 테이블 모델 생성
+        top.add(header, BorderLayout.WEST);
+        JButton refreshBtn = new JButton("새로고침");
+        refreshBtn.addActionListener(e -> reload());
+        JPanel refreshWrap = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 8));
+        refreshWrap.add(refreshBtn);
+        top.add(refreshWrap, BorderLayout.EAST);
+        add(top, BorderLayout.NORTH);
+
+        // 테이블 모델 생성 (데이터는 reload()에서 비동기로 채움)
         String[] columns = {"시험 ID", "과목명", "시작일", "종료일", "제한 시간(분)", "응시"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+        model = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
                 return column == 5;
             }
         };
 
+        // 테이블 생성
+        table = new JTable(model);
+        table.setRowHeight(30);
+
+        // 버튼 컬럼 렌더러/에디터 설정
+        TableColumn btnColumn = table.getColumn("응시");
+        btnColumn.setCellRenderer(new ButtonRenderer());
+        btnColumn.setCellEditor(new ButtonEditor(new JCheckBox()));
+
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(loader.getStatusBar(), BorderLayout.SOUTH);
+    }
+
+    /** 응시 가능한 시험 목록을 다시 조회한다. (조회 중이면 무시) */
+    public void reload() {
+        loader.run("exams", "시험 목록을 불러오는 중...",
+                () -> examService.getAssignedOpenExams(user.getUserId()),
+                this::showExams,
+                ex -> JOptionPane.showMessageDialog(this,
+                        "시험 목록 조회 중 오류가 발생했습니다:\n" + ex.getMessage(),
+                        "오류", JOptionPane.ERROR_MESSAGE));
+    }
+
+    private void showExams(List<Exam> exams) {
+        if (table.isEditing()) table.getCellEditor().cancelCellEditing();
+        examList = exams;
+        model.setRowCount(0);
         DateTimeFormatter df = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         for (Exam exam : examList) {
             model.addRow(new Object[]{
@@ -66,20 +105,54 @@ public class ExamListPanel extends JPanel {
                     exam.getStartDate().format(df),
                     exam.getEndDate().format(df),
                     exam.getDurationMinutes(),
-                    get응시()
+                    submittedExamIds.contains(exam.getExamId()) ? SUBMITTED_LABEL : get응시()
             });
         }
+    }
 
-        // 테이블 생성
-        table = new JTable(model);
-        table.setRowHeight(30);
-
-        // 버튼 컬럼 렌더러/에디터 설정
-        TableColumn btnColumn = table.getColumn("응시");
-        btnColumn.setCellRenderer(new ButtonRenderer());
-        btnColumn.setCellEditor(new ButtonEditor(new JCheckBox()));
+    /** 제출을 마친 시험의 행만 갱신한다. (목록을 다시 조회하지 않음) */
+    public void markSubmitted(int examId) {
+        submittedExamIds.add(examId);
+        for (int row = 0; row < examList.size(); row++) {
+            if (examList.get(row).getExamId() == examId) model.setValueAt(SUBMITTED_LABEL, row, 5);
+        }
+    }
 
-        add(new JScrollPane(table), BorderLayout.CENTER);
+    /** 재응시 여부를 백그라운드에서 확인한 뒤 응시 화면으로 전환한다. */
+    private void startExam(Exam exam, Component source) {
+        if (submittedExamIds.contains(exam.getExamId())) {
+            JOptionPane.showMessageDialog(source,
+                    "이미 응시한 시험입니다. 재응시할 수 없습니다.",
+                    "알림", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        loader.run("start", "응시 정보를 확인하는 중...",
+                () -> examService.hasUserTakenExam(user.getUserId(), exam.getExamId()),
+                taken -> {
+                    // "이미 응시했는지" 검사
+                    if (taken) {
+                        JOptionPane.showMessageDialog(source,
+                                "이미 응시한 시험입니다. 재응시할 수 없습니다.",
+                                "알림", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    // 아래는 응시 가능한 경우에만 실행됨! (문항은 응시 패널이 비동기로 로딩)
+                    LocalDateTime endTime = LocalDateTime.now().plusMinutes(exam.getDurationMinutes());
+                    ExamTakingPanel takingPanel =
+                            new ExamTakingPanel(user, exam.getExamId(), exam.getSubject(), endTime);
+
+                    JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(this);
+                    if (frame instanceof ClientMainFrame) {
+                        ((ClientMainFrame) frame).enterExam(takingPanel);
+                    } else {
+                        frame.setContentPane(takingPanel);
+                        frame.revalidate();
+                        frame.repaint();
+                    }
+                },
+                ex -> JOptionPane.showMessageDialog(source,
+                        "시험 데이터 로딩 중 오류가 발생했습니다:\n" + ex.getMessage(),
+                        "오류", JOptionPane.ERROR_MESSAGE));
     }
 
     private static String get응시() {
@@ -131,33 +204,8 @@ public class ExamListPanel extends JPanel {
         @Override
         public Object getCellEditorValue() {
             try {
-                if (isPushed) {
-                    Exam exam = examList.get(selectedRow);
-                    try {
-                        // "이미 응시했는지" 검사
-                        if (examService.hasUserTakenExam(user.getUserId(), exam.getExamId())) {
-                            JOptionPane.showMessageDialog(button,
-                                    "이미 응시한 시험입니다. 재응시할 수 없습니다.",
-                                    "알림", JOptionPane.INFORMATION_MESSAGE);
-                            return label; // 바로 리턴!
-                        }
-
-                        // 아래는 응시 가능한 경우에만 실행됨!
-                        String subject = exam.getSubject();
-                        int examId = exam.getExamId();
-                        LocalDateTime endTime = LocalDateTime.now().plusMinutes(exam.getDurationMinutes());
-                        ExamTakingPanel takingPanel = new ExamTakingPanel(user, examId, subject, endTime);
-
-                        JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(button);
-                        frame.setContentPane(takingPanel);
-                        frame.revalidate();
-                        frame.repaint();
-
-                    } catch (ServiceException ex) {
-                        JOptionPane.showMessageDialog(button,
-                                "시험 데이터 로딩 중 오류가 발생했습니다:\n" + ex.getMessage(),
-                                "오류", JOptionPane.ERROR_MESSAGE);
-                    }
+                if (isPushed && selectedRow < examList.size()) {
+                    startExam(examList.get(selectedRow), button);
                 }
             } finally {
                 isPushed = false; // 반드시 finally에서 false 처리
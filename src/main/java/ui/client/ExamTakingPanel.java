@@ -1,13 +1,16 @@
 package main.java.ui.client;
 
+import main.java.model.ExamResult;
 import main.java.model.QuestionFull;
 import main.java.model.QuestionOption;
 import main.java.model.User;
+import main.java.service.AnswerAutosave;
+import main.java.service.ExamProgressService;
 import main.java.service.ExamService;
-import main.java.service.ExamServiceImpl;
 import main.java.service.QuestionService;
-import main.java.service.QuestionServiceImpl;
-import main.java.service.ServiceException;
+import main.java.service.Services;
+import main.java.service.SubmissionService;
+import main.java.ui.common.BackgroundLoader;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,6 +18,10 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.Timer;
 
 /**
@@ -23,33 +30,67 @@ import javax.swing.Timer;
  * - 좌측: 문제 본문 + 선택지
  * - 우측: 문제 번호 네비게이션 + [<<], [>>]
  * - 하단: 최종 제출 버튼
+ * - 문항 로딩과 제출은 BackgroundLoader로 EDT 밖에서 실행한다. (제출 연타·시간 종료 중복 제출 방지)
+ * - 답을 고를 때마다 AnswerAutosave에 기록하여 주기적으로 저장하고, 다시 열면 저장된 답안을 복원한다.
+ * - 응시 시작과 하트비트(답한 문항 수)를 ExamProgressService에 알려 관리자 진행 현황에 보이게 한다.
+ *   (원격 서버 모드에서는 네트워크 호출이므로 전용 스레드에서 보내고, 앞선 알림이 끝나지 않았으면 하트비트를 건너뛴다)
  */
 public class ExamTakingPanel extends JPanel {
+    /** 문항 요청 전 무작위 대기 상한(ms). 여러 PC가 같은 DB에 직접 붙을 때 시작 시각 요청을 분산한다. */
+    private static final int START_JITTER_MS = Integer.getInteger("cbt.exam.startJitterMs", 0);
+    /** 진행 현황 하트비트 주기(초) */
+    private static final int HEARTBEAT_SECONDS = Integer.getInteger("cbt.session.heartbeatSeconds", 15);
+    /** 진행 현황 알림 전송 스레드 (순서 보장: 응시 시작 → 하트비트) */
+    private static final ExecutorService PROGRESS_SENDER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "exam-progress");
+        t.setDaemon(true);
+        return t;
+    });
+
     private final User user;
     private final int examId;
     private final String subject;
     private final LocalDateTime endTime;
-    private final QuestionService questionService = new QuestionServiceImpl();
-    private final ExamService examService = new ExamServiceImpl();
+    private final QuestionService questionService = Services.question();
+    private final ExamService examService = Services.exam();
+    private final SubmissionService submissionService = Services.submission();
+    private final ExamProgressService progressService = Services.progress();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private final AnswerAutosave autosave;
 
     private CardLayout cardLayout;
     private JPanel questionsContainer;
-    private List<QuestionFull> questions;
+    private JPanel btnGrid;
+    private List<QuestionFull> questions = Collections.emptyList();
 
     private JLabel subjectLabel;
     private JLabel timerLabel;
     private Timer countdownTimer;
+    private int heartbeatTicks;
+    private final AtomicBoolean progressPending = new AtomicBoolean();
 
     // <문제ID, 선택한 답>
     private final Map<Integer, String> selectedAnswers = new HashMap<>();
     // <문제ID, ButtonGroup> (답 선택 UI와 동기화)
     private final Map<Integer, ButtonGroup> questionGroups = new HashMap<>();
 
-    public ExamTakingPanel(User user, int examId, String subject, LocalDateTime examEndTime) throws ServiceException {
+    /** 백그라운드 조회 결과 묶음 (문항 + 이전에 저장된 답안) */
+    private static final class LoadedExam {
+        final List<QuestionFull> questions;
+        final Map<Integer, String> savedAnswers;
+
+        LoadedExam(List<QuestionFull> questions, Map<Integer, String> savedAnswers) {
+            this.questions = questions;
+            this.savedAnswers = savedAnswers;
+        }
+    }
+
+    public ExamTakingPanel(User user, int examId, String subject, LocalDateTime examEndTime) {
         this.user = user;
         this.examId = examId;
         this.subject = subject;
         this.endTime = examEndTime;
+        this.autosave = new AnswerAutosave(user.getUserId(), examId, submissionService);
         initComponents();
         loadQuestions();
         startTimer();
@@ -66,6 +107,7 @@ public class ExamTakingPanel extends JPanel {
         timerLabel = new JLabel();
         timerLabel.setFont(new Font("맑은 고딕", Font.BOLD, 16));
         topPanel.add(timerLabel, BorderLayout.EAST);
+        topPanel.add(loader.getStatusBar(), BorderLayout.SOUTH);
         add(topPanel, BorderLayout.NORTH);
 
         // 중앙: CardLayout 문제 페이지
@@ -75,7 +117,7 @@ public class ExamTakingPanel extends JPanel {
 
         // 우측: 문제 번호 네비 + <<, >> 버튼
         JPanel navPanel = new JPanel(new BorderLayout(5, 5));
-        JPanel btnGrid = new JPanel(new GridLayout(5, 2, 5, 5));
+        btnGrid = new JPanel(new GridLayout(5, 2, 5, 5));
         navPanel.add(new JScrollPane(btnGrid), BorderLayout.CENTER);
 
         JPanel arrowPanel = new JPanel(new GridLayout(1, 2, 5, 5));
@@ -98,15 +140,37 @@ public class ExamTakingPanel extends JPanel {
         add(finalSubmitBtn, BorderLayout.SOUTH);
     }
 
-    private void loadQuestions() throws ServiceException {
-        questions = questionService.getQuestionsByExam(examId);
-        if (questions == null || questions.isEmpty()) {
-            add(new JLabel("출제된 문제가 없습니다."), BorderLayout.CENTER);
+    /** 문항과 저장된 답안을 백그라운드에서 불러온 뒤 EDT에서 문제 페이지를 구성한다. */
+    private void loadQuestions() {
+        loader.run("questions", "문항을 불러오는 중...",
+                () -> {
+                    if (START_JITTER_MS > 0) Thread.sleep(ThreadLocalRandom.current().nextInt(START_JITTER_MS));
+                    return new LoadedExam(questionService.getQuestionsByExam(examId),
+                            submissionService.getSavedAnswers(user.getUserId(), examId));
+                },
+                this::showQuestions,
+                ex -> {
+                    questionsContainer.add(new JLabel("문항을 불러오지 못했습니다: " + ex.getMessage()), "error");
+                    cardLayout.show(questionsContainer, "error");
+                    JOptionPane.showMessageDialog(this,
+                            "시험 데이터 로딩 중 오류가 발생했습니다:\n" + ex.getMessage(),
+                            "오류", JOptionPane.ERROR_MESSAGE);
+                });
+    }
+
+    private void showQuestions(LoadedExam loaded) {
+        if (loaded.questions == null || loaded.questions.isEmpty()) {
+            questionsContainer.add(new JLabel("출제된 문제가 없습니다."), "empty");
+            cardLayout.show(questionsContainer, "empty");
             return;
         }
-
-        JScrollPane sp = (JScrollPane) ((JPanel) getComponent(2)).getComponent(0);
-        JPanel btnGrid = (JPanel) sp.getViewport().getView();
+        questions = loaded.questions;
+        // 응시 재개: 이전에 저장된 답안 복원 (createQuestionPage에서 선택 상태로 반영)
+        selectedAnswers.putAll(loaded.savedAnswers);
+        autosave.start();
+        int questionCount = questions.size();
+        int answeredCount = selectedAnswers.size();
+        sendProgress(() -> progressService.startSession(user, examId, questionCount, answeredCount), true);
 
         for (int i = 0; i < questions.size(); i++) {
             QuestionFull qf = questions.get(i);
@@ -142,6 +206,7 @@ public class ExamTakingPanel extends JPanel {
                 String label = String.valueOf(opt.getOptionLabel());
                 JRadioButton rb = new JRadioButton(label + ". " + opt.getContent());
                 rb.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+                rb.addActionListener(e -> onAnswerSelected(qf.getQuestionId(), label));
                 group.add(rb);
                 optionsPanel.add(rb);
             }
@@ -150,6 +215,8 @@ public class ExamTakingPanel extends JPanel {
             JRadioButton rbX = new JRadioButton("X");
             rbO.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
             rbX.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+            rbO.addActionListener(e -> onAnswerSelected(qf.getQuestionId(), "O"));
+            rbX.addActionListener(e -> onAnswerSelected(qf.getQuestionId(), "X"));
             group.add(rbO);
             group.add(rbX);
             optionsPanel.add(rbO);
@@ -173,7 +240,18 @@ public class ExamTakingPanel extends JPanel {
         return panel;
     }
 
+    /** 답 선택 시 메모리에 반영하고 자동 저장 대기열에 올린다. */
+    private void onAnswerSelected(int questionId, String answer) {
+        selectedAnswers.put(questionId, answer);
+        autosave.record(questionId, answer);
+    }
+
     private void handleFinalSubmit() {
+        if (loader.isRunning("submit")) return; // 이미 제출 중
+        if (loader.isRunning("questions")) {
+            JOptionPane.showMessageDialog(this, "문항을 불러오는 중입니다. 잠시 후 다시 시도해주세요.", "알림", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
         // 1. 마지막으로 선택 상태 동기화
         for (Map.Entry<Integer, ButtonGroup> entry : questionGroups.entrySet()) {
             Integer qid = entry.getKey();
@@ -196,26 +274,39 @@ public class ExamTakingPanel extends JPanel {
             if (c != JOptionPane.YES_OPTION) return;
         }
 
-        // 3. 실제 제출, 점수 저장, 안내
-        try {
-            examService.submitAllAnswers(user.getUserId(), examId, selectedAnswers);
-            int score = calculateScore();
-            examService.saveExamResult(user.getUserId(), examId, score);
-            JOptionPane.showMessageDialog(this, "시험이 완료되었습니다. 점수: " + score, "완료", JOptionPane.INFORMATION_MESSAGE);
-            countdownTimer.stop();
-            disableExamUI(); // 입력 비활성화(옵션)
-            SwingUtilities.invokeLater(() -> {
-                JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(this);
-                if (frame instanceof ClientMainFrame) {
-                    // 현재 프레임 종료
-                    frame.dispose();
-                    // 새 MainFrame을 새로 생성해서 항상 최신 화면으로 복귀
-                    new ClientMainFrame(user).setVisible(true);
-                }
-            });
-        } catch (ServiceException ex) {
-            JOptionPane.showMessageDialog(this, "제출 중 오류가 발생했습니다:\n" + ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
-        }
+        // 3. 실제 제출, 점수 저장, 안내 (채점·저장은 백그라운드, 진행 중이면 중복 제출 무시)
+        Map<Integer, String> answers = new HashMap<>(selectedAnswers);
+        // 제출은 커밋된 뒤에 끊기면 결과를 알 수 없으므로 취소 버튼으로 중단하지 않는다.
+        loader.runUncancellable("submit", "답안을 제출하는 중...",
+                () -> {
+                    // 자동 저장이 최종 제출과 겹치지 않도록 멈춘다. (제출이 모든 답안을 저장)
+                    autosave.stop();
+                    // 채점은 서버가 한다. (클라이언트는 정답키를 받지 않는다)
+                    int score = examService.submitExam(user.getUserId(), examId, answers);
+                    autosave.discard();
+                    return score;
+                },
+                score -> {
+                    countdownTimer.stop();
+                    JOptionPane.showMessageDialog(this, "시험이 완료되었습니다. 점수: " + score, "완료", JOptionPane.INFORMATION_MESSAGE);
+                    disableExamUI(); // 입력 비활성화(옵션)
+                    SwingUtilities.invokeLater(() -> {
+                        JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(this);
+                        if (frame instanceof ClientMainFrame) {
+                            // 프레임을 새로 만들지 않고 제출 결과만 목록·결과 화면에 반영
+                            ExamResult result = new ExamResult();
+                            result.setUserId(user.getUserId());
+                            result.setExamId(examId);
+                            result.setScore(score);
+                            result.setCompletedAt(LocalDateTime.now());
+                            ((ClientMainFrame) frame).examSubmitted(result);
+                        }
+                    });
+                },
+                ex -> {
+                    autosave.start();
+                    JOptionPane.showMessageDialog(this, "제출 중 오류가 발생했습니다:\n" + ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                });
     }
 
     private void disableExamUI() {
@@ -223,16 +314,21 @@ public class ExamTakingPanel extends JPanel {
         // 또는 문제별 panel/버튼/입력 필드에 setEnabled(false) 호출
     }
 
-    private int calculateScore() throws ServiceException {
-        int score = 0;
-        for (QuestionFull qf : questions) {
-            String correct = questionService.getCorrectAnswer(qf.getQuestionId());
-            String answer = selectedAnswers.get(qf.getQuestionId());
-            if (correct != null && correct.equals(answer)) {
-                score += (100 / questions.size());
+    /**
+     * 진행 현황 알림을 EDT 밖에서 보낸다. 실패는 로그만 남긴다. (다음 하트비트가 다시 알린다)
+     * @param always false면 앞선 알림이 아직 전송 중일 때 건너뛴다.
+     */
+    private void sendProgress(Runnable call, boolean always) {
+        if (!progressPending.compareAndSet(false, true) && !always) return;
+        PROGRESS_SENDER.execute(() -> {
+            try {
+                call.run();
+            } catch (RuntimeException e) {
+                System.err.println("[ExamTakingPanel] 진행 현황 알림 실패: " + e.getMessage());
+            } finally {
+                progressPending.set(false);
             }
-        }
-        return score;
+        });
     }
 
     private void startTimer() {
@@ -243,6 +339,11 @@ public class ExamTakingPanel extends JPanel {
                 countdownTimer.stop();
                 handleFinalSubmit();
             } else {
+                if (++heartbeatTicks >= HEARTBEAT_SECONDS && !questions.isEmpty() && !loader.isRunning("submit")) {
+                    heartbeatTicks = 0;
+                    int answeredCount = selectedAnswers.size();
+                    sendProgress(() -> progressService.heartbeat(user.getUserId(), examId, answeredCount), false);
+                }
                 long mins = remaining.toMinutes();
                 long secs = remaining.minusMinutes(mins).getSeconds();
                 timerLabel.setText(String.format("남은 시간: %02d:%02d", mins, secs));
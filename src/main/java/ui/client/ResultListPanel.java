@@ -1,12 +1,12 @@
 package main.java.ui.client;
 
-import main.java.dao.DaoException;
 import main.java.model.User;
 import main.java.model.Exam;
 import main.java.model.ExamResult;
 import main.java.service.ExamService;
-import main.java.service.ExamServiceImpl;
-import main.java.service.ServiceException;
+import main.java.service.ResultService;
+import main.java.service.Services;
+import main.java.ui.common.BackgroundLoader;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -15,13 +15,34 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
 
+/**
+ * 클라이언트용 시험 결과 패널
+ * - 배정 시험과 응시 결과를 백그라운드에서 조회한 뒤 연도별 탭으로 보여줍니다.
+ * - 방금 제출한 결과는 recordResult()로 마지막 조회 결과에 합쳐 다시 그립니다. (재조회 없음)
+ */
 public class ResultListPanel extends JPanel {
     private final User user;
-    private final ExamService examService = new ExamServiceImpl();
+    private final ExamService examService = Services.exam();
+    private final ResultService resultService = Services.result();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private JTabbedPane tabbedPane;
+    private Loaded last;
+
+    /** 백그라운드 조회 결과 묶음 */
+    private static final class Loaded {
+        final List<Exam> exams;
+        final Map<Integer, ExamResult> results;
+
+        Loaded(List<Exam> exams, Map<Integer, ExamResult> results) {
+            this.exams = exams;
+            this.results = results;
+        }
+    }
 
     public ResultListPanel(User user) {
         this.user = user;
         initComponents();
+        reload();
     }
 
     private void initComponents() {
@@ -33,79 +54,97 @@ public class ResultListPanel extends JPanel {
         header.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         add(header, BorderLayout.NORTH);
 
-        // 연도별 탭 생성
-        JTabbedPane tabbedPane = new JTabbedPane();
-
-        try {
-            // 1. 나에게 배정된 모든 시험 조회 (과거·현재·미래)
-            List<Exam> allExams = examService.getAssignedExams(user.getUserId());
+        // 연도별 탭 (데이터는 reload()에서 비동기로 채움)
+        tabbedPane = new JTabbedPane();
+        add(tabbedPane, BorderLayout.CENTER);
+        add(loader.getStatusBar(), BorderLayout.SOUTH);
+    }
 
-            // 2. 사용자의 시험 결과 전체 조회 (Map<examId, ExamResult>)
-            Map<Integer, ExamResult> resultMap = examService.getExamResultsByUser(user.getUserId());
+    /** 시험 결과를 다시 조회한다. (조회 중이면 무시) */
+    public void reload() {
+        loader.run("results", "시험 결과를 불러오는 중...",
+                () -> new Loaded(
+                        // 1. 나에게 배정된 모든 시험 조회 (과거·현재·미래)
+                        examService.getAssignedExams(user.getUserId()),
+                        // 2. 사용자의 시험 결과 전체 조회 (Map<examId, ExamResult>)
+                        new HashMap<>(resultService.getResultsByUser(user.getUserId()))),
+                this::showResults,
+                this::showError);
+    }
 
-            // 3. 연도별로 시험 분류
-            Map<Integer, List<Exam>> yearExamMap = new TreeMap<>(Comparator.reverseOrder());
-            for (Exam exam : allExams) {
-                int year = exam.getStartDate().getYear();
-                yearExamMap.computeIfAbsent(year, k -> new ArrayList<>()).add(exam);
-            }
+    /** 제출 결과 한 건을 화면에 반영한다. 아직 조회 전이면 그때 함께 읽힌다. */
+    public void recordResult(ExamResult result) {
+        if (last == null) return;
+        last.results.put(result.getExamId(), result);
+        showResults(last);
+    }
 
-            // 4. 연도별 탭 패널 추가
-            for (Map.Entry<Integer,List<Exam>> entry : yearExamMap.entrySet()) {
-                int year = entry.getKey();
-                List<Exam> examsOfYear = entry.getValue();
-
-                JPanel yearPanel = new JPanel(new BorderLayout());
-                String[] columns = {"과목명", "점수", "응시일자"};
-                DefaultTableModel model = new DefaultTableModel(columns, 0) {
-                    @Override public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
-
-                for (Exam exam : examsOfYear) {
-                    ExamResult result = resultMap.get(exam.getExamId());
-                    if (result != null) {
-                        String scoreStr = result.getScore() + " / 100";
-                        String dateStr = result.getCompletedAt() != null
-                                ? "응시 날짜 : " + result.getCompletedAt()
-                                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                                : "응시 날짜 : -";
-                        model.addRow(new Object[]{ exam.getSubject(), scoreStr, dateStr });
-                    } else {
-                        model.addRow(new Object[]{ exam.getSubject(), "미응시", "미응시" });
-                    }
-                }
+    private void showResults(Loaded loaded) {
+        last = loaded;
+        tabbedPane.removeAll();
+        List<Exam> allExams = loaded.exams;
+        Map<Integer, ExamResult> resultMap = loaded.results;
+
+        // 3. 연도별로 시험 분류
+        Map<Integer, List<Exam>> yearExamMap = new TreeMap<>(Comparator.reverseOrder());
+        for (Exam exam : allExams) {
+            int year = exam.getStartDate().getYear();
+            yearExamMap.computeIfAbsent(year, k -> new ArrayList<>()).add(exam);
+        }
 
-                JTable table = new JTable(model);
-                table.setRowHeight(28);
-                table.setFont(new Font("맑은 고딕", Font.PLAIN, 15));
-                table.getTableHeader().setFont(new Font("맑은 고딕", Font.BOLD, 14));
-                yearPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+        // 4. 연도별 탭 패널 추가
+        for (Map.Entry<Integer,List<Exam>> entry : yearExamMap.entrySet()) {
+            int year = entry.getKey();
+            List<Exam> examsOfYear = entry.getValue();
 
-                tabbedPane.addTab(String.valueOf(year), yearPanel);
+            JPanel yearPanel = new JPanel(new BorderLayout());
+            String[] columns = {"과목명", "점수", "응시일자"};
+            DefaultTableModel model = new DefaultTableModel(columns, 0) {
+                @Override public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
+
+            for (Exam exam : examsOfYear) {
+                ExamResult result = resultMap.get(exam.getExamId());
+                if (result != null) {
+                    String scoreStr = result.getScore() + " / 100";
+                    String dateStr = result.getCompletedAt() != null
+                            ? "응시 날짜 : " + result.getCompletedAt()
+                            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
+                            : "응시 날짜 : -";
+                    model.addRow(new Object[]{ exam.getSubject(), scoreStr, dateStr });
+                } else {
+                    model.addRow(new Object[]{ exam.getSubject(), "미응시", "미응시" });
+                }
             }
 
-            // 배정된 시험이 하나도 없으면
-            if (tabbedPane.getTabCount() == 0) {
-                JPanel empty = new JPanel(new BorderLayout());
-                JLabel msg = new JLabel("배정된 시험이 없습니다.", SwingConstants.CENTER);
-                msg.setFont(new Font("맑은 고딕", Font.BOLD, 16));
-                empty.add(msg, BorderLayout.CENTER);
-                tabbedPane.addTab("결과 없음", empty);
-            }
+            JTable table = new JTable(model);
+            table.setRowHeight(28);
+            table.setFont(new Font("맑은 고딕", Font.PLAIN, 15));
+            table.getTableHeader().setFont(new Font("맑은 고딕", Font.BOLD, 14));
+            yearPanel.add(new JScrollPane(table), BorderLayout.CENTER);
 
-        } catch (ServiceException e) {
-            JPanel error = new JPanel(new BorderLayout());
-            JLabel msg = new JLabel("<html>시험 결과 조회 중 오류가 발생했습니다:<br>"
-                    + e.getMessage() + "</html>", SwingConstants.CENTER);
+            tabbedPane.addTab(String.valueOf(year), yearPanel);
+        }
+
+        // 배정된 시험이 하나도 없으면
+        if (tabbedPane.getTabCount() == 0) {
+            JPanel empty = new JPanel(new BorderLayout());
+            JLabel msg = new JLabel("배정된 시험이 없습니다.", SwingConstants.CENTER);
             msg.setFont(new Font("맑은 고딕", Font.BOLD, 16));
-            error.add(msg, BorderLayout.CENTER);
-            tabbedPane.addTab("오류", error);
-        } catch (DaoException e) {
-            throw new RuntimeException(e);
+            empty.add(msg, BorderLayout.CENTER);
+            tabbedPane.addTab("결과 없음", empty);
         }
+    }
 
-        add(tabbedPane, BorderLayout.CENTER);
+    private void showError(Exception e) {
+        tabbedPane.removeAll();
+        JPanel error = new JPanel(new BorderLayout());
+        JLabel msg = new JLabel("<html>시험 결과 조회 중 오류가 발생했습니다:<br>"
+                + e.getMessage() + "</html>", SwingConstants.CENTER);
+        msg.setFont(new Font("맑은 고딕", Font.BOLD, 16));
+        error.add(msg, BorderLayout.CENTER);
+        tabbedPane.addTab("오류", error);
     }
 }
@@ -0,0 +1,198 @@
+package main.java.ui.common;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 패널 단위 백그라운드 작업 실행기
+ * - 서비스/DB 호출을 EDT 밖에서 실행하고, 결과 처리 콜백은 EDT에서 호출한다.
+ * - 같은 키의 작업이 진행 중이면 새 요청은 무시한다. (버튼 연타 시 중복 조회 방지)
+ * - getStatusBar()가 돌려주는 상태 표시줄에 진행 표시와 [취소] 버튼을 보여준다.
+ * - runUncancellable()로 시작한 작업(최종 제출 등)은 취소 버튼·cancel()로 중단되지 않으며 콜백이 항상 호출된다.
+ * - run/cancel은 EDT에서만 호출해야 한다.
+ */
+public class BackgroundLoader {
+
+    /** 백그라운드에서 실행할 작업 */
+    @FunctionalInterface
+    public interface Task<T> {
+        T call() throws Exception;
+    }
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private final Map<String, Worker<?>> inFlight = new HashMap<>();
+    private final JPanel statusBar = new JPanel(new BorderLayout(8, 0));
+    private final JLabel statusLabel = new JLabel();
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JButton cancelBtn = new JButton("취소");
+    private Consumer<Boolean> busyListener = busy -> { };
+
+    public BackgroundLoader() {
+        progressBar.setIndeterminate(true);
+        progressBar.setPreferredSize(new Dimension(120, 16));
+        statusLabel.setFont(Utils.getSmallFont());
+        cancelBtn.setMargin(new Insets(2, 8, 2, 8));
+        cancelBtn.addActionListener(e -> cancelAll());
+        statusBar.setBorder(BorderFactory.createEmptyBorder(2, 10, 2, 10));
+        statusBar.add(statusLabel, BorderLayout.CENTER);
+        statusBar.add(progressBar, BorderLayout.WEST);
+        statusBar.add(cancelBtn, BorderLayout.EAST);
+        statusBar.setVisible(false);
+    }
+
+    /** 진행 표시 + 취소 버튼 (패널 원하는 위치에 붙여서 사용) */
+    public JComponent getStatusBar() {
+        return statusBar;
+    }
+
+    /**
+     * task를 백그라운드에서 실행한다.
+     * @param key       중복 판단 키 (같은 키가 진행 중이면 실행하지 않음)
+     * @param message   진행 중 상태 표시줄에 보여줄 문구
+     * @param onSuccess 성공 시 EDT에서 호출
+     * @param onFailure 실패 시 EDT에서 호출 (취소된 경우에는 호출하지 않음)
+     * @return 새로 실행했으면 true, 진행 중인 요청에 합쳐졌으면 false
+     */
+    public <T> boolean run(String key, String message, Task<T> task,
+                           Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        return start(key, message, task, onSuccess, onFailure, true);
+    }
+
+    /**
+     * 중간에 끊으면 결과를 알 수 없는 작업(이미 커밋됐을 수 있는 저장 등)을 실행한다.
+     * 취소 대상에서 빠지므로 onSuccess/onFailure 중 하나가 반드시 EDT에서 호출된다.
+     */
+    public <T> boolean runUncancellable(String key, String message, Task<T> task,
+                                        Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        return start(key, message, task, onSuccess, onFailure, false);
+    }
+
+    private <T> boolean start(String key, String message, Task<T> task,
+                              Consumer<T> onSuccess, Consumer<Exception> onFailure, boolean cancellable) {
+        if (inFlight.containsKey(key)) return false;
+        Worker<T> worker = new Worker<>(key, message, task, onSuccess, onFailure, cancellable);
+        inFlight.put(key, worker);
+        updateStatus();
+        EXECUTOR.execute(worker);
+        return true;
+    }
+
+    /** 진행 중인 작업이 생기거나(true) 모두 끝났을 때(false) EDT에서 호출된다. (버튼 비활성화 등) */
+    public void setBusyListener(Consumer<Boolean> listener) {
+        this.busyListener = listener;
+    }
+
+    /** 해당 키의 작업이 진행 중인지 */
+    public boolean isRunning(String key) {
+        return inFlight.containsKey(key);
+    }
+
+    /** 해당 키의 작업을 취소한다. (결과는 버려지고 콜백은 호출되지 않음, 취소 불가 작업은 무시) */
+    public void cancel(String key) {
+        Worker<?> worker = inFlight.get(key);
+        if (worker == null || !worker.cancellable) return;
+        inFlight.remove(key);
+        worker.cancel(true);
+        updateStatus();
+    }
+
+    /** 진행 중인 작업 중 취소 가능한 것을 모두 취소한다. */
+    public void cancelAll() {
+        Iterator<Worker<?>> it = inFlight.values().iterator();
+        while (it.hasNext()) {
+            Worker<?> worker = it.next();
+            if (!worker.cancellable) continue;
+            worker.cancel(true);
+            it.remove();
+        }
+        updateStatus();
+    }
+
+    private void updateStatus() {
+        busyListener.accept(!inFlight.isEmpty());
+        if (inFlight.isEmpty()) {
+            statusBar.setVisible(false);
+            return;
+        }
+        Worker<?> latest = null;
+        boolean anyCancellable = false;
+        for (Worker<?> w : inFlight.values()) {
+            latest = w;
+            anyCancellable |= w.cancellable;
+        }
+        statusLabel.setText(latest.message);
+        cancelBtn.setVisible(anyCancellable);
+        statusBar.setVisible(true);
+        statusBar.revalidate();
+    }
+
+    private final class Worker<T> extends SwingWorker<T, Void> {
+        private final String key;
+        private final String message;
+        private final Task<T> task;
+        private final Consumer<T> onSuccess;
+        private final Consumer<Exception> onFailure;
+        private final boolean cancellable;
+
+        Worker(String key, String message, Task<T> task,
+               Consumer<T> onSuccess, Consumer<Exception> onFailure, boolean cancellable) {
+            this.key = key;
+            this.message = message;
+            this.task = task;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+            this.cancellable = cancellable;
+        }
+
+        @Override
+        protected T doInBackground() throws Exception {
+            return task.call();
+        }
+
+        @Override
+        protected void done() {
+            if (inFlight.get(key) == this) inFlight.remove(key);
+            updateStatus();
+            if (isCancelled()) return;
+            try {
+                onSuccess.accept(get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                onFailure.accept(cause instanceof Exception ? (Exception) cause : new Exception(cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 가상 스레드를 지원하는 런타임(Java 21+)이면 작업마다 가상 스레드를,
+     * 아니면 데몬 스레드 고정 풀(-Dcbt.ui.workers, 기본 4)을 사용한다.
+     * DB 동시 접속 수는 어차피 커넥션 풀이 제한한다.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger seq = new AtomicInteger();
+            ThreadFactory factory = r -> {
+                Thread t = new Thread(r, "ui-loader-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+            return Executors.newFixedThreadPool(Integer.getInteger("cbt.ui.workers", 4), factory);
+        }
+    }
+}
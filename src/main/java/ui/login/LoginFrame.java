@@ -1,18 +1,33 @@
 package main.java.ui.login;
 
-import main.java.dao.UserDao;
-import main.java.dao.UserDaoImpl;
-import main.java.dao.DaoException;
 import main.java.model.User;
+import main.java.model.UserProfile;
+import main.java.service.AuthenticationService;
+import main.java.service.ServiceException;
+import main.java.service.Services;
+import main.java.ui.common.BackgroundLoader;
 import main.java.ui.common.Utils;
 import main.java.ui.client.ClientMainFrame;
 import main.java.ui.admin.AdminMainFrame;
+import main.java.metrics.MetricsExporter;
 
 import javax.swing.*;
 import java.awt.*;
 
 public class LoginFrame extends JFrame {
-    private final UserDao userDao = new UserDaoImpl();
+    private final AuthenticationService authService = Services.auth();
+    private final BackgroundLoader loader = new BackgroundLoader();
+
+    /** 로그인 결과 (학생이면 세션 토큰까지 백그라운드에서 받아 둔다) */
+    private static final class LoggedIn {
+        final User user;
+        final String token;
+
+        LoggedIn(User user, String token) {
+            this.user = user;
+            this.token = token;
+        }
+    }
 
     private JTextField studentField;
     private JPasswordField passwordField;
@@ -70,10 +85,14 @@ public class LoginFrame extends JFrame {
         loginBtn = new JButton("로그인");
         loginBtn.setPreferredSize(new Dimension(100, 30));
         south.add(loginBtn);
-        add(south, BorderLayout.SOUTH);
+        JPanel bottom = new JPanel(new BorderLayout());
+        bottom.add(loader.getStatusBar(), BorderLayout.CENTER);
+        bottom.add(south, BorderLayout.SOUTH);
+        add(bottom, BorderLayout.SOUTH);
 
         // ── 이벤트 ──
         loginBtn.addActionListener(e -> attemptLogin());
+        loader.setBusyListener(busy -> loginBtn.setEnabled(!busy));
         getRootPane().setDefaultButton(loginBtn);
     }
 
@@ -88,34 +107,56 @@ public class LoginFrame extends JFrame {
             return;
         }
 
-        try {
-            User user = userDao.findByStudentNumberAndPassword(student, pwd);
-            if (user == null) {
-                JOptionPane.showMessageDialog(this,
-                        "학번 또는 비밀번호가 올바르지 않거나, 계정이 비활성화되었습니다.",
-                        "로그인 실패", JOptionPane.ERROR_MESSAGE);
+        // 조회는 백그라운드에서, 진행 중에는 버튼 비활성화 (연타해도 요청은 한 번)
+        loader.run("login", "로그인 중...",
+                () -> {
+                    // 세션 열기도 원격 모드에서는 네트워크 호출이므로 EDT 밖에서 함께 처리한다.
+                    // 관리자도 세션을 연다. (원격 모드에서 진행 현황·통계 조회는 서버 세션으로 권한을 확인한다)
+                    User user = authService.login(student, pwd);
+                    String token = user != null ? authService.openSession(user) : null;
+                    return new LoggedIn(user, token);
+                },
+                this::onLoginResult,
+                ex -> {
+                    if (ex instanceof ServiceException && ex.getCause() == null) {
+                        // 인증 실패·비활성 계정 (서비스가 원인 없이 던진 안내 메시지)
+                        JOptionPane.showMessageDialog(this, ex.getMessage(),
+                                "로그인 실패", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    ex.printStackTrace();
+                    JOptionPane.showMessageDialog(this,
+                            "로그인 중 오류가 발생했습니다:\n" + ex.getMessage(),
+                            "서버 오류", JOptionPane.ERROR_MESSAGE);
+                });
+    }
+
+    private void onLoginResult(LoggedIn result) {
+        User user = result.user;
+        if (user == null) {
+            JOptionPane.showMessageDialog(this,
+                    "학번 또는 비밀번호가 올바르지 않거나, 계정이 비활성화되었습니다.",
+                    "로그인 실패", JOptionPane.ERROR_MESSAGE);
+        } else {
+            // 로그인 성공 → 역할별 메인 화면 호출
+            dispose();
+            if (user.getLevel() == 0) {
+                // 관리자
+                SwingUtilities.invokeLater(() ->
+                        new AdminMainFrame(user).setVisible(true));
             } else {
-                // 로그인 성공 → 역할별 메인 화면 호출
-                dispose();
-                if (user.getLevel() == 0) {
-                    // 관리자
-                    SwingUtilities.invokeLater(() ->
-                            new AdminMainFrame(user).setVisible(true));
-                } else {
-                    // 학생(클라이언트)
-                    SwingUtilities.invokeLater(() ->
-                            new ClientMainFrame(user).setVisible(true));
-                }
+                // 학생(클라이언트): 세션 토큰과 불변 프로필만 넘긴다.
+                String token = result.token;
+                UserProfile profile = UserProfile.of(user);
+                SwingUtilities.invokeLater(() ->
+                        new ClientMainFrame(token, profile).setVisible(true));
             }
-        } catch (DaoException ex) {
-            ex.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "로그인 중 오류가 발생했습니다:\n" + ex.getMessage(),
-                    "서버 오류", JOptionPane.ERROR_MESSAGE);
         }
     }
 
     public static void main(String[] args) {
+        // -Dcbt.metrics.port / -Dcbt.metrics.logSeconds 지정 시 DAO 지표 내보내기
+        MetricsExporter.startFromSystemProperties();
         SwingUtilities.invokeLater(() -> {
             // 전체 Look & Feel 설정은 Utils 클래스에서 처리
             Utils.initLookAndFeel();
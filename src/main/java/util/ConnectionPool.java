@@ -0,0 +1,433 @@
+package main.java.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정 상한을 가진 JDBC 커넥션 풀
+ * - 최소/최대 크기, 대여 대기 시간(borrow timeout) 제한
+ * - 대여 시 유효성 검사(validation-on-borrow), 유휴 커넥션 정리(idle eviction)
+ * - 반납되지 않는 커넥션 감지(leak detection) 및 풀 지표(active/idle/wait time) 제공
+ *   (감지는 대여 시각·스레드 이름만 기록한다. 대여 위치 스택은 leakStackTraces(true)일 때만 남긴다)
+ * - 커넥션별 PreparedStatement 캐시(statementCacheSize > 0일 때): 같은 SQL을 다시 준비하면
+ *   이전에 닫은 문장을 재사용한다. 적중/실패 수는 Stats로 확인할 수 있다.
+ *
+ * 대여한 커넥션의 close()는 물리 커넥션을 닫지 않고 풀에 반납한다.
+ * abort()는 반납하지 않고 물리 커넥션을 버린다. (트랜잭션 상태를 알 수 없을 때)
+ */
+public class ConnectionPool {
+
+    /** 풀 설정값 */
+    public static class Config {
+        String url;
+        String user;
+        String password;
+        int minIdle = 2;
+        int maxSize = 20;
+        long borrowTimeoutMs = 5_000;
+        int validationTimeoutSec = 2;
+        long validationIntervalMs = 1_000;   // 이 시간 이상 유휴였던 커넥션만 대여 시 검사
+        long idleTimeoutMs = 600_000;
+        long leakThresholdMs = 60_000;        // 0 이하이면 누수 감지 비활성화
+        boolean leakStackTraces = false;      // 대여마다 스택을 남길지 (진단용, 대여 경로 비용이 크다)
+        long housekeepingIntervalMs = 30_000;
+        int statementCacheSize = 0;           // 커넥션당 보관할 PreparedStatement 수 (0이면 캐시 안 함)
+
+        public Config(String url, String user, String password) {
+            this.url = url;
+            this.user = user;
+            this.password = password;
+        }
+
+        public Config minIdle(int v) { this.minIdle = v; return this; }
+        public Config maxSize(int v) { this.maxSize = v; return this; }
+        public Config borrowTimeoutMs(long v) { this.borrowTimeoutMs = v; return this; }
+        public Config validationTimeoutSec(int v) { this.validationTimeoutSec = v; return this; }
+        public Config validationIntervalMs(long v) { this.validationIntervalMs = v; return this; }
+        public Config idleTimeoutMs(long v) { this.idleTimeoutMs = v; return this; }
+        public Config leakThresholdMs(long v) { this.leakThresholdMs = v; return this; }
+        public Config leakStackTraces(boolean v) { this.leakStackTraces = v; return this; }
+        public Config housekeepingIntervalMs(long v) { this.housekeepingIntervalMs = v; return this; }
+        public Config statementCacheSize(int v) { this.statementCacheSize = v; return this; }
+    }
+
+    /** 특정 시점의 풀 지표 스냅샷 */
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int maxSize;
+        private final int waiting;
+        private final long borrowCount;
+        private final long timeoutCount;
+        private final long createdCount;
+        private final long destroyedCount;
+        private final long leakCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+        private final long statementCacheEvictions;
+
+        Stats(int active, int idle, int total, int maxSize, int waiting,
+              long borrowCount, long timeoutCount, long createdCount, long destroyedCount,
+              long leakCount, long totalWaitNanos, long maxWaitNanos,
+              long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.maxSize = maxSize;
+            this.waiting = waiting;
+            this.borrowCount = borrowCount;
+            this.timeoutCount = timeoutCount;
+            this.createdCount = createdCount;
+            this.destroyedCount = destroyedCount;
+            this.leakCount = leakCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+            this.statementCacheEvictions = statementCacheEvictions;
+        }
+
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getTotal() { return total; }
+        public int getMaxSize() { return maxSize; }
+        public int getWaiting() { return waiting; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getTimeoutCount() { return timeoutCount; }
+        public long getCreatedCount() { return createdCount; }
+        public long getDestroyedCount() { return destroyedCount; }
+        public long getLeakCount() { return leakCount; }
+        public long getTotalWaitNanos() { return totalWaitNanos; }
+        public long getMaxWaitNanos() { return maxWaitNanos; }
+        /** 캐시에서 재사용한 prepareStatement 호출 수 */
+        public long getStatementCacheHits() { return statementCacheHits; }
+        /** 새로 준비한 prepareStatement 호출 수 (캐시 사용 시) */
+        public long getStatementCacheMisses() { return statementCacheMisses; }
+        public long getStatementCacheEvictions() { return statementCacheEvictions; }
+
+        /** 대여 1회당 평균 대기 시간(ms) */
+        public double getAvgWaitMillis() {
+            return borrowCount == 0 ? 0 : totalWaitNanos / 1_000_000.0 / borrowCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Pool{active=%d, idle=%d, total=%d/%d, waiting=%d, borrows=%d, timeouts=%d, "
+                            + "created=%d, destroyed=%d, leaks=%d, avgWait=%.3fms, maxWait=%.3fms, "
+                            + "stmtCache hits=%d misses=%d evictions=%d}",
+                    active, idle, total, maxSize, waiting, borrowCount, timeoutCount,
+                    createdCount, destroyedCount, leakCount,
+                    getAvgWaitMillis(), maxWaitNanos / 1_000_000.0,
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        }
+    }
+
+    /** 물리 커넥션 한 개와 그 상태 */
+    private static class PooledEntry {
+        final Connection physical;
+        final StatementCache statements;   // 캐시를 쓰지 않으면 null
+        volatile long lastReturnedAt = System.currentTimeMillis();
+        volatile long borrowedAt;
+        volatile Throwable borrowSite;     // leakStackTraces일 때만 기록
+        volatile String borrowThread;
+        volatile boolean leakReported;
+
+        PooledEntry(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+    }
+
+    private final Config config;
+    private final LinkedBlockingDeque<PooledEntry> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledEntry> inUse = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LatencyHistogram waitHistogram = new LatencyHistogram("pool.wait");
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    public ConnectionPool(Config config) {
+        if (config.maxSize <= 0 || config.minIdle < 0 || config.minIdle > config.maxSize) {
+            throw new IllegalArgumentException("잘못된 풀 크기 설정: min=" + config.minIdle + ", max=" + config.maxSize);
+        }
+        this.config = config;
+        this.permits = new Semaphore(config.maxSize, true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cbt-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                config.housekeepingIntervalMs, config.housekeepingIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 풀에서 커넥션을 대여한다.
+     * 사용 후 반드시 close()로 반납해야 한다 (try-with-resources 권장).
+     * @throws SQLTimeoutException borrowTimeoutMs 안에 커넥션을 얻지 못한 경우
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) throw new SQLException("커넥션 풀이 종료되었습니다.");
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.borrowTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트 발생", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            throw new SQLTimeoutException("커넥션 대여 시간 초과 (" + config.borrowTimeoutMs + "ms), " + stats());
+        }
+
+        PooledEntry entry;
+        try {
+            entry = takeValidIdle();
+            if (entry == null) entry = create();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        long waited = System.nanoTime() - start;
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        waitHistogram.recordNanos(waited);
+
+        entry.borrowedAt = System.currentTimeMillis();
+        entry.leakReported = false;
+        entry.borrowThread = Thread.currentThread().getName();
+        entry.borrowSite = config.leakThresholdMs > 0 && config.leakStackTraces
+                ? new Throwable("커넥션 대여 위치") : null;
+        inUse.add(entry);
+        return wrap(entry);
+    }
+
+    /** 대여 대기 시간 분포 (성공한 대여만) */
+    public LatencyHistogram waitHistogram() {
+        return waitHistogram;
+    }
+
+    /** 현재 풀 지표 스냅샷 */
+    public Stats stats() {
+        int active = inUse.size();
+        int idleCnt = idle.size();
+        return new Stats(active, idleCnt, active + idleCnt, config.maxSize, waiting.get(),
+                borrowCount.get(), timeoutCount.get(), createdCount.get(), destroyedCount.get(),
+                leakCount.get(), totalWaitNanos.get(), maxWaitNanos.get(),
+                statementCounters.hits.get(), statementCounters.misses.get(), statementCounters.evictions.get());
+    }
+
+    /** 풀을 종료하고 유휴 커넥션을 모두 닫는다. 대여 중인 커넥션은 반납 시 닫힌다. */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledEntry e;
+        while ((e = idle.pollFirst()) != null) destroy(e);
+    }
+
+    // ───────────────────────── 내부 구현 ─────────────────────────
+
+    /** 가장 최근에 반납된 유휴 커넥션부터 꺼내며, 필요 시 유효성 검사를 수행한다. */
+    private PooledEntry takeValidIdle() {
+        PooledEntry e;
+        while ((e = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - e.lastReturnedAt;
+            if (idleFor < config.validationIntervalMs || isAlive(e)) {
+                return e;
+            }
+            destroy(e);
+        }
+        return null;
+    }
+
+    private boolean isAlive(PooledEntry e) {
+        try {
+            return !e.physical.isClosed() && e.physical.isValid(config.validationTimeoutSec);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private PooledEntry create() throws SQLException {
+        Connection physical = DriverManager.getConnection(config.url, config.user, config.password);
+        createdCount.incrementAndGet();
+        StatementCache statements = config.statementCacheSize > 0
+                ? new StatementCache(physical, config.statementCacheSize, statementCounters) : null;
+        return new PooledEntry(physical, statements);
+    }
+
+    private void destroy(PooledEntry e) {
+        if (e.statements != null) e.statements.clear();
+        try {
+            e.physical.close();
+        } catch (SQLException ignored) {
+        }
+        destroyedCount.incrementAndGet();
+    }
+
+    /** 논리 커넥션 폐기: 풀에 돌려놓지 않고 물리 커넥션을 닫는다. */
+    private void discard(PooledEntry e) {
+        if (!inUse.remove(e)) return;
+        e.borrowSite = null;
+        destroy(e);
+        permits.release();
+    }
+
+    /** 논리 커넥션 반납: 트랜잭션 상태를 정리한 뒤 유휴 목록 앞쪽에 넣는다. */
+    private void release(PooledEntry e) {
+        if (!inUse.remove(e)) return;
+        boolean reusable = !closed;
+        try {
+            if (e.physical.isClosed()) {
+                reusable = false;
+            } else if (!e.physical.getAutoCommit()) {
+                e.physical.rollback();
+                e.physical.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
+            reusable = false;
+        }
+        e.borrowSite = null;
+        if (reusable) {
+            e.lastReturnedAt = System.currentTimeMillis();
+            idle.offerFirst(e);
+        } else {
+            destroy(e);
+        }
+        permits.release();
+    }
+
+    /** 주기 작업: 유휴 커넥션 정리, 최소 유휴 수 유지, 누수 감지 */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            // 1) idleTimeout을 넘긴 유휴 커넥션을 minIdle까지 정리 (가장 오래된 것부터)
+            Iterator<PooledEntry> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > config.minIdle) {
+                PooledEntry e = it.next();
+                if (now - e.lastReturnedAt > config.idleTimeoutMs && idle.removeLastOccurrence(e)) {
+                    destroy(e);
+                }
+            }
+
+            // 2) 최소 유휴 커넥션 채우기 (허가를 잡은 상태에서 생성하므로 상한을 넘지 않는다)
+            while (!closed && idle.size() < config.minIdle
+                    && inUse.size() + idle.size() < config.maxSize && permits.tryAcquire()) {
+                try {
+                    idle.offerLast(create());
+                } finally {
+                    permits.release();
+                }
+            }
+
+            // 3) 누수 감지
+            if (config.leakThresholdMs > 0) {
+                for (PooledEntry e : inUse) {
+                    if (!e.leakReported && now - e.borrowedAt > config.leakThresholdMs) {
+                        e.leakReported = true;
+                        leakCount.incrementAndGet();
+                        Throwable site = e.borrowSite;
+                        System.err.println("[ConnectionPool] 커넥션이 " + (now - e.borrowedAt)
+                                + "ms 동안 반납되지 않았습니다. (대여 스레드: " + e.borrowThread + ")"
+                                + (site != null ? " 누수 의심 위치:" : " 위치를 보려면 -Dcbt.db.pool.leakStackTraces=true"));
+                        if (site != null) site.printStackTrace();
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /** close() 호출 시 풀에 반납하는 논리 커넥션 프록시를 만든다. */
+    private Connection wrap(PooledEntry entry) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean returned;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!returned) {
+                            returned = true;
+                            release(entry);
+                        }
+                        return null;
+                    case "isClosed":
+                        return returned || entry.physical.isClosed();
+                    case "abort":
+                        if (!returned) {
+                            returned = true;
+                            discard(entry);
+                        }
+                        return null;
+                    case "prepareStatement":
+                        // prepareStatement(sql) / prepareStatement(sql, autoGeneratedKeys)만 캐시한다.
+                        if (!returned && entry.statements != null && (args.length == 1
+                                || (args.length == 2 && args[1] instanceof Integer))) {
+                            int keys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                            return entry.statements.prepare((Connection) proxy, (String) args[0], keys);
+                        }
+                        if (returned) throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                        break;
+                    case "unwrap":
+                    case "isWrapperFor":
+                        break;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "PooledConnection[" + entry.physical + "]";
+                    default:
+                        if (returned) throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                }
+                try {
+                    return method.invoke(entry.physical, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+}
@@ -0,0 +1,90 @@
+package main.java.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180)
+ * - 한 번에 레코드 하나만 읽으므로 파일 크기와 관계없이 메모리는 레코드 하나 크기다.
+ * - 큰따옴표로 감싼 필드 안의 쉼표·줄바꿈·"" 이스케이프를 지원한다.
+ * - 파일 맨 앞의 UTF-8 BOM은 건너뛴다. (엑셀에서 저장한 CSV)
+ */
+public class CsvReader implements Closeable {
+    private final BufferedReader in;
+    private int lineNumber;       // 지금까지 읽은 물리적 줄 수
+    private int recordStartLine;  // 마지막으로 읽은 레코드가 시작한 줄
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드를 읽는다.
+     * @return 필드 목록, 파일 끝이면 null
+     */
+    public List<String> next() throws IOException {
+        String line = in.readLine();
+        if (line == null) return null;
+        lineNumber++;
+        recordStartLine = lineNumber;
+        if (first) {
+            first = false;
+            if (!line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1);
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) break;
+                // 따옴표 안의 줄바꿈: 다음 줄을 이어 읽는다.
+                String more = in.readLine();
+                if (more == null) throw new IOException("닫히지 않은 따옴표: " + recordStartLine + "행");
+                lineNumber++;
+                field.append('\n');
+                line = more;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /** 마지막으로 읽은 레코드가 시작한 줄 번호 (1부터) */
+    public int getRecordLine() {
+        return recordStartLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
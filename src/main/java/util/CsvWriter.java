@@ -0,0 +1,45 @@
+package main.java.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 라이터 (RFC 4180)
+ * - 쉼표·따옴표·줄바꿈이 들어간 필드만 큰따옴표로 감싼다.
+ * - 레코드 구분은 CRLF (엑셀 호환)
+ */
+public class CsvWriter implements Closeable, Flushable {
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /** 레코드 하나를 쓴다. (null 필드는 빈 문자열) */
+    public void write(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) out.write(',');
+            String s = fields[i] == null ? "" : fields[i].toString();
+            if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+                out.write('"');
+                out.write(s.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(s);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -1,26 +1,83 @@
 package main.java.util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
+/**
+ * DB 커넥션 제공자
+ * - 내부적으로 ConnectionPool을 사용하며, getConnection()으로 대여한 커넥션은
+ *   작업이 끝나면 close()로 반납해야 한다 (try-with-resources 권장).
+ * - 풀 설정은 시스템 프로퍼티(cbt.db.*)로 덮어쓸 수 있다.
+ * - 드라이버 옵션: 서버 측 PREPARE(useServerPrepStmts)와 드라이버 PREPARE 캐시(cachePrepStmts)를
+ *   URL에 지정하지 않았으면 켠다. 풀도 커넥션마다 PreparedStatement를 보관해 재사용한다.
+ *   (cbt.db.pool.statementCacheSize, 기본 64 / 0이면 풀 캐시 끔)
+ *   두 캐시 모두 SQL 문자열로 구분하므로, 행 수에 따라 길이가 바뀌는 IN 목록·다중 행 VALUES는
+ *   SqlBatch로 크기를 고정된 몇 가지로 맞춰 만든다.
+ * - UnitOfWork.execute() 안에서는 풀에서 새로 빌리지 않고 작업 단위에 묶인 커넥션을 돌려준다.
+ */
 public class DBConnection {
-    private static final String URL = "jdbc:mariadb://localhost:3306/cbt_db";
-    private static final String USER = "root";        // MariaDB 사용자명
-    private static final String PASS = "hj0811";    // 사용자 비밀번호
-
-    private static Connection conn;
+    private static final String URL = withDriverDefaults(
+            System.getProperty("cbt.db.url", "jdbc:mariadb://localhost:3306/cbt_db"));
+    private static final String USER = System.getProperty("cbt.db.user", "root");        // MariaDB 사용자명
+    private static final String PASS = System.getProperty("cbt.db.password", "hj0811");  // 사용자 비밀번호
 
     private DBConnection() {
         // private 생성자 (싱글톤)
     }
 
-    public static Connection getConnection() {
-        try {
-            return DriverManager.getConnection(URL, USER, PASS);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return null;
+    /** 최초 사용 시점에 풀을 생성하기 위한 홀더 */
+    private static class Holder {
+        static final ConnectionPool POOL = new ConnectionPool(
+                new ConnectionPool.Config(URL, USER, PASS)
+                        .minIdle(Integer.getInteger("cbt.db.pool.minIdle", 2))
+                        .maxSize(Integer.getInteger("cbt.db.pool.maxSize", 20))
+                        .borrowTimeoutMs(Long.getLong("cbt.db.pool.borrowTimeoutMs", 5_000L))
+                        .idleTimeoutMs(Long.getLong("cbt.db.pool.idleTimeoutMs", 600_000L))
+                        .leakThresholdMs(Long.getLong("cbt.db.pool.leakThresholdMs", 60_000L))
+                        .leakStackTraces(Boolean.getBoolean("cbt.db.pool.leakStackTraces"))
+                        .statementCacheSize(Integer.getInteger("cbt.db.pool.statementCacheSize", 64)));
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(POOL::shutdown, "cbt-pool-shutdown"));
         }
     }
+
+    /**
+     * 풀에서 커넥션을 대여한다. 작업 단위 안이면 그 트랜잭션의 커넥션(close()는 무시됨)을 반환한다.
+     * @throws SQLException 커넥션 생성 실패 또는 대여 시간 초과 시
+     */
+    public static Connection getConnection() throws SQLException {
+        Connection bound = UnitOfWork.currentParticipant();
+        return bound != null ? bound : Holder.POOL.borrow();
+    }
+
+    /** 작업 단위와 무관하게 풀에서 새 커넥션을 대여한다. (UnitOfWork 전용) */
+    static Connection borrow() throws SQLException {
+        return Holder.POOL.borrow();
+    }
+
+    /** URL에 없는 드라이버 옵션만 기본값으로 덧붙인다. (사용자가 지정한 값이 우선) */
+    static String withDriverDefaults(String url) {
+        String[][] defaults = {
+                {"useServerPrepStmts", "true"},
+                {"cachePrepStmts", "true"},
+                {"prepStmtCacheSize", "250"},
+        };
+        StringBuilder sb = new StringBuilder(url);
+        for (String[] option : defaults) {
+            if (url.contains(option[0] + "=")) continue;
+            sb.append(sb.indexOf("?") < 0 ? '?' : '&').append(option[0]).append('=').append(option[1]);
+        }
+        return sb.toString();
+    }
+
+    /** 현재 커넥션 풀 지표 (active/idle/대기 시간 등) */
+    public static ConnectionPool.Stats getPoolStats() {
+        return Holder.POOL.stats();
+    }
+
+    /** 커넥션 대여 대기 시간 분포 */
+    public static LatencyHistogram getPoolWaitHistogram() {
+        return Holder.POOL.waitHistogram();
+    }
 }
@@ -0,0 +1,127 @@
+package main.java.util;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 동시 기록 가능한 로그-선형 지연 히스토그램 (HdrHistogram 방식 축소판)
+ * - 값은 마이크로초 단위로 기록한다.
+ * - 2의 거듭제곱 구간마다 32개의 선형 하위 구간을 두어 상대 오차 약 3% 이내로 백분위를 계산한다.
+ * - 기록은 락 없이(AtomicLongArray) 처리되므로 여러 스레드가 같은 인스턴스에 기록해도 된다.
+ * - 부하 테스트, DAO 지표(DaoMetrics), 커넥션 풀 대기 시간에서 공용으로 사용한다.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 5;                 // 구간당 32개
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2; // 0~63은 값 그대로
+    private static final int BUCKETS = LINEAR_LIMIT + 58 * SUB_COUNT;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 나노초 단위 소요 시간을 기록한다. */
+    public void recordNanos(long nanos) {
+        record(Math.max(0, nanos / 1_000));
+    }
+
+    /** 마이크로초 단위 값을 기록한다. */
+    public void record(long micros) {
+        counts.incrementAndGet(indexOf(micros));
+        total.incrementAndGet();
+        sum.addAndGet(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return total.get();
+    }
+
+    public double getMeanMicros() {
+        long n = total.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public long getSumMicros() {
+        return sum.get();
+    }
+
+    /**
+     * micros 이하로 기록된 값의 개수 (Prometheus 누적 버킷용)
+     * - 하위 구간 상한이 micros 이하인 구간만 더하므로 경계 근처 값은 다음 버킷에 잡힐 수 있다.
+     */
+    public long countAtOrBelow(long micros) {
+        long n = 0;
+        int last = Math.min(indexOf(micros), BUCKETS - 1);
+        for (int i = 0; i <= last; i++) {
+            if (upperBound(i) <= micros || i < last) n += counts.get(i);
+        }
+        return n;
+    }
+
+    /** p(0~100) 백분위 값 (마이크로초, 해당 구간 상한) */
+    public long percentileMicros(double p) {
+        long n = total.get();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    /** 한 줄 요약 (밀리초) */
+    public String summary() {
+        return String.format("%-16s n=%-7d mean=%8.2fms p50=%8.2fms p90=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms",
+                name, getCount(), getMeanMicros() / 1000.0, percentileMicros(50) / 1000.0,
+                percentileMicros(90) / 1000.0, percentileMicros(99) / 1000.0,
+                percentileMicros(99.9) / 1000.0, getMaxMicros() / 1000.0);
+    }
+
+    /** HdrHistogram의 percentile distribution 형식으로 출력한다. (Value 단위: ms) */
+    public void printDistribution(PrintStream out) {
+        out.printf("[%s]%n%12s %14s %10s %14s%n", name, "Value(ms)", "Percentile", "TotalCount", "1/(1-Percentile)");
+        long n = total.get();
+        if (n == 0) return;
+        double[] levels = {0, 25, 50, 75, 90, 95, 99, 99.5, 99.9, 99.99, 100};
+        for (double p : levels) {
+            long value = percentileMicros(p);
+            long rank = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+            String inverse = p >= 100 ? "inf" : String.format("%.2f", 1 / (1 - p / 100.0));
+            out.printf("%12.3f %14.6f %10d %14s%n", value / 1000.0, p / 100.0, rank, inverse);
+        }
+        out.printf("#[Mean = %.3f, Max = %.3f, Total count = %d]%n",
+                getMeanMicros() / 1000.0, getMaxMicros() / 1000.0, n);
+    }
+
+    static int indexOf(long v) {
+        if (v < LINEAR_LIMIT) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS; // v >> shift 는 32~63
+        int idx = LINEAR_LIMIT + (shift - 1) * SUB_COUNT + (int) ((v >> shift) - SUB_COUNT);
+        return Math.min(idx, BUCKETS - 1);
+    }
+
+    static long upperBound(int idx) {
+        if (idx < LINEAR_LIMIT) return idx;
+        int shift = (idx - LINEAR_LIMIT) / SUB_COUNT + 1;
+        long sub = (idx - LINEAR_LIMIT) % SUB_COUNT + SUB_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package main.java.util;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 비밀번호 해시 (PBKDF2-HMAC-SHA256, 솔트 16바이트)
+ * - 저장 형식: pbkdf2$반복횟수$솔트(Base64)$해시(Base64)  → users.password에 약 90자
+ * - 형식이 아닌 저장값은 예전 평문으로 보고 상수 시간 비교한다. (로그인 시 해시로 이전)
+ * - 반복 횟수는 -Dcbt.auth.pbkdf2Iterations(기본 120000)로 조정하며,
+ *   저장값의 반복 횟수가 현재 설정보다 적으면 needsRehash()가 true를 돌려준다.
+ */
+public final class PasswordHasher {
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final int ITERATIONS = Integer.getInteger("cbt.auth.pbkdf2Iterations", 120_000);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PasswordHasher() {
+    }
+
+    /** 새 솔트로 해시한 저장 문자열을 만든다. */
+    public static String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, ITERATIONS);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + ITERATIONS + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(hash);
+    }
+
+    /** password가 저장값과 일치하는지 검사한다. (평문 저장값도 허용) */
+    public static boolean verify(String password, String stored) {
+        if (password == null || stored == null) return false;
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) return false;
+        try {
+            int iterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, iterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** 이미 해시 형식인지 여부 */
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX + "$");
+    }
+
+    /** 평문이거나 현재 설정보다 약한 해시면 다시 해시해야 한다. */
+    public static boolean needsRehash(String stored) {
+        if (!isHashed(stored)) return true;
+        String[] parts = stored.split("\\$");
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < ITERATIONS;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + "를 사용할 수 없습니다.", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
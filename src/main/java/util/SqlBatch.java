@@ -0,0 +1,38 @@
+package main.java.util;
+
+/**
+ * 가변 길이 IN 목록·다중 행 VALUES 문장의 크기를 고정된 몇 가지(1, 2, 4, ... , MAX_ROWS)로 맞추는 도우미
+ * - 서버 측 PREPARE와 풀의 PreparedStatement 캐시는 SQL 문자열로 구분되므로, 행 수마다 문장이 달라지면
+ *   매번 새로 PREPARE되고 캐시만 밀어낸다. 크기를 2의 거듭제곱으로 묶으면 문장 모양이 최대 10가지로 줄어든다.
+ * - 다중 행 INSERT: chunkSize()만큼씩 잘라 보낸다. (행을 덧붙이지 않으므로 INSERT 의미가 그대로다)
+ * - IN 목록: paddedSize()만큼 자리를 만들고 남는 자리는 마지막 값으로 채운다. (중복 값은 결과에 영향 없음)
+ */
+public final class SqlBatch {
+    /** 한 문장에 담을 최대 행(값) 수 */
+    public static final int MAX_ROWS = 512;
+
+    private SqlBatch() {
+    }
+
+    /** 남은 행 수 이하인 가장 큰 고정 크기 (다중 행 VALUES용) */
+    public static int chunkSize(int remaining) {
+        if (remaining <= 0) throw new IllegalArgumentException("remaining: " + remaining);
+        return Integer.highestOneBit(Math.min(remaining, MAX_ROWS));
+    }
+
+    /** n 이상인 가장 작은 고정 크기 (IN 목록용, n은 MAX_ROWS 이하) */
+    public static int paddedSize(int n) {
+        if (n <= 0 || n > MAX_ROWS) throw new IllegalArgumentException("n: " + n);
+        return n == 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /** 자리표시 묶음을 쉼표로 n번 잇는다. 예) repeat("(?,?)", 3) → "(?,?),(?,?),(?,?)" */
+    public static String repeat(String placeholder, int n) {
+        StringBuilder sb = new StringBuilder(n * (placeholder.length() + 1));
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(placeholder);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package main.java.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 물리 커넥션 하나에 딸린 PreparedStatement 캐시 (LRU)
+ * - prepareStatement(sql[, autoGeneratedKeys])로 만든 문장을 close() 시 닫지 않고 보관했다가
+ *   같은 SQL이 다시 준비되면 그대로 돌려준다. (드라이버 파싱·서버 PREPARE 생략)
+ * - 꺼낸 문장은 캐시에서 빠지므로 같은 SQL을 동시에 두 번 열어도 서로 다른 문장을 쓴다.
+ * - 용량을 넘으면 가장 오래 쓰지 않은 문장을 실제로 닫는다.
+ * 커넥션 풀이 대여 단위로만 접근하지만, 잘못 늦게 닫힌 문장에 대비해 메서드를 동기화한다.
+ */
+final class StatementCache {
+    private final Connection physical;
+    private final int capacity;
+    private final Counters counters;
+    private final LinkedHashMap<String, PreparedStatement> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** 풀 전체에서 공유하는 캐시 지표 */
+    static final class Counters {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong evictions = new AtomicLong();
+    }
+
+    StatementCache(Connection physical, int capacity, Counters counters) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.counters = counters;
+    }
+
+    /**
+     * 캐시된 문장이 있으면 꺼내고, 없으면 새로 준비한다.
+     * @param owner 문장의 getConnection()이 돌려줄 논리 커넥션
+     */
+    PreparedStatement prepare(Connection owner, String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys + ":" + sql;
+        PreparedStatement stmt;
+        synchronized (this) {
+            stmt = cache.remove(key);
+        }
+        if (stmt != null && !stmt.isClosed()) {
+            counters.hits.incrementAndGet();
+        } else {
+            counters.misses.incrementAndGet();
+            stmt = physical.prepareStatement(sql, autoGeneratedKeys);
+        }
+        return wrap(owner, key, stmt);
+    }
+
+    /** 캐시된 문장을 모두 닫는다. (물리 커넥션을 닫기 전에 호출) */
+    synchronized void clear() {
+        for (PreparedStatement stmt : cache.values()) closeQuietly(stmt);
+        cache.clear();
+    }
+
+    /**
+     * 사용이 끝난 문장을 보관한다. 같은 키가 이미 있거나 커넥션이 닫혔으면 실제로 닫는다.
+     * fetchSize를 바꾼 스트리밍 조회 문장은 다른 호출에 설정이 남지 않도록 보관하지 않는다.
+     */
+    private void giveBack(String key, PreparedStatement stmt) {
+        try {
+            if (stmt.isClosed() || physical.isClosed() || stmt.getFetchSize() != 0) {
+                closeQuietly(stmt);
+                return;
+            }
+            ResultSet open = stmt.getResultSet();
+            if (open != null) open.close();
+            stmt.clearParameters();
+            stmt.clearBatch();
+            stmt.clearWarnings();
+        } catch (SQLException e) {
+            closeQuietly(stmt);
+            return;
+        }
+        synchronized (this) {
+            if (cache.putIfAbsent(key, stmt) != null) {
+                closeQuietly(stmt);
+                return;
+            }
+            Iterator<PreparedStatement> it = cache.values().iterator();
+            while (cache.size() > capacity && it.hasNext()) {
+                closeQuietly(it.next());
+                it.remove();
+                counters.evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /** close()를 가로채 캐시에 돌려주는 문장 프록시 */
+    private PreparedStatement wrap(Connection owner, String key, PreparedStatement stmt) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean closed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!closed) {
+                            closed = true;
+                            giveBack(key, stmt);
+                        }
+                        return null;
+                    case "isClosed":
+                        return closed || stmt.isClosed();
+                    case "getConnection":
+                        return owner;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "CachedStatement[" + stmt + "]";
+                    default:
+                        if (closed) throw new SQLException("이미 닫힌 PreparedStatement입니다.");
+                }
+                try {
+                    return method.invoke(stmt, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package main.java.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한(LRU)과 만료 시간(TTL)을 가진 읽기 캐시
+ * - get(key, loader): 캐시에 없거나 만료되었으면 loader로 읽어 채운다 (read-through).
+ * - 같은 키를 동시에 요청하면 loader는 한 번만 실행되고 나머지는 그 결과를 기다린다.
+ * - null 값은 캐시하지 않는다.
+ * - 적중/실패/축출/만료/합류 횟수를 Stats로 제공한다.
+ */
+public class TtlCache<K, V> {
+
+    /** 캐시 실패 시 값을 읽어오는 함수 */
+    @FunctionalInterface
+    public interface Loader<K, V, E extends Exception> {
+        V load(K key) throws E;
+    }
+
+    /** 특정 시점의 캐시 지표 스냅샷 */
+    public static class Stats {
+        private final String name;
+        private final int size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final long coalesced;
+
+        Stats(String name, int size, long hits, long misses, long evictions, long expirations, long coalesced) {
+            this.name = name;
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.coalesced = coalesced;
+        }
+
+        public String getName() { return name; }
+        public int getSize() { return size; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getExpirations() { return expirations; }
+        /** 진행 중인 로딩에 합류하여 loader를 실행하지 않은 요청 수 */
+        public long getCoalesced() { return coalesced; }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Cache[%s]{size=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, expirations=%d, coalesced=%d}",
+                    name, size, hits, misses, getHitRate() * 100, evictions, expirations, coalesced);
+        }
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map;
+    /** 키별 진행 중인 로딩 (첫 요청자가 실행, 나머지는 합류) */
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public TtlCache(String name, int maxSize, long ttl, TimeUnit unit) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        // accessOrder=true → 가장 오래 사용되지 않은 항목이 맨 앞
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** 캐시에 있으면 반환, 없거나 만료되었으면 null */
+    public V getIfPresent(K key) {
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null) {
+                if (e.expiresAt - System.nanoTime() > 0) {
+                    hits.incrementAndGet();
+                    return e.value;
+                }
+                map.remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * read-through 조회: 캐시 실패 시 loader 결과를 저장 후 반환
+     * - 같은 키의 로딩이 이미 진행 중이면 loader를 다시 실행하지 않고 그 결과(또는 예외)를 함께 받는다.
+     * - 로딩 도중 invalidate된 키는 결과를 반환만 하고 캐시에는 넣지 않는다.
+     */
+    public <E extends Exception> V get(K key, Loader<? super K, ? extends V, E> loader) throws E {
+        V value = getIfPresent(key);
+        if (value != null) return value;
+        return load(key, loader, true);
+    }
+
+    /**
+     * 캐시에 있어도 loader로 새로 읽어 바꾼다. (미리 적재용)
+     * - get()과 같이 진행 중인 로딩이 있으면 그 결과를 함께 받고, 로딩 도중 invalidate된 키는 캐시에 넣지 않는다.
+     */
+    public <E extends Exception> V reload(K key, Loader<? super K, ? extends V, E> loader) throws E {
+        return load(key, loader, false);
+    }
+
+    private <E extends Exception> V load(K key, Loader<? super K, ? extends V, E> loader, boolean reusePresent) throws E {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            coalesced.incrementAndGet();
+            return await(inFlight);
+        }
+        try {
+            V value = reusePresent ? peek(key) : null; // 직전에 다른 스레드가 채웠을 수 있음
+            if (value == null) value = loader.load(key);
+            if (loading.remove(key, mine) && value != null) put(key, value);
+            mine.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            loading.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(CompletableFuture<V> future) throws E {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            // 같은 캐시의 loader는 같은 예외 타입을 던지므로 그대로 전달
+            throw (E) cause;
+        }
+    }
+
+    /** 통계에 반영하지 않고 유효한 값을 조회 */
+    private V peek(K key) {
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            return e != null && e.expiresAt - System.nanoTime() > 0 ? e.value : null;
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (map) {
+            map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void invalidate(K key) {
+        loading.remove(key);
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        loading.clear();
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    /** 만료된 항목을 정리한다. */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        synchronized (map) {
+            Iterator<Entry<V>> it = map.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAt - now <= 0) {
+                    it.remove();
+                    expirations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, size(), hits.get(), misses.get(), evictions.get(), expirations.get(), coalesced.get());
+    }
+}
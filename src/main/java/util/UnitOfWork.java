@@ -0,0 +1,149 @@
+package main.java.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 작업 단위(unit of work) 트랜잭션
+ * - execute() 안에서는 현재 스레드에 커넥션 하나가 묶이고, DBConnection.getConnection()은
+ *   그 커넥션을 돌려준다. 따라서 DAO를 고치지 않아도 모든 쓰기가 한 트랜잭션에 참여한다.
+ * - 참여 중인 DAO가 호출하는 close()/setAutoCommit()/commit()은 무시되고,
+ *   rollback()은 작업 전체를 롤백 전용으로 표시한다. 커밋·롤백은 execute()만 한다.
+ * - 이미 작업 단위 안에서 다시 execute()하면 바깥 트랜잭션에 합류한다.
+ *
+ * 사용 예:
+ *   UnitOfWork.execute(conn -> { examDao.insert(exam); questionBankDao.insertAll(conn, banks); return null; });
+ */
+public final class UnitOfWork {
+    /** 작업 본문 (DAO 예외 등 검사 예외 X를 그대로 던질 수 있다) */
+    @FunctionalInterface
+    public interface Work<T, X extends Exception> {
+        T run(Connection conn) throws X;
+    }
+
+    /** 현재 스레드에 묶인 작업 단위 */
+    private static final class Bound {
+        final Connection physical;
+        final Connection participant;
+        boolean rollbackOnly;
+
+        Bound(Connection physical) {
+            this.physical = physical;
+            this.participant = participant(this);
+        }
+    }
+
+    private static final ThreadLocal<Bound> CURRENT = new ThreadLocal<>();
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * work를 한 트랜잭션으로 실행한다. 예외가 나거나 롤백 전용으로 표시되면 롤백한다.
+     * @throws X work가 던진 예외 (롤백 후 그대로 전달)
+     * @throws SQLException 커넥션 대여·커밋 실패 또는 참여자가 rollback()을 호출한 경우
+     */
+    public static <T, X extends Exception> T execute(Work<T, X> work) throws X, SQLException {
+        Bound outer = CURRENT.get();
+        if (outer != null) return work.run(outer.participant);
+
+        Connection conn = DBConnection.borrow();
+        T result;
+        try {
+            Bound bound = new Bound(conn);
+            conn.setAutoCommit(false);
+            CURRENT.set(bound);
+            result = work.run(bound.participant);
+            if (bound.rollbackOnly) {
+                throw new SQLException("작업 단위가 롤백 전용으로 표시되어 롤백했습니다.");
+            }
+            conn.commit();
+        } catch (Throwable t) {
+            // Error·커밋 실패를 포함해 커밋하지 못한 모든 경로는 여기서 롤백한다.
+            // (롤백 없이 setAutoCommit(true)를 부르면 JDBC 규칙상 진행 중인 트랜잭션이 커밋된다)
+            CURRENT.remove();
+            rollbackAndRelease(conn, t);
+            throw t;
+        }
+        CURRENT.remove();
+        try {
+            conn.setAutoCommit(true);
+            conn.close();
+        } catch (SQLException e) {
+            discard(conn);
+        }
+        return result;
+    }
+
+    /** 롤백 후 풀에 반납한다. 롤백조차 실패하면 커넥션을 버린다. */
+    private static void rollbackAndRelease(Connection conn, Throwable cause) {
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            conn.close();
+        } catch (Throwable e) {
+            cause.addSuppressed(e);
+            discard(conn);
+        }
+    }
+
+    /** 트랜잭션 상태를 알 수 없는 커넥션을 풀에 돌려놓지 않고 닫는다. */
+    private static void discard(Connection conn) {
+        try {
+            conn.abort(Runnable::run);
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /** 현재 스레드가 작업 단위 안에 있는지 여부 */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /** 작업 단위 안이면 참여용 커넥션, 아니면 null (DBConnection에서 사용) */
+    static Connection currentParticipant() {
+        Bound bound = CURRENT.get();
+        return bound == null ? null : bound.participant;
+    }
+
+    /** 트랜잭션 경계 호출을 가로채는 참여용 커넥션 프록시 */
+    private static Connection participant(Bound bound) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    return null;
+                case "rollback":
+                    // 세이브포인트 롤백은 그대로 전달하고, 전체 롤백만 바깥 작업 단위로 미룬다.
+                    if (args == null || args.length == 0) {
+                        bound.rollbackOnly = true;
+                        return null;
+                    }
+                    break;
+                case "getAutoCommit":
+                    return false;
+                case "isClosed":
+                    return bound.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWork[" + bound.physical + "]";
+            }
+            try {
+                return method.invoke(bound.physical, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+}